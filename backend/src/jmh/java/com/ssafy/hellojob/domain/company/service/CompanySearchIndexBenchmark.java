@@ -0,0 +1,104 @@
+package com.ssafy.hellojob.domain.company.service;
+
+import com.ssafy.hellojob.domain.company.dto.CompanyListDto;
+import com.ssafy.hellojob.domain.company.entity.Company;
+import com.ssafy.hellojob.domain.company.entity.CompanySize;
+import com.ssafy.hellojob.domain.company.repository.CompanyRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 기업명 검색: 메모리 n-gram/초성 인덱스 vs 전체 목록 contains 스캔 (LIKE '%검색어%' 와 같은 방식)
+//   gradle jmh -PjmhArgs="CompanySearchIndexBenchmark"
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompanySearchIndexBenchmark {
+
+    private static final int LIMIT = 8;
+    private static final String SYLLABLES = "삼성엘지현대기아카오네이버쿠팡전자화학건설제약바이오에너지금융보험증권통신";
+
+    @Param({"10000", "100000"})
+    private int companyCount;
+
+    @Param({"전자", "ㅅㅅ", "삼성전자"})
+    private String query;
+
+    private CompanySearchIndex index;
+    private List<String> names;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        List<Company> companies = new ArrayList<>(companyCount);
+        names = new ArrayList<>(companyCount);
+        LocalDateTime base = LocalDateTime.of(2026, 1, 1, 0, 0);
+        for (int id = 1; id <= companyCount; id++) {
+            String name = randomName(random);
+            companies.add(company(id, name, base.plusMinutes(id)));
+            names.add(CompanySearchIndex.normalize(name));
+        }
+
+        CompanyRepository companyRepository = mock(CompanyRepository.class);
+        when(companyRepository.findAllVisible()).thenReturn(companies);
+        index = new CompanySearchIndex(companyRepository, new SimpleMeterRegistry(), Long.MAX_VALUE);
+        index.load();
+    }
+
+    @Benchmark
+    public List<CompanyListDto> index() {
+        return index.search(query, LIMIT);
+    }
+
+    // 비교 기준: 최근 수정순 정렬 때문에 DB도 일치 행을 모두 찾아야 하므로 전체 기업명을 훑음 (초성 검색어는 일치 행 없음)
+    @Benchmark
+    public int linearScan() {
+        String normalized = CompanySearchIndex.normalize(query);
+        int matched = 0;
+        for (String name : names) {
+            if (name.contains(normalized)) matched++;
+        }
+        return matched;
+    }
+
+    private static String randomName(Random random) {
+        int length = 2 + random.nextInt(5);
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append(SYLLABLES.charAt(random.nextInt(SYLLABLES.length())));
+        }
+        return sb.toString();
+    }
+
+    private static Company company(int id, String name, LocalDateTime updatedAt) {
+        Company company = new Company();
+        ReflectionTestUtils.setField(company, "companyId", id);
+        ReflectionTestUtils.setField(company, "companyName", name);
+        ReflectionTestUtils.setField(company, "companySize", CompanySize.중소기업);
+        ReflectionTestUtils.setField(company, "companyVisible", true);
+        ReflectionTestUtils.setField(company, "updatedAt", updatedAt);
+        return company;
+    }
+}
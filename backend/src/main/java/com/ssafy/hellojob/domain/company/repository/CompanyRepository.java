@@ -7,8 +7,10 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public interface CompanyRepository extends JpaRepository<Company, Integer> {
@@ -32,4 +34,16 @@ public interface CompanyRepository extends JpaRepository<Company, Integer> {
 
     Optional<Company> findByCompanyId(@Param("companyId") Integer companyId);
 
+    // 검색 인덱스 초기 적재
+    @Query("SELECT c FROM Company c WHERE c.companyVisible IS TRUE")
+    List<Company> findAllVisible();
+
+    // 검색 인덱스 정리 (DB에서 삭제된 기업은 증분 조회에 잡히지 않으므로 id 목록과 대조)
+    @Query("SELECT c.companyId FROM Company c WHERE c.companyVisible IS TRUE")
+    Set<Integer> findAllVisibleIds();
+
+    // 검색 인덱스 증분 반영 (비공개 전환된 기업도 같이 가져와 인덱스에서 제거)
+    @Query("SELECT c FROM Company c WHERE c.updatedAt >= :since")
+    List<Company> findAllUpdatedSince(@Param("since") LocalDateTime since);
+
 }
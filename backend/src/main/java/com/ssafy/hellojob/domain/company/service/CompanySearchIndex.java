@@ -0,0 +1,321 @@
+package com.ssafy.hellojob.domain.company.service;
+
+import com.ssafy.hellojob.domain.company.dto.CompanyListDto;
+import com.ssafy.hellojob.domain.company.entity.Company;
+import com.ssafy.hellojob.domain.company.repository.CompanyRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// 기업명 검색용 메모리 인덱스 (LIKE '%검색어%' 풀스캔 대체)
+// - 기업명/검색 키워드의 1-gram, 2-gram → companyId 역색인으로 후보를 좁힌 뒤 실제 포함 여부 확인
+// - 초성 검색 지원: "ㅅㅅㅈㅈ", "삼ㅅ" 처럼 초성이 섞인 검색어는 초성 변환 문자열의 역색인으로 조회
+// - 기동 시 공개 기업 전체 적재, 이후 updated_at 기준으로 변경분만 주기적으로 반영
+// - 물리 삭제된 기업은 변경분 조회에 잡히지 않으므로 reconcile 주기마다 공개 기업 id 목록과 대조해 제거
+// - 정렬: 기업명 앞부분 일치 → 최근 수정순
+@Slf4j
+@Component
+public class CompanySearchIndex {
+
+    private static final String CHOSUNG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final char HANGUL_BEGIN = 0xAC00;
+    private static final char HANGUL_END = 0xD7A3;
+    private static final int SYLLABLES_PER_CHOSUNG = 21 * 28;
+
+    private record Doc(CompanyListDto dto, String name, String keyword, String nameChosung, String keywordChosung) {
+    }
+
+    private record Hit(Doc doc, boolean prefix) {
+    }
+
+    private static final Comparator<Hit> RANKING = Comparator
+            .comparing(Hit::prefix)
+            .thenComparing(hit -> hit.doc().dto().getUpdatedAt())
+            .thenComparing(hit -> hit.doc().dto().getId(), Comparator.reverseOrder());
+
+    private final CompanyRepository companyRepository;
+    private final Timer searchTimer;
+    private final long reconcileIntervalMillis;
+
+    private final Map<Integer, Doc> docs = new ConcurrentHashMap<>();
+    private final Map<String, Set<Integer>> textPostings = new ConcurrentHashMap<>();
+    private final Map<String, Set<Integer>> chosungPostings = new ConcurrentHashMap<>();
+    private volatile boolean ready = false;
+    private LocalDateTime watermark; // 스케줄러 스레드에서만 접근
+    private long lastReconciledAt; // 스케줄러 스레드에서만 접근
+
+    public CompanySearchIndex(CompanyRepository companyRepository, MeterRegistry meterRegistry,
+                              @Value("${company.search.reconcile-interval-ms:600000}") long reconcileIntervalMillis) {
+        this.companyRepository = companyRepository;
+        this.reconcileIntervalMillis = reconcileIntervalMillis;
+        this.searchTimer = Timer.builder("company.search.index")
+                .description("메모리 인덱스 기업 검색 시간")
+                .register(meterRegistry);
+        Gauge.builder("company.search.index.size", docs, Map::size).register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void load() {
+        long start = System.nanoTime();
+        try {
+            List<Company> companies = companyRepository.findAllVisible();
+            LocalDateTime latest = LocalDateTime.of(1970, 1, 1, 0, 0);
+            for (Company company : companies) {
+                upsert(company);
+                if (company.getUpdatedAt().isAfter(latest)) latest = company.getUpdatedAt();
+            }
+            watermark = latest;
+            lastReconciledAt = System.currentTimeMillis();
+            ready = true;
+            log.info("🔎 기업 검색 인덱스 적재 완료 - {}건, {}ms", companies.size(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (Exception e) {
+            // 적재 실패 시 DB 검색으로 동작, 다음 refresh 에서 다시 시도
+            log.error("❌ 기업 검색 인덱스 적재 실패 - DB 검색으로 대체", e);
+        }
+    }
+
+    // updated_at 이 바뀐 기업만 다시 반영 (같은 시각 재조회는 upsert 라 중복 무해)
+    @Scheduled(fixedDelayString = "${company.search.refresh-interval-ms:30000}")
+    public void refresh() {
+        if (!ready) {
+            load();
+            return;
+        }
+        try {
+            List<Company> changed = companyRepository.findAllUpdatedSince(watermark);
+            for (Company company : changed) {
+                if (company.isCompanyVisible()) {
+                    upsert(company);
+                } else {
+                    remove(company.getCompanyId());
+                }
+                if (company.getUpdatedAt().isAfter(watermark)) watermark = company.getUpdatedAt();
+            }
+            if (System.currentTimeMillis() - lastReconciledAt >= reconcileIntervalMillis) {
+                reconcile();
+            }
+        } catch (Exception e) {
+            log.warn("❌ 기업 검색 인덱스 갱신 실패 - 원인={}", e.getMessage());
+        }
+    }
+
+    // 인덱스에는 있지만 더 이상 공개 기업 목록에 없는 기업 제거 (물리 삭제 대응)
+    // refresh 와 같은 스레드에서 실행 → 대조 중에 새 기업이 인덱스에 추가되어 잘못 지워지는 일 없음
+    private void reconcile() {
+        Set<Integer> visibleIds = companyRepository.findAllVisibleIds();
+        int removed = 0;
+        for (Integer id : docs.keySet()) {
+            if (!visibleIds.contains(id)) {
+                remove(id);
+                removed++;
+            }
+        }
+        lastReconciledAt = System.currentTimeMillis();
+        if (removed > 0) {
+            log.info("🔎 기업 검색 인덱스 정리 - 삭제된 기업 {}건 제거", removed);
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public List<CompanyListDto> search(String query, int limit) {
+        long start = System.nanoTime();
+        try {
+            String normalized = normalize(query);
+            boolean chosungQuery = containsChosung(normalized);
+
+            PriorityQueue<Hit> top = new PriorityQueue<>(limit + 1, RANKING);
+            for (Integer id : candidates(normalized, chosungQuery)) {
+                Doc doc = docs.get(id);
+                if (doc == null) continue;
+
+                Hit hit;
+                if (chosungQuery) {
+                    if (!containsChosungAware(doc.name(), normalized) && !containsChosungAware(doc.keyword(), normalized)) continue;
+                    hit = new Hit(doc, matchesAt(doc.name(), normalized, 0));
+                } else {
+                    if (!doc.name().contains(normalized) && !doc.keyword().contains(normalized)) continue;
+                    hit = new Hit(doc, doc.name().startsWith(normalized));
+                }
+
+                top.add(hit);
+                if (top.size() > limit) top.poll(); // 순위가 가장 낮은 항목 제거
+            }
+
+            List<CompanyListDto> result = new ArrayList<>(top.size());
+            while (!top.isEmpty()) result.add(top.poll().doc().dto());
+            Collections.reverse(result);
+            return result;
+        } finally {
+            searchTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Iterable<Integer> candidates(String normalized, boolean chosungQuery) {
+        if (normalized.isEmpty()) return docs.keySet();
+
+        Map<String, Set<Integer>> postings = chosungQuery ? chosungPostings : textPostings;
+        List<Set<Integer>> lists = new ArrayList<>();
+        for (String gram : grams(chosungQuery ? toChosung(normalized) : normalized)) {
+            Set<Integer> posting = postings.get(gram);
+            if (posting == null) return List.of();
+            lists.add(posting);
+        }
+        if (lists.size() == 1) return lists.get(0);
+        lists.sort(Comparator.comparingInt(Set::size));
+
+        // 가장 짧은 목록 기준으로 교집합
+        Set<Integer> result = new HashSet<>();
+        outer:
+        for (Integer id : lists.get(0)) {
+            for (int i = 1; i < lists.size(); i++) {
+                if (!lists.get(i).contains(id)) continue outer;
+            }
+            result.add(id);
+        }
+        return result;
+    }
+
+    private void upsert(Company company) {
+        String name = normalize(company.getCompanyName());
+        String keyword = normalize(company.getSearchKeyword());
+        Doc doc = new Doc(
+                new CompanyListDto(company.getCompanyId(), company.getCompanyName(), company.getCompanyLocation(),
+                        company.getCompanySize(), company.getCompanyIndustry(), company.getUpdatedAt(), company.isDart()),
+                name, keyword, toChosung(name), toChosung(keyword));
+
+        // 새 색인을 먼저 추가한 뒤 이전 문서에만 있던 gram 제거 → 갱신 중에도 검색 누락 없음
+        Doc previous = docs.put(company.getCompanyId(), doc);
+        index(company.getCompanyId(), doc);
+        if (previous != null) unindex(company.getCompanyId(), previous);
+    }
+
+    private void remove(Integer companyId) {
+        Doc previous = docs.remove(companyId);
+        if (previous != null) unindex(companyId, previous);
+    }
+
+    private void index(Integer id, Doc doc) {
+        for (String gram : docGrams(doc.name(), doc.keyword())) {
+            textPostings.computeIfAbsent(gram, k -> ConcurrentHashMap.newKeySet()).add(id);
+        }
+        for (String gram : docGrams(doc.nameChosung(), doc.keywordChosung())) {
+            chosungPostings.computeIfAbsent(gram, k -> ConcurrentHashMap.newKeySet()).add(id);
+        }
+    }
+
+    private void unindex(Integer id, Doc doc) {
+        Doc current = docs.get(id);
+        Set<String> keepText = current == null ? Set.of() : docGrams(current.name(), current.keyword());
+        Set<String> keepChosung = current == null ? Set.of() : docGrams(current.nameChosung(), current.keywordChosung());
+        for (String gram : docGrams(doc.name(), doc.keyword())) {
+            if (keepText.contains(gram)) continue;
+            Set<Integer> posting = textPostings.get(gram);
+            if (posting != null) posting.remove(id);
+        }
+        for (String gram : docGrams(doc.nameChosung(), doc.keywordChosung())) {
+            if (keepChosung.contains(gram)) continue;
+            Set<Integer> posting = chosungPostings.get(gram);
+            if (posting != null) posting.remove(id);
+        }
+    }
+
+    // 문서 쪽은 1-gram + 2-gram 모두 색인 (한 글자 검색어도 처리)
+    private static Set<String> docGrams(String... texts) {
+        Set<String> grams = new HashSet<>();
+        for (String text : texts) {
+            for (int i = 0; i < text.length(); i++) {
+                grams.add(text.substring(i, i + 1));
+                if (i + 1 < text.length()) grams.add(text.substring(i, i + 2));
+            }
+        }
+        return grams;
+    }
+
+    // 검색어 쪽은 2-gram (한 글자면 1-gram)
+    private static Set<String> grams(String text) {
+        Set<String> grams = new LinkedHashSet<>();
+        if (text.length() == 1) {
+            grams.add(text);
+            return grams;
+        }
+        for (int i = 0; i + 1 < text.length(); i++) {
+            grams.add(text.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    // 대소문자/공백 무시 (DB LIKE 의 ci collation 과 동일하게 대소문자 구분 안 함)
+    static String normalize(String text) {
+        if (text == null) return "";
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!Character.isWhitespace(c)) sb.append(c);
+        }
+        return sb.toString().toLowerCase(Locale.ROOT);
+    }
+
+    // 한글 음절은 초성으로, 나머지 문자는 그대로
+    static String toChosung(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            sb.append(chosungOf(text.charAt(i)));
+        }
+        return sb.toString();
+    }
+
+    private static char chosungOf(char c) {
+        if (c < HANGUL_BEGIN || c > HANGUL_END) return c;
+        return CHOSUNG.charAt((c - HANGUL_BEGIN) / SYLLABLES_PER_CHOSUNG);
+    }
+
+    private static boolean containsChosung(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (CHOSUNG.indexOf(text.charAt(i)) >= 0) return true;
+        }
+        return false;
+    }
+
+    private static boolean containsChosungAware(String text, String query) {
+        for (int i = 0; i + query.length() <= text.length(); i++) {
+            if (matchesAt(text, query, i)) return true;
+        }
+        return false;
+    }
+
+    // 검색어의 초성 글자는 음절의 초성과, 나머지 글자는 그대로 비교
+    private static boolean matchesAt(String text, String query, int offset) {
+        if (offset + query.length() > text.length()) return false;
+        for (int j = 0; j < query.length(); j++) {
+            char q = query.charAt(j);
+            char t = text.charAt(offset + j);
+            if (q == t) continue;
+            if (CHOSUNG.indexOf(q) >= 0 && chosungOf(t) == q) continue;
+            return false;
+        }
+        return true;
+    }
+}
@@ -19,17 +19,25 @@ public class CompanyService {
     private final UserReadService userReadService;
     private final CompanyRepository companyRepository;
     private final CompanyReadService companyReadService;
+    private final CompanySearchIndex companySearchIndex;
+    private final RecentCompanyFeed recentCompanyFeed;
+
+    private static final int SEARCH_LIMIT = 8;
 
     public List<CompanyListDto> getAllCompany(){
-        return companyRepository.getAllCompany();
+        return recentCompanyFeed.get();
     }
 
+    // 메모리 인덱스로 검색, 인덱스 적재 전/실패 시에만 DB LIKE 검색
     public List<CompanyListDto> getCompanyByCompanyName(String companyName){
+        if (companySearchIndex.isReady()) {
+            return companySearchIndex.search(companyName, SEARCH_LIMIT);
+        }
         return companyRepository.getCompanyByCompanyName(companyName);
     }
 
     public CompanyDto getCompanyByCompanyId(Integer userId, Integer companyId){
-        userReadService.findUserByIdOrElseThrow(userId);
+        userReadService.validateUserExists(userId);
         Company company = companyReadService.findCompanyByIdOrElseThrow(companyId);
 
         return CompanyDto.builder()
@@ -0,0 +1,152 @@
+package com.ssafy.hellojob.domain.company.service;
+
+import com.ssafy.hellojob.domain.company.dto.CompanyListDto;
+import com.ssafy.hellojob.domain.company.repository.CompanyRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 최근 수정된 기업 목록(랜딩 화면) read-through 캐시
+// - 첫 요청만 DB 조회, 이후에는 메모리의 스냅샷 반환
+// - TTL 이 지난 스냅샷은 그대로 응답하면서 백그라운드에서 한 번만 다시 조회 (stale-while-revalidate)
+// - 기업 updated_at 이 바뀌면(커밋 후 이벤트) 스냅샷을 제자리에서 갱신
+@Slf4j
+@Component
+public class RecentCompanyFeed {
+
+    public static final int FEED_SIZE = 8;
+
+    private record Snapshot(List<CompanyListDto> items, long loadedAtNanos, boolean invalidated) {
+    }
+
+    private final CompanyRepository companyRepository;
+    private final TaskScheduler taskScheduler;
+    private final long ttlNanos;
+
+    private final Counter hitCounter;
+    private final Counter staleCounter;
+    private final Counter missCounter;
+    private final Counter refreshFailedCounter;
+    private final Timer loadTimer;
+
+    private volatile Snapshot snapshot;
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private final Object loadLock = new Object();
+    private long touchVersion = 0; // loadLock 으로 보호
+
+    public RecentCompanyFeed(CompanyRepository companyRepository,
+                             TaskScheduler taskScheduler,
+                             MeterRegistry meterRegistry,
+                             @Value("${company.recent-feed.ttl-ms:60000}") long ttlMillis) {
+        this.companyRepository = companyRepository;
+        this.taskScheduler = taskScheduler;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+
+        this.hitCounter = Counter.builder("company.recent-feed.requests").tag("result", "hit").register(meterRegistry);
+        this.staleCounter = Counter.builder("company.recent-feed.requests").tag("result", "stale").register(meterRegistry);
+        this.missCounter = Counter.builder("company.recent-feed.requests").tag("result", "miss").register(meterRegistry);
+        this.refreshFailedCounter = Counter.builder("company.recent-feed.refresh.failed").register(meterRegistry);
+        this.loadTimer = Timer.builder("company.recent-feed.load").register(meterRegistry);
+    }
+
+    public List<CompanyListDto> get() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            missCounter.increment();
+            return loadIfAbsent();
+        }
+        if (current.invalidated() || System.nanoTime() - current.loadedAtNanos() > ttlNanos) {
+            staleCounter.increment();
+            refreshAsync();
+        } else {
+            hitCounter.increment();
+        }
+        return current.items();
+    }
+
+    // 방금 수정된 기업을 맨 앞으로 (비공개면 목록에서 제거)
+    public void touch(CompanyListDto company, boolean visible) {
+        synchronized (loadLock) {
+            Snapshot current = snapshot;
+            if (current == null) return; // 아직 적재 전이면 첫 조회 때 DB에서 읽음
+
+            List<CompanyListDto> items = new ArrayList<>(FEED_SIZE + 1);
+            if (visible) items.add(company);
+            for (CompanyListDto item : current.items()) {
+                if (!item.getId().equals(company.getId())) items.add(item);
+            }
+            boolean shrunk = items.size() < FEED_SIZE && current.items().size() >= FEED_SIZE;
+            if (items.size() > FEED_SIZE) items = items.subList(0, FEED_SIZE);
+
+            // 목록이 줄어든 경우(비공개 전환)는 빈 자리를 채우도록 다음 조회 때 재조회
+            snapshot = new Snapshot(List.copyOf(items), current.loadedAtNanos(), current.invalidated() || shrunk);
+            touchVersion++;
+        }
+    }
+
+    // 동시에 들어온 첫 요청들은 한 번만 DB 조회
+    private List<CompanyListDto> loadIfAbsent() {
+        synchronized (loadLock) {
+            Snapshot current = snapshot;
+            if (current != null) return current.items();
+            current = new Snapshot(load(), System.nanoTime(), false);
+            snapshot = current;
+            return current.items();
+        }
+    }
+
+    private void refreshAsync() {
+        if (!refreshing.compareAndSet(false, true)) return; // 이미 갱신 중
+        try {
+            taskScheduler.schedule(this::refresh, Instant.now());
+        } catch (TaskRejectedException e) {
+            refreshing.set(false);
+            log.warn("❌ 최근 기업 목록 갱신 작업 거부 - 원인={}", e.getMessage());
+        }
+    }
+
+    private void refresh() {
+        try {
+            long versionAtStart;
+            synchronized (loadLock) {
+                versionAtStart = touchVersion;
+            }
+            List<CompanyListDto> items = load();
+            synchronized (loadLock) {
+                // 조회 도중 touch 가 반영됐다면 DB 결과가 더 오래된 것일 수 있으므로 덮어쓰지 않고 다음 조회 때 재시도
+                if (touchVersion != versionAtStart) {
+                    Snapshot current = snapshot;
+                    snapshot = new Snapshot(current.items(), current.loadedAtNanos(), true);
+                    return;
+                }
+                snapshot = new Snapshot(items, System.nanoTime(), false);
+            }
+        } catch (Exception e) {
+            // 실패해도 기존 스냅샷으로 계속 응답, 다음 요청에서 재시도
+            log.warn("❌ 최근 기업 목록 갱신 실패 - 원인={}", e.getMessage());
+            refreshFailedCounter.increment();
+        } finally {
+            refreshing.set(false);
+        }
+    }
+
+    private List<CompanyListDto> load() {
+        long start = System.nanoTime();
+        try {
+            return List.copyOf(companyRepository.getAllCompany());
+        } finally {
+            loadTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.ssafy.hellojob.domain.companyanalysis.dto.request.CompanyAnalysisBook
 import com.ssafy.hellojob.domain.companyanalysis.dto.request.CompanyAnalysisRequestDto;
 import com.ssafy.hellojob.domain.companyanalysis.dto.response.CompanyAnalysisBookmarkListResponseDto;
 import com.ssafy.hellojob.domain.companyanalysis.dto.response.CompanyAnalysisBookmarkSaveResponseDto;
+import com.ssafy.hellojob.domain.companyanalysis.dto.response.CompanyAnalysisCursorResponseDto;
 import com.ssafy.hellojob.domain.companyanalysis.dto.response.CompanyAnalysisDetailResponseDto;
 import com.ssafy.hellojob.domain.companyanalysis.dto.response.CompanyAnalysisListResponseDto;
 import com.ssafy.hellojob.domain.companyanalysis.service.CompanyAnalysisService;
@@ -25,7 +26,8 @@ public class CompanyAnalysisController {
 
     private final CompanyAnalysisService companyAnalysisService;
 
-    // 기업 분석 전체 목록 조회
+    // 기업 분석 전체 목록 조회 (deprecated - /all-analysis/page 사용, 최신 100건까지만 반환)
+    @Deprecated
     @GetMapping("/all-analysis")
     public List<CompanyAnalysisListResponseDto> companyAnalysisAll(@AuthenticationPrincipal UserPrincipal userPrincipal){
 
@@ -33,6 +35,14 @@ public class CompanyAnalysisController {
         return companyAnalysisService.searchAllCompanyAnalysis(userId);
     }
 
+    // 기업 분석 전체 목록 조회 (커서 페이지네이션)
+    @GetMapping("/all-analysis/page")
+    public CompanyAnalysisCursorResponseDto companyAnalysisPage(@RequestParam(value = "cursor", required = false) String cursor,
+                                                                @RequestParam(value = "size", defaultValue = "20") int size,
+                                                                @AuthenticationPrincipal UserPrincipal userPrincipal){
+        return companyAnalysisService.searchAllCompanyAnalysisPage(userPrincipal.getUserId(), cursor, size);
+    }
+
     // 기업 분석 상세 조회
     @GetMapping("/{companyAnalysisId}")
     public CompanyAnalysisDetailResponseDto companyAnalysisDetail(@PathVariable("companyAnalysisId") Integer companyAnalysisId,
@@ -0,0 +1,18 @@
+package com.ssafy.hellojob.domain.companyanalysis.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class CompanyAnalysisCursorResponseDto {
+
+    private List<CompanyAnalysisListResponseDto> content;
+    private String nextCursor; // 다음 페이지 요청 시 그대로 전달 (마지막 페이지면 null)
+    private boolean hasNext;
+
+}
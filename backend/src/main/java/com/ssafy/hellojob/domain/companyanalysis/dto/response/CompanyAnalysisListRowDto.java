@@ -0,0 +1,29 @@
+package com.ssafy.hellojob.domain.companyanalysis.dto.response;
+
+import com.ssafy.hellojob.domain.company.entity.CompanySize;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 기업 분석 목록 조회용 JPQL 프로젝션 (엔티티/연관관계를 로딩하지 않고 필요한 컬럼만 조회)
+@Getter
+@AllArgsConstructor
+public class CompanyAnalysisListRowDto {
+
+    private Integer companyAnalysisId;
+    private String companyAnalysisTitle;
+    private LocalDateTime createdAt;
+    private Integer companyViewCount;
+    private Integer companyAnalysisBookmarkCount;
+    private boolean isPublic;
+    private String companyName;
+    private String companyLocation;
+    private CompanySize companySize;
+    private String companyIndustry;
+    private Boolean dartBasic; // dart 분석이 없으면 null
+    private Boolean dartPlus;
+    private Boolean dartFinancialData;
+    private boolean hasSwot;
+
+}
@@ -13,7 +13,11 @@ import java.time.LocalDateTime;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "company_analysis")
+@Table(name = "company_analysis", indexes = {
+        // 목록 keyset 페이지네이션 (최신순)
+        @Index(name = "idx_company_analysis_public_created", columnList = "public, created_at, company_analysis_id"),
+        @Index(name = "idx_company_analysis_user_created", columnList = "user_id, created_at, company_analysis_id")
+})
 public class CompanyAnalysis {
 
 
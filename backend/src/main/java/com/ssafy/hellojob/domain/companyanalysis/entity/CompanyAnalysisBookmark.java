@@ -10,7 +10,9 @@ import lombok.NoArgsConstructor;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "company_analysis_bookmark")
+@Table(name = "company_analysis_bookmark", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_company_analysis_bookmark_user_analysis", columnNames = {"user_id", "company_analysis_id"})
+})
 public class CompanyAnalysisBookmark {
 
 
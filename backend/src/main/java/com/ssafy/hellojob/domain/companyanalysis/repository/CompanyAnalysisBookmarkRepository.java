@@ -4,10 +4,15 @@ import com.ssafy.hellojob.domain.companyanalysis.entity.CompanyAnalysis;
 import com.ssafy.hellojob.domain.companyanalysis.entity.CompanyAnalysisBookmark;
 import com.ssafy.hellojob.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public interface CompanyAnalysisBookmarkRepository extends JpaRepository<CompanyAnalysisBookmark, Integer> {
@@ -19,6 +24,42 @@ public interface CompanyAnalysisBookmarkRepository extends JpaRepository<Company
 
     List<CompanyAnalysisBookmark> findAllByUserAndCompanyAnalysis_Company_CompanyId(User user, Integer companyId);
 
+    // 목록 화면의 북마크 여부를 한 번에 조회
+    @Query("""
+            SELECT b.companyAnalysis.companyAnalysisId
+            FROM CompanyAnalysisBookmark b
+            WHERE b.user.userId = :userId
+              AND b.companyAnalysis.companyAnalysisId IN :companyAnalysisIds
+            """)
+    Set<Integer> findBookmarkedAnalysisIds(@Param("userId") Integer userId,
+                                           @Param("companyAnalysisIds") Collection<Integer> companyAnalysisIds);
 
+    @Query("""
+            SELECT b.companyAnalysisBookmarkId
+            FROM CompanyAnalysisBookmark b
+            WHERE b.user.userId = :userId
+              AND b.companyAnalysis.companyAnalysisId = :companyAnalysisId
+            """)
+    Optional<Integer> findBookmarkId(@Param("userId") Integer userId,
+                                     @Param("companyAnalysisId") Integer companyAnalysisId);
+
+    // (user_id, company_analysis_id) unique 제약 기반 insert-or-ignore
+    // 새로 추가되면 1, 이미 있으면 0 반환 → 따닥 요청에도 중복 행/중복 카운트 없음
+    @Modifying
+    @Query(value = """
+            INSERT IGNORE INTO company_analysis_bookmark (user_id, company_analysis_id)
+            VALUES (:userId, :companyAnalysisId)
+            """, nativeQuery = true)
+    int insertIgnore(@Param("userId") Integer userId, @Param("companyAnalysisId") Integer companyAnalysisId);
+
+    // 삭제된 행 수 반환 (없으면 0)
+    @Modifying
+    @Query("""
+            DELETE FROM CompanyAnalysisBookmark b
+            WHERE b.user.userId = :userId
+              AND b.companyAnalysis.companyAnalysisId = :companyAnalysisId
+            """)
+    int deleteByUserIdAndCompanyAnalysisId(@Param("userId") Integer userId,
+                                           @Param("companyAnalysisId") Integer companyAnalysisId);
 
 }
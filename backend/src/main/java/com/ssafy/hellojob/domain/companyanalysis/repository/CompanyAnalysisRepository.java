@@ -1,9 +1,15 @@
 package com.ssafy.hellojob.domain.companyanalysis.repository;
 
+import com.ssafy.hellojob.domain.companyanalysis.dto.response.CompanyAnalysisListRowDto;
 import com.ssafy.hellojob.domain.companyanalysis.entity.CompanyAnalysis;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -14,5 +20,59 @@ public interface CompanyAnalysisRepository extends JpaRepository<CompanyAnalysis
     // 최근 14개 반환
     List<CompanyAnalysis> findTop14ByCompany_CompanyIdOrderByCreatedAtDesc(Integer companyId);
 
+    // 공개 분석 목록 (최신순, keyset 페이지네이션)
+    // - idx_company_analysis_public_created 의 (public = true) 구간을 cursor 위치부터 역순으로 읽음
+    // - 첫 페이지는 최대값 cursor 를 넘김 (IS NULL 분기가 있으면 range 스캔이 안 됨), 개수 제한은 pageable로 (offset은 항상 0)
+    @Query("""
+            SELECT new com.ssafy.hellojob.domain.companyanalysis.dto.response.CompanyAnalysisListRowDto(
+                ca.companyAnalysisId, ca.companyAnalysisTitle, ca.createdAt, ca.companyAnalysisViewCount,
+                ca.companyAnalysisBookmarkCount, ca.isPublic,
+                c.companyName, c.companyLocation, c.companySize, c.companyIndustry,
+                d.dartCompanyAnalysisBasic, d.dartCompanyAnalysisPlus, d.dartCompanyAnalysisFinancialData,
+                CASE WHEN s.swotSummary IS NOT NULL AND s.swotSummary <> '' THEN true ELSE false END)
+            FROM CompanyAnalysis ca
+            JOIN ca.company c
+            LEFT JOIN ca.dartAnalysis d
+            LEFT JOIN ca.swotAnalysis s
+            WHERE ca.isPublic = true
+              AND ca.createdAt <= :cursorCreatedAt
+              AND (ca.createdAt < :cursorCreatedAt OR ca.companyAnalysisId < :cursorId)
+            ORDER BY ca.createdAt DESC, ca.companyAnalysisId DESC
+            """)
+    List<CompanyAnalysisListRowDto> findPublicListRows(@Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                                       @Param("cursorId") Integer cursorId,
+                                                       Pageable pageable);
+
+    // 본인이 작성한 분석 목록 (최신순, keyset 페이지네이션)
+    // - idx_company_analysis_user_created 의 (user_id = :userId) 구간을 cursor 위치부터 역순으로 읽음
+    @Query("""
+            SELECT new com.ssafy.hellojob.domain.companyanalysis.dto.response.CompanyAnalysisListRowDto(
+                ca.companyAnalysisId, ca.companyAnalysisTitle, ca.createdAt, ca.companyAnalysisViewCount,
+                ca.companyAnalysisBookmarkCount, ca.isPublic,
+                c.companyName, c.companyLocation, c.companySize, c.companyIndustry,
+                d.dartCompanyAnalysisBasic, d.dartCompanyAnalysisPlus, d.dartCompanyAnalysisFinancialData,
+                CASE WHEN s.swotSummary IS NOT NULL AND s.swotSummary <> '' THEN true ELSE false END)
+            FROM CompanyAnalysis ca
+            JOIN ca.company c
+            LEFT JOIN ca.dartAnalysis d
+            LEFT JOIN ca.swotAnalysis s
+            WHERE ca.user.userId = :userId
+              AND ca.createdAt <= :cursorCreatedAt
+              AND (ca.createdAt < :cursorCreatedAt OR ca.companyAnalysisId < :cursorId)
+            ORDER BY ca.createdAt DESC, ca.companyAnalysisId DESC
+            """)
+    List<CompanyAnalysisListRowDto> findOwnListRows(@Param("userId") Integer userId,
+                                                    @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                                    @Param("cursorId") Integer cursorId,
+                                                    Pageable pageable);
+
+    // 북마크 수 증감 (read-modify-write 없이 한 문장으로 원자적으로 반영)
+    @Modifying
+    @Query("""
+            UPDATE CompanyAnalysis ca
+            SET ca.companyAnalysisBookmarkCount = ca.companyAnalysisBookmarkCount + :delta
+            WHERE ca.companyAnalysisId = :companyAnalysisId
+            """)
+    int addBookmarkCount(@Param("companyAnalysisId") Integer companyAnalysisId, @Param("delta") int delta);
 
 }
@@ -0,0 +1,35 @@
+package com.ssafy.hellojob.domain.companyanalysis.service;
+
+import com.ssafy.hellojob.global.exception.BaseException;
+import com.ssafy.hellojob.global.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+// 기업 분석 목록 keyset 커서 (마지막 행의 createdAt + id)
+// 클라이언트에는 "{createdAt}|{id}"를 URL-safe Base64로 인코딩해서 전달
+record CompanyAnalysisCursor(LocalDateTime createdAt, Integer companyAnalysisId) {
+
+    // 첫 페이지는 어떤 행보다도 뒤에 있는 cursor 로 조회 (쿼리에 IS NULL 분기를 두지 않기 위함, MySQL DATETIME 최대값)
+    static final CompanyAnalysisCursor FIRST_PAGE =
+            new CompanyAnalysisCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Integer.MAX_VALUE);
+
+    static CompanyAnalysisCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) return FIRST_PAGE;
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.lastIndexOf('|');
+            return new CompanyAnalysisCursor(
+                    LocalDateTime.parse(decoded.substring(0, separator)),
+                    Integer.valueOf(decoded.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new BaseException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    String encode() {
+        String raw = createdAt + "|" + companyAnalysisId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
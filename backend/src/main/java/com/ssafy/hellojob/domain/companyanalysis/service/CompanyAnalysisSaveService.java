@@ -2,6 +2,7 @@ package com.ssafy.hellojob.domain.companyanalysis.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.hellojob.domain.company.dto.CompanyListDto;
 import com.ssafy.hellojob.domain.company.entity.Company;
 import com.ssafy.hellojob.domain.company.repository.CompanyRepository;
 import com.ssafy.hellojob.domain.companyanalysis.dto.request.CompanyAnalysisRequestDto;
@@ -16,10 +17,12 @@ import com.ssafy.hellojob.domain.companyanalysis.repository.DartAnalysisReposito
 import com.ssafy.hellojob.domain.companyanalysis.repository.NewsAnalysisRepository;
 import com.ssafy.hellojob.domain.companyanalysis.repository.SwotAnalysisRepository;
 import com.ssafy.hellojob.domain.user.entity.User;
+import com.ssafy.hellojob.global.common.commitevent.entity.CompanyUpdatedEvent;
 import com.ssafy.hellojob.global.exception.BaseException;
 import com.ssafy.hellojob.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -36,6 +39,7 @@ public class CompanyAnalysisSaveService {
     private final SwotAnalysisRepository swotAnalysisRepository;
     private final CompanyAnalysisRepository companyAnalysisRepository;
     private final CompanyRepository companyRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     @Transactional
     public CompanyAnalysisSseResponseDto saveCompanyAnalysis(
@@ -161,6 +165,12 @@ public class CompanyAnalysisSaveService {
         company.setUpdatedAt(LocalDateTime.now());
         companyRepository.save(company);
 
+        // 커밋 후 최근 기업 목록 캐시 갱신
+        applicationEventPublisher.publishEvent(new CompanyUpdatedEvent(
+                new CompanyListDto(company.getCompanyId(), company.getCompanyName(), company.getCompanyLocation(),
+                        company.getCompanySize(), company.getCompanyIndustry(), company.getUpdatedAt(), company.isDart()),
+                company.isCompanyVisible()));
+
         return CompanyAnalysisSseResponseDto.builder()
                 .companyAnalysisId(companyAnalysis.getCompanyAnalysisId())
                 .companyId(companyAnalysis.getCompany().getCompanyId())
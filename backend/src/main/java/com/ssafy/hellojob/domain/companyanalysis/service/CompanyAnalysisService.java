@@ -13,26 +13,39 @@ import com.ssafy.hellojob.domain.companyanalysis.repository.CompanyAnalysisBookm
 import com.ssafy.hellojob.domain.companyanalysis.repository.CompanyAnalysisRepository;
 import com.ssafy.hellojob.domain.sse.service.SSEService;
 import com.ssafy.hellojob.domain.user.entity.User;
-import com.ssafy.hellojob.domain.user.repository.UserRepository;
+import com.ssafy.hellojob.domain.user.service.TokenQuotaService;
 import com.ssafy.hellojob.domain.user.service.UserReadService;
 import com.ssafy.hellojob.global.common.client.FastApiClientService;
+import com.ssafy.hellojob.global.common.viewcount.ViewCountService;
+import com.ssafy.hellojob.global.common.viewcount.ViewCountTarget;
 import com.ssafy.hellojob.global.exception.BaseException;
 import com.ssafy.hellojob.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.CompletableFuture;
+import java.util.Set;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class CompanyAnalysisService {
 
+    private static final int MAX_PAGE_SIZE = 50;
+    // 페이지 API 이전 전 목록 API(deprecated)는 최신 N건까지만 반환
+    private static final int LEGACY_LIST_LIMIT = 100;
+    private static final Comparator<CompanyAnalysisListRowDto> NEWEST_FIRST = Comparator
+            .comparing(CompanyAnalysisListRowDto::getCreatedAt, Comparator.reverseOrder())
+            .thenComparing(CompanyAnalysisListRowDto::getCompanyAnalysisId, Comparator.reverseOrder());
+
     private final CompanyAnalysisRepository companyAnalysisRepository;
     private final CompanyAnalysisBookmarkRepository companyAnalysisBookmarkRepository;
     private final UserReadService userReadService;
@@ -40,19 +53,11 @@ public class CompanyAnalysisService {
     private final SSEService sseService;
     private final CompanyReadService companyReadService;
     private final CompanyAnalysisReadService companyAnalysisReadService;
-    private final UserRepository userRepository;
+    private final TokenQuotaService tokenQuotaService;
     private final CompanyAnalysisSaveService companyAnalysisSaveService;
-
-    // 토큰 확인
-    public boolean tokenCheck(Integer userId) {
-        User user = userReadService.findUserByIdOrElseThrow(userId);
-
-        if (user.getToken() <= 0) {
-            throw new BaseException(ErrorCode.REQUEST_TOKEN_LIMIT_EXCEEDED);
-        }
-
-        return true;
-    }
+    private final ViewCountService viewCountService;
+    @Qualifier("fastApiCallbackExecutor")
+    private final ThreadPoolTaskExecutor fastApiCallbackExecutor;
 
     // 기업 분석 저장
     @Transactional
@@ -60,10 +65,6 @@ public class CompanyAnalysisService {
 
         User user = userReadService.findUserByIdOrElseThrow(userId);
 
-        // 유저 토큰 확인
-        this.tokenCheck(userId);
-        user.decreaseToken();
-
         // 회사 이름 가져오기
         Company company = companyReadService.findCompanyByIdOrElseThrow(requestDto.getCompanyId());
 
@@ -90,8 +91,11 @@ public class CompanyAnalysisService {
         log.debug("isFinancial: {}", requestDto.isFinancial());
         log.debug("isSwot: {}", requestDto.isSwot());
 
+        // 유저 토큰 차감 (남은 토큰이 없으면 예외) - 실패 시 환불할 수 있도록 요청 직전에 차감
+        String tokenRequestId = tokenQuotaService.charge(userId);
+
         // FastAPI 호출
-        requestCompanyAnalysisAsync(user, company, requestDto, fastApiRequestDto);
+        requestCompanyAnalysisAsync(user, company, requestDto, fastApiRequestDto, tokenRequestId);
 
         return Map.of("message", "기업 분석이 요청되었습니다.");
     }
@@ -101,21 +105,21 @@ public class CompanyAnalysisService {
             User user,
             Company company,
             CompanyAnalysisRequestDto requestDto,
-            CompanyAnalysisFastApiRequestDto fastApiRequestDto) {
+            CompanyAnalysisFastApiRequestDto fastApiRequestDto,
+            String tokenRequestId) {
 
         log.debug("🚀 기업 분석 요청 시작 - userId={}, companyId={}", user.getUserId(), company.getCompanyId());
 
-        CompletableFuture
-                .supplyAsync(() -> {
-                    log.debug("📡 FastAPI 요청 전송...");
-                    return fastApiClientService.sendJobAnalysisToFastApi(fastApiRequestDto);
-                })
-                .thenApply(fastApiResponseDto -> {
+        // 응답을 기다리는 동안 스레드를 점유하지 않음 (저장은 Netty 스레드가 아닌 별도 스레드에서)
+        log.debug("📡 FastAPI 요청 전송...");
+        fastApiClientService.sendJobAnalysisToFastApiAsync(fastApiRequestDto)
+                .toFuture()
+                .thenApplyAsync(fastApiResponseDto -> {
                     log.debug("📦 FastAPI 응답 수신 성공: {}", fastApiResponseDto);
                     CompanyAnalysisSseResponseDto responseDto = companyAnalysisSaveService.saveCompanyAnalysis(user, company, fastApiResponseDto, requestDto);
                     log.debug("💾 기업 분석 결과 저장 성공");
                     return responseDto;
-                })
+                }, fastApiCallbackExecutor)
                 .thenAccept(data -> {
                     log.debug("기업 분석 완료됨. sse 송신 시도");
                     sseService.sendToUser(user.getUserId(), "company-analysis-completed", data);
@@ -124,91 +128,141 @@ public class CompanyAnalysisService {
                 .exceptionally(e -> {
                     log.error("❌ 기업 분석 실패", e);
                     sseService.sendToUser(user.getUserId(), "company-analysis-failed", Map.of("companyId", company.getCompanyId()));
-                    user.increaseToken(1);
-                    userRepository.save(user);
+                    tokenQuotaService.refund(tokenRequestId);
                     return null;
                 });
     }
 
-    // 기업 분석 목록 전체 조회
+    // 기업 분석 목록 전체 조회 (deprecated - /all-analysis/page 사용, 최신 LEGACY_LIST_LIMIT건까지만 반환)
     public List<CompanyAnalysisListResponseDto> searchAllCompanyAnalysis(Integer userId) {
-        List<CompanyAnalysis> analysisList = companyAnalysisRepository.findAll();
+        return toListResponse(userId, findVisibleListRows(userId, CompanyAnalysisCursor.FIRST_PAGE, LEGACY_LIST_LIMIT));
+    }
 
-        return analysisList.stream()
-                .filter(analysis ->
-                        analysis.isPublic() || analysis.getUser().getUserId().equals(userId)) // 공개된 기업 분석만 조회
-                .map(analysis -> {
-                    DartAnalysis dart = analysis.getDartAnalysis();
-                    List<String> dartCategory = new ArrayList<>();
-                    if (dart != null) {
-                        if (dart.isDartCompanyAnalysisBasic()) dartCategory.add("사업보고서 기본");
-                        if (dart.isDartCompanyAnalysisPlus()) dartCategory.add("사업보고서 상세");
-                        if (dart.isDartCompanyAnalysisFinancialData()) dartCategory.add("재무 정보");
-                        if (analysis.getSwotAnalysis() != null && !analysis.getSwotAnalysis().getSwotSummary().equals("") && analysis.getSwotAnalysis().getSwotSummary() != null)
-                            dartCategory.add("SWOT");
-                    }
+    // 해당 유저가 작성한 기업 분석 목록 조회 (deprecated - /company-analysis/page 사용, 최신 LEGACY_LIST_LIMIT건까지만 반환)
+    public List<CompanyAnalysisListResponseDto> searchCompanyAnalysisByUserId(Integer userId) {
+        CompanyAnalysisCursor first = CompanyAnalysisCursor.FIRST_PAGE;
+        return toListResponse(userId, companyAnalysisRepository.findOwnListRows(
+                userId, first.createdAt(), first.companyAnalysisId(), PageRequest.of(0, LEGACY_LIST_LIMIT)));
+    }
 
-                    return CompanyAnalysisListResponseDto.builder()
-                            .companyAnalysisTitle(analysis.getCompanyAnalysisTitle())
-                            .companyAnalysisId(analysis.getCompanyAnalysisId())
-                            .companyName(analysis.getCompany().getCompanyName())
-                            .createdAt(analysis.getCreatedAt())
-                            .companyViewCount(analysis.getCompanyAnalysisViewCount())
-                            .companyLocation(analysis.getCompany().getCompanyLocation())
-                            .companySize(analysis.getCompany().getCompanySize().name())
-                            .companyIndustry(analysis.getCompany().getCompanyIndustry())
-                            .companyAnalysisBookmarkCount(analysis.getCompanyAnalysisBookmarkCount())
-                            .bookmark(companyAnalysisBookmarkRepository.existsByUser_UserIdAndCompanyAnalysis_CompanyAnalysisId(
-                                    userId, analysis.getCompanyAnalysisId()))
-                            .isPublic(analysis.isPublic())
-                            .dartCategory(dartCategory)
-                            .build();
-                })
-                .toList();
+    // 기업 분석 전체 목록 조회 (커서 페이지네이션)
+    public CompanyAnalysisCursorResponseDto searchAllCompanyAnalysisPage(Integer userId, String cursor, int size) {
+        int pageSize = clampPageSize(size);
+        List<CompanyAnalysisListRowDto> rows = findVisibleListRows(userId, CompanyAnalysisCursor.decode(cursor), pageSize + 1);
+        return toCursorResponse(userId, rows, pageSize);
     }
 
-    // 해당 유저가 작성한 기업 분석 목록 조회
-    public List<CompanyAnalysisListResponseDto> searchCompanyAnalysisByUserId(Integer userId) {
-        List<CompanyAnalysis> analysisList = companyAnalysisRepository.findAll();
+    // 공개 분석 + 본인 분석 중 cursor 이후 최신 limit건
+    // - (public OR 본인) 조건은 인덱스 range 스캔이 안 되므로 공개 구간 / 본인 구간을 각각 limit건씩 읽어서 병합
+    // - 두 목록 모두 (createdAt, id) 내림차순이라 앞에서부터 비교하며 합치고, 본인 공개 분석은 양쪽에 나오므로 한 번만 담음
+    private List<CompanyAnalysisListRowDto> findVisibleListRows(Integer userId, CompanyAnalysisCursor cursor, int limit) {
+        PageRequest pageRequest = PageRequest.of(0, limit);
+        List<CompanyAnalysisListRowDto> publicRows = companyAnalysisRepository.findPublicListRows(
+                cursor.createdAt(), cursor.companyAnalysisId(), pageRequest);
+        List<CompanyAnalysisListRowDto> ownRows = companyAnalysisRepository.findOwnListRows(
+                userId, cursor.createdAt(), cursor.companyAnalysisId(), pageRequest);
+
+        List<CompanyAnalysisListRowDto> merged = new ArrayList<>(limit);
+        int i = 0;
+        int j = 0;
+        while (merged.size() < limit && (i < publicRows.size() || j < ownRows.size())) {
+            if (j >= ownRows.size()) {
+                merged.add(publicRows.get(i++));
+                continue;
+            }
+            if (i >= publicRows.size()) {
+                merged.add(ownRows.get(j++));
+                continue;
+            }
 
-        return analysisList.stream()
-                .filter(analysis -> analysis.getUser().getUserId().equals(userId))
-                .map(analysis -> {
-                    DartAnalysis dart = analysis.getDartAnalysis();
-                    List<String> dartCategory = new ArrayList<>();
-                    if (dart != null) {
-                        if (dart.isDartCompanyAnalysisBasic()) dartCategory.add("사업보고서 기본");
-                        if (dart.isDartCompanyAnalysisPlus()) dartCategory.add("사업보고서 상세");
-                        if (dart.isDartCompanyAnalysisFinancialData()) dartCategory.add("재무 정보");
-                        if (analysis.getSwotAnalysis() != null && !analysis.getSwotAnalysis().getSwotSummary().equals("") && analysis.getSwotAnalysis().getSwotSummary() != null)
-                            dartCategory.add("SWOT");
-                    }
+            CompanyAnalysisListRowDto p = publicRows.get(i);
+            CompanyAnalysisListRowDto o = ownRows.get(j);
+            int compare = NEWEST_FIRST.compare(p, o);
+            if (compare == 0) {
+                merged.add(p);
+                i++;
+                j++;
+            } else if (compare < 0) {
+                merged.add(publicRows.get(i++));
+            } else {
+                merged.add(ownRows.get(j++));
+            }
+        }
+        return merged;
+    }
 
-                    return CompanyAnalysisListResponseDto.builder()
-                            .companyAnalysisTitle(analysis.getCompanyAnalysisTitle())
-                            .companyAnalysisId(analysis.getCompanyAnalysisId())
-                            .companyName(analysis.getCompany().getCompanyName())
-                            .createdAt(analysis.getCreatedAt())
-                            .companyViewCount(analysis.getCompanyAnalysisViewCount())
-                            .companyLocation(analysis.getCompany().getCompanyLocation())
-                            .companySize(analysis.getCompany().getCompanySize().name())
-                            .companyIndustry(analysis.getCompany().getCompanyIndustry())
-                            .companyAnalysisBookmarkCount(analysis.getCompanyAnalysisBookmarkCount())
-                            .bookmark(companyAnalysisBookmarkRepository.existsByUser_UserIdAndCompanyAnalysis_CompanyAnalysisId(
-                                    userId, analysis.getCompanyAnalysisId()))
-                            .isPublic(analysis.isPublic())
-                            .dartCategory(dartCategory)
-                            .build();
-                })
+    // 해당 유저가 작성한 기업 분석 목록 조회 (커서 페이지네이션)
+    public CompanyAnalysisCursorResponseDto searchCompanyAnalysisPageByUserId(Integer userId, String cursor, int size) {
+        CompanyAnalysisCursor decoded = CompanyAnalysisCursor.decode(cursor);
+        int pageSize = clampPageSize(size);
+        List<CompanyAnalysisListRowDto> rows = companyAnalysisRepository.findOwnListRows(
+                userId, decoded.createdAt(), decoded.companyAnalysisId(), PageRequest.of(0, pageSize + 1));
+        return toCursorResponse(userId, rows, pageSize);
+    }
+
+    // 한 건 더 조회해서 다음 페이지 존재 여부 판단
+    private CompanyAnalysisCursorResponseDto toCursorResponse(Integer userId, List<CompanyAnalysisListRowDto> rows, int pageSize) {
+        boolean hasNext = rows.size() > pageSize;
+        List<CompanyAnalysisListRowDto> page = hasNext ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            CompanyAnalysisListRowDto last = page.get(page.size() - 1);
+            nextCursor = new CompanyAnalysisCursor(last.getCreatedAt(), last.getCompanyAnalysisId()).encode();
+        }
+
+        return CompanyAnalysisCursorResponseDto.builder()
+                .content(toListResponse(userId, page))
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    // 북마크 여부는 목록 전체에 대해 한 번의 IN 쿼리로 조회
+    private List<CompanyAnalysisListResponseDto> toListResponse(Integer userId, List<CompanyAnalysisListRowDto> rows) {
+        if (rows.isEmpty()) return List.of();
+
+        List<Integer> ids = rows.stream().map(CompanyAnalysisListRowDto::getCompanyAnalysisId).toList();
+        Set<Integer> bookmarkedIds = companyAnalysisBookmarkRepository.findBookmarkedAnalysisIds(userId, ids);
+
+        return rows.stream()
+                .map(row -> CompanyAnalysisListResponseDto.builder()
+                        .companyAnalysisTitle(row.getCompanyAnalysisTitle())
+                        .companyAnalysisId(row.getCompanyAnalysisId())
+                        .companyName(row.getCompanyName())
+                        .createdAt(row.getCreatedAt())
+                        .companyViewCount(row.getCompanyViewCount())
+                        .companyLocation(row.getCompanyLocation())
+                        .companySize(row.getCompanySize().name())
+                        .companyIndustry(row.getCompanyIndustry())
+                        .companyAnalysisBookmarkCount(row.getCompanyAnalysisBookmarkCount())
+                        .bookmark(bookmarkedIds.contains(row.getCompanyAnalysisId()))
+                        .isPublic(row.isPublic())
+                        .dartCategory(dartCategory(row))
+                        .build())
                 .toList();
     }
 
+    private List<String> dartCategory(CompanyAnalysisListRowDto row) {
+        List<String> dartCategory = new ArrayList<>();
+        if (row.getDartBasic() == null) return dartCategory; // dart 분석 없음
+        if (row.getDartBasic()) dartCategory.add("사업보고서 기본");
+        if (Boolean.TRUE.equals(row.getDartPlus())) dartCategory.add("사업보고서 상세");
+        if (Boolean.TRUE.equals(row.getDartFinancialData())) dartCategory.add("재무 정보");
+        if (row.isHasSwot()) dartCategory.add("SWOT");
+        return dartCategory;
+    }
+
+    private int clampPageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+
     // 기업 분석 상세 조회
-    @Transactional
+    @Transactional(readOnly = true)
     public CompanyAnalysisDetailResponseDto detailCompanyAnalysis(Integer userId, Integer companyAnalysisId) {
 
         // 유저 조회
-        userReadService.findUserByIdOrElseThrow(userId);
+        userReadService.validateUserExists(userId);
 
         // 기업 분석 데이터 조회
         CompanyAnalysis companyAnalysis = companyAnalysisReadService.findCompanyAnalysisByIdOrElseThrow(companyAnalysisId);
@@ -218,9 +272,10 @@ public class CompanyAnalysisService {
             throw new BaseException(ErrorCode.INVALID_USER);
         }
 
-        // 조회수 증가
-        companyAnalysis.setCompanyAnalysisViewCount(companyAnalysis.getCompanyAnalysisViewCount() + 1);
-        companyAnalysisRepository.save(companyAnalysis);
+        // 조회수 증가 (메모리에 모았다가 주기적으로 DB 반영)
+        viewCountService.increment(ViewCountTarget.COMPANY_ANALYSIS, companyAnalysisId);
+        long viewCount = companyAnalysis.getCompanyAnalysisViewCount()
+                + viewCountService.pendingCount(ViewCountTarget.COMPANY_ANALYSIS, companyAnalysisId);
 
         // 즐겨찾기 여부 필터링
         boolean isBookmarked = companyAnalysisBookmarkRepository.existsByUser_UserIdAndCompanyAnalysis_CompanyAnalysisId(userId, companyAnalysisId);
@@ -299,7 +354,7 @@ public class CompanyAnalysisService {
                 .companyName(companyAnalysis.getCompany().getCompanyName())
                 .userPrompt(companyAnalysis.getUserPrompt())
                 .createdAt(companyAnalysis.getCreatedAt())
-                .companyViewCount(companyAnalysis.getCompanyAnalysisViewCount())
+                .companyViewCount((int) viewCount)
                 .companyLocation(companyAnalysis.getCompany().getCompanyLocation())
                 .companySize(companyAnalysis.getCompany().getCompanySize().name())
                 .companyIndustry(companyAnalysis.getCompany().getCompanyIndustry())
@@ -330,12 +385,17 @@ public class CompanyAnalysisService {
     public List<CompanyAnalysisListResponseDto> searchByCompanyIdCompanyAnalysis(Integer companyId, Integer userId) {
 
         // 유저, 회사 존재 여부 확인
-        userReadService.findUserByIdOrElseThrow(userId);
+        userReadService.validateUserExists(userId);
         companyReadService.findCompanyByIdOrElseThrow(companyId);
 
         // 해당 기업의 기업 분석 전체 조회
         List<CompanyAnalysis> analysisList = companyAnalysisRepository.findTop14ByCompany_CompanyIdOrderByCreatedAtDesc(companyId);
 
+        // 북마크 여부는 조회된 분석 id에 대해서만 한 번에 조회
+        Set<Integer> bookmarkedIds = analysisList.isEmpty() ? Set.of()
+                : companyAnalysisBookmarkRepository.findBookmarkedAnalysisIds(userId,
+                        analysisList.stream().map(CompanyAnalysis::getCompanyAnalysisId).toList());
+
         log.debug("기업 분석 목록 조회");
         log.debug("검색된 기업 분석 갯수: {}", analysisList.size());
 
@@ -365,8 +425,7 @@ public class CompanyAnalysisService {
                             .companySize(analysis.getCompany().getCompanySize().name())
                             .companyIndustry(analysis.getCompany().getCompanyIndustry())
                             .companyAnalysisBookmarkCount(analysis.getCompanyAnalysisBookmarkCount())
-                            .bookmark(companyAnalysisBookmarkRepository
-                                    .existsByUser_UserIdAndCompanyAnalysis_CompanyAnalysisId(userId, analysis.getCompanyAnalysisId()))
+                            .bookmark(bookmarkedIds.contains(analysis.getCompanyAnalysisId()))
                             .isPublic(analysis.isPublic())
                             .dartCategory(dartCategory)
                             .build();
@@ -376,72 +435,38 @@ public class CompanyAnalysisService {
 
 
     // 기업 분석 북마크 추가
+    // unique 제약 기반 insert-or-ignore → 새로 추가된 경우에만 북마크 수 +1 (중복 요청은 기존 정보 반환)
     @Transactional
     public CompanyAnalysisBookmarkSaveResponseDto addCompanyAnalysisBookmark(Integer userId, CompanyAnalysisBookmarkSaveRequestDto requestDto) {
 
-        // 기업 분석 데이터 조회
-        CompanyAnalysis companyAnalysis = companyAnalysisReadService.findCompanyAnalysisByIdOrElseThrow(requestDto.getCompanyAnalysisId());
+        Integer companyAnalysisId = requestDto.getCompanyAnalysisId();
 
-        // 유저 조회
-        User user = userReadService.findUserByIdOrElseThrow(userId);
-
-        // 이미 북마크 되어 있는지 여부 확인
-        boolean alreadyBookmarked = companyAnalysisBookmarkRepository.existsByUser_UserIdAndCompanyAnalysis_CompanyAnalysisId(userId, companyAnalysis.getCompanyAnalysisId());
-
-        // 이미 되어 있으면 기존에 저장되어 있던 정보 반환(에러 처리x)
-        if (alreadyBookmarked) {
-            CompanyAnalysisBookmark existingBookmark = companyAnalysisBookmarkRepository.findByUserAndCompanyAnalysis(user, companyAnalysis)
-                    .orElseThrow(() -> new BaseException(ErrorCode.COMPANY_ANALYSIS_ALREADY_BOOKMARK));
-            return CompanyAnalysisBookmarkSaveResponseDto.builder()
-                    .companyAnalysisBookmarkId(existingBookmark.getCompanyAnalysisBookmarkId())
-                    .companyAnalysisId(companyAnalysis.getCompanyAnalysisId())
-                    .build();
+        // 기업 분석 존재 여부 확인
+        if (!companyAnalysisRepository.existsById(companyAnalysisId)) {
+            throw new BaseException(ErrorCode.COMPANY_ANALYSIS_NOT_FOUND);
         }
 
-        // 새 북마크 저장 객체 생성
-        CompanyAnalysisBookmark newBookmark = CompanyAnalysisBookmark.builder()
-                .user(user)
-                .companyAnalysis(companyAnalysis)
-                .build();
-
-        // 북마크 정보 저장
-        companyAnalysisBookmarkRepository.save(newBookmark);
+        if (companyAnalysisBookmarkRepository.insertIgnore(userId, companyAnalysisId) == 1) {
+            companyAnalysisRepository.addBookmarkCount(companyAnalysisId, 1);
+        }
 
-        // 기업 분석 테이블 북마크 수 +1
-        companyAnalysis.setCompanyAnalysisBookmarkCount(companyAnalysis.getCompanyAnalysisBookmarkCount() + 1);
-        companyAnalysisRepository.save(companyAnalysis);
+        Integer bookmarkId = companyAnalysisBookmarkRepository.findBookmarkId(userId, companyAnalysisId)
+                .orElseThrow(() -> new BaseException(ErrorCode.COMPANY_ANALYSIS_BOOKMARK_NOT_FOUND));
 
         return CompanyAnalysisBookmarkSaveResponseDto.builder()
-                .companyAnalysisBookmarkId(newBookmark.getCompanyAnalysisBookmarkId())
-                .companyAnalysisId(companyAnalysis.getCompanyAnalysisId())
+                .companyAnalysisBookmarkId(bookmarkId)
+                .companyAnalysisId(companyAnalysisId)
                 .build();
     }
 
     // 기업 분석 북마크 해제
+    // 본인 북마크만 삭제 대상이 되고, 실제로 삭제된 경우에만 북마크 수 -1 (중복 요청은 무시)
     @Transactional
     public void deleteCompanyAnalysisBookmark(Integer companyAnalysisId, Integer userId) {
 
-        // 유저 조회
-        User user = userReadService.findUserByIdOrElseThrow(userId);
-
-        CompanyAnalysis bookmarkCompanyAnalysis = companyAnalysisReadService.findCompanyAnalysisByIdOrElseThrow(companyAnalysisId);
-
-        // 북마크 정보 조회
-        CompanyAnalysisBookmark bookmark = companyAnalysisReadService.findCompanyAnalysisBookmarkByUserAndCompanyAnalysis(user, bookmarkCompanyAnalysis);
-
-        // 기업 분석 데이터 조회
-        CompanyAnalysis companyAnalysis = bookmark.getCompanyAnalysis();
-
-        // 북마크 정보의 userId와 요청한 userId가 같을 때만 요청 처리
-        if (userId.equals(bookmark.getUser().getUserId())) {
-            companyAnalysisBookmarkRepository.delete(bookmark);
-        } else {
-            throw new BaseException(ErrorCode.INVALID_USER);
+        if (companyAnalysisBookmarkRepository.deleteByUserIdAndCompanyAnalysisId(userId, companyAnalysisId) == 1) {
+            companyAnalysisRepository.addBookmarkCount(companyAnalysisId, -1);
         }
-
-        // 기업 분석 데이터 북마크 수 -1
-        companyAnalysis.setCompanyAnalysisBookmarkCount(companyAnalysis.getCompanyAnalysisBookmarkCount() - 1);
-        companyAnalysisRepository.save(companyAnalysis);
     }
 
     // 기업 분석 북마크 목록 조회(기업 상관 없이 전부)
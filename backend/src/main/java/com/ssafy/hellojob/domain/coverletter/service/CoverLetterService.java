@@ -146,7 +146,7 @@ public class CoverLetterService {
     // 자기소개서 전체 문항 상태 조회
     public CoverLetterStatusesDto getCoverLetterStatuses(Integer userId, Integer coverLetterId) {
 
-        userReadService.findUserByIdOrElseThrow(userId);
+        userReadService.validateUserExists(userId);
         CoverLetter coverLetter = coverLetterReadService.findCoverLetterByIdOrElseThrow(coverLetterId);
         coverLetterReadService.checkCoverLetterValidation(userId, coverLetter);
 
@@ -164,7 +164,7 @@ public class CoverLetterService {
     // 자기소개서 요약 조회
     public CoverLetterSummaryDto getCoverLetterSummary(Integer userId, Integer coverLetterId) {
 
-        userReadService.findUserByIdOrElseThrow(userId);
+        userReadService.validateUserExists(userId);
         CoverLetter coverLetter = coverLetterReadService.findCoverLetterByIdOrElseThrow(coverLetterId);
         coverLetterReadService.checkCoverLetterValidation(userId, coverLetter);
 
@@ -185,7 +185,7 @@ public class CoverLetterService {
     @Transactional
     public Map<String, String> saveAll(Integer userId, Integer coverLetterId, List<CoverLetterSaveRequestDto> requestDto) {
 
-        userReadService.findUserByIdOrElseThrow(userId);
+        userReadService.validateUserExists(userId);
         CoverLetter coverLetter = coverLetterReadService.findCoverLetterByIdOrElseThrow(coverLetterId);
         coverLetterReadService.checkCoverLetterValidation(userId, coverLetter);
 
@@ -198,7 +198,7 @@ public class CoverLetterService {
     // 자기소개서 삭제: 관련 엔터티 cascade로 전부 삭제
     public Map<String, String> deleteCoverLetter(Integer userId, Integer coverLetterId) {
 
-        userReadService.findUserByIdOrElseThrow(userId);
+        userReadService.validateUserExists(userId);
         CoverLetter coverLetter = coverLetterReadService.findCoverLetterByIdOrElseThrow(coverLetterId);
         coverLetterReadService.checkCoverLetterValidation(userId, coverLetter);
 
@@ -208,14 +208,14 @@ public class CoverLetterService {
 
     // 마이페이지 자기소개서 목록 조회
     public Page<MyPageCoverLetterDto> getCoverLettersForMaPage(Integer userId, Pageable pageable) {
-        userReadService.findUserByIdOrElseThrow(userId);
+        userReadService.validateUserExists(userId);
 
         return coverLetterRepository.getCoverLettersByUser(userId, pageable);
     }
 
     public WholeCoverLetterContentDto getWholeContentDetail(Integer userId, Integer coverLetterId) {
 
-        userReadService.findUserByIdOrElseThrow(userId);
+        userReadService.validateUserExists(userId);
         CoverLetter coverLetter = coverLetterReadService.findCoverLetterByIdOrElseThrow(coverLetterId);
         coverLetterReadService.checkCoverLetterValidation(userId, coverLetter);
 
@@ -231,7 +231,7 @@ public class CoverLetterService {
 
     // 일정 자기소개서 목록 조회
     public List<ScheduleCoverLetterDto> getCoverLetterForSchedule(Integer userId) {
-        userReadService.findUserByIdOrElseThrow(userId);
+        userReadService.validateUserExists(userId);
         return coverLetterRepository.findCoverLetterForSchedule(userId);
     }
 }
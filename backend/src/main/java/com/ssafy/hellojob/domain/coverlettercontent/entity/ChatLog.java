@@ -8,6 +8,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.ColumnDefault;
 
+// chat_message 도입 이전의 대화 저장 방식 (대화 전체를 JSON TEXT 한 칸에 저장)
+// 새 메시지는 ChatMessage로 저장하고, 기존 데이터는 ChatLogService에서 읽기 전용으로 사용
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
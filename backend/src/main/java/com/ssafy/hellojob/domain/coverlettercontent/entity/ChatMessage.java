@@ -0,0 +1,41 @@
+package com.ssafy.hellojob.domain.coverlettercontent.entity;
+
+import com.ssafy.hellojob.domain.coverlettercontent.dto.response.ChatMessageDto;
+import com.ssafy.hellojob.global.common.domain.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 자기소개서 항목별 AI 채팅 메시지 (메시지 1건 = 1행, append-only)
+// 기존 chat_log.chat_log_content(JSON TEXT)는 읽기 전용으로만 사용
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "chat_message",
+        indexes = @Index(name = "idx_chat_message_content_created", columnList = "cover_letter_content_id, created_at, chat_message_id"))
+public class ChatMessage extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "chat_message_id")
+    private Long chatMessageId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "cover_letter_content_id", nullable = false)
+    private CoverLetterContent coverLetterContent;
+
+    @Column(name = "sender", length = 10, nullable = false)
+    private String sender;
+
+    @Column(name = "message", columnDefinition = "TEXT", nullable = false)
+    private String message;
+
+    public static ChatMessage of(CoverLetterContent coverLetterContent, ChatMessageDto dto) {
+        ChatMessage chatMessage = new ChatMessage();
+        chatMessage.coverLetterContent = coverLetterContent;
+        chatMessage.sender = dto.getSender();
+        chatMessage.message = dto.getMessage();
+        return chatMessage;
+    }
+}
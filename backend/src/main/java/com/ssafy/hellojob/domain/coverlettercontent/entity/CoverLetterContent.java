@@ -51,6 +51,9 @@ public class CoverLetterContent extends BaseTimeEntity {
     @OneToOne(mappedBy = "coverLetterContent", fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
     private ChatLog chatLog;
 
+    @OneToMany(mappedBy = "coverLetterContent", cascade = CascadeType.REMOVE, orphanRemoval = true)
+    private List<ChatMessage> chatMessages = new ArrayList<>();
+
     @OneToMany(mappedBy = "coverLetterContent", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<CoverLetterExperience> experiences = new ArrayList<>();
 
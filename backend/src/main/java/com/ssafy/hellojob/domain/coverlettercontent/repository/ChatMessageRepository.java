@@ -0,0 +1,31 @@
+package com.ssafy.hellojob.domain.coverlettercontent.repository;
+
+import com.ssafy.hellojob.domain.coverlettercontent.dto.response.ChatMessageDto;
+import com.ssafy.hellojob.domain.coverlettercontent.entity.ChatMessage;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long> {
+
+    // 오래된 순 전체 대화
+    @Query("""
+            SELECT new com.ssafy.hellojob.domain.coverlettercontent.dto.response.ChatMessageDto(m.sender, m.message)
+            FROM ChatMessage m
+            WHERE m.coverLetterContent.contentId = :contentId
+            ORDER BY m.createdAt ASC, m.chatMessageId ASC
+            """)
+    List<ChatMessageDto> findAllByContentId(@Param("contentId") Integer contentId);
+
+    // 최신 순 N건 (idx_chat_message_content_created 역순 스캔, N은 pageable로)
+    @Query("""
+            SELECT new com.ssafy.hellojob.domain.coverlettercontent.dto.response.ChatMessageDto(m.sender, m.message)
+            FROM ChatMessage m
+            WHERE m.coverLetterContent.contentId = :contentId
+            ORDER BY m.createdAt DESC, m.chatMessageId DESC
+            """)
+    List<ChatMessageDto> findRecentByContentId(@Param("contentId") Integer contentId, Pageable pageable);
+}
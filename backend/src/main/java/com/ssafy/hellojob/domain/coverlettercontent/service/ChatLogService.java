@@ -4,22 +4,24 @@ import com.ssafy.hellojob.domain.coverlettercontent.dto.ai.request.AIChatRequest
 import com.ssafy.hellojob.domain.coverlettercontent.dto.ai.response.AIChatResponseDto;
 import com.ssafy.hellojob.domain.coverlettercontent.dto.response.ChatMessageDto;
 import com.ssafy.hellojob.domain.coverlettercontent.dto.response.ChatResponseDto;
-import com.ssafy.hellojob.domain.coverlettercontent.entity.ChatLog;
+import com.ssafy.hellojob.domain.coverlettercontent.entity.ChatMessage;
 import com.ssafy.hellojob.domain.coverlettercontent.entity.CoverLetterContent;
 import com.ssafy.hellojob.domain.coverlettercontent.entity.CoverLetterContentStatus;
 import com.ssafy.hellojob.domain.coverlettercontent.repository.ChatLogRepository;
+import com.ssafy.hellojob.domain.coverlettercontent.repository.ChatMessageRepository;
 import com.ssafy.hellojob.global.common.client.FastApiClientService;
 import com.ssafy.hellojob.global.exception.BaseException;
 import com.ssafy.hellojob.global.exception.ErrorCode;
 import com.ssafy.hellojob.global.util.JsonUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
 
 @Slf4j
 @Service
@@ -27,14 +29,36 @@ import java.util.Optional;
 public class ChatLogService {
 
     private final ChatLogRepository chatLogRepository;
+    private final ChatMessageRepository chatMessageRepository;
     private final FastApiClientService fastApiClientService;
     private final JsonUtil jsonUtil;
 
+    // 전체 대화 (기존 chat_log JSON 내용 + chat_message 행)
     public List<ChatMessageDto> getContentChatLog(Integer contentId) {
-        log.debug("🌞 지금 GetContentChatLog 들어옴");
-        String chatLogString = chatLogRepository.findChatLogContentById(contentId);
-        log.debug("🌞 ChatLogString: {}", chatLogString);
+        List<ChatMessageDto> messages = readLegacyChatLog(contentId);
+        messages.addAll(chatMessageRepository.findAllByContentId(contentId));
+        return messages;
+    }
+
+    // 최근 limit건 (오래된 순) - chat_message에서 부족할 때만 기존 chat_log를 읽어서 앞을 채움
+    public List<ChatMessageDto> getRecentChatLog(Integer contentId, int limit) {
+        List<ChatMessageDto> recent = new ArrayList<>(
+                chatMessageRepository.findRecentByContentId(contentId, PageRequest.of(0, limit)));
+        Collections.reverse(recent);
+        if (recent.size() >= limit) return recent;
+
+        List<ChatMessageDto> legacy = readLegacyChatLog(contentId);
+        if (legacy.isEmpty()) return recent;
 
+        int need = limit - recent.size();
+        List<ChatMessageDto> merged = new ArrayList<>(legacy.subList(Math.max(legacy.size() - need, 0), legacy.size()));
+        merged.addAll(recent);
+        return merged;
+    }
+
+    // chat_message 도입 이전에 JSON TEXT로 저장된 대화 (더 이상 쓰지 않고 읽기만 함)
+    private List<ChatMessageDto> readLegacyChatLog(Integer contentId) {
+        String chatLogString = chatLogRepository.findChatLogContentById(contentId);
         if (chatLogString == null || chatLogString.isBlank()) return new ArrayList<>();
 
         return jsonUtil.parseMessage(chatLogString);
@@ -74,34 +98,11 @@ public class ChatLogService {
                 .build();
     }
 
+    // 기존 대화를 읽지 않고 새 메시지 2건만 추가
     public void saveNewChatLog(CoverLetterContent content, ChatMessageDto userMessage, ChatMessageDto aiMessage) {
-        List<ChatMessageDto> newChats = new ArrayList<>();
-
-        Optional<ChatLog> chatLogOpt = chatLogRepository.findById(content.getContentId());
-
-        if (chatLogOpt.isEmpty()) {
-            // 기존 로그 없으면 새로 생성
-            newChats.add(userMessage);
-            newChats.add(aiMessage);
-
-            ChatLog newChat = ChatLog.builder()
-                    .coverLetterContent(content)
-                    .chatLogContent(jsonUtil.messageToJson(newChats))
-                    .updatedCount(1)
-                    .build();
-
-            chatLogRepository.save(newChat);
-        } else {
-            // 있으면 기존 로그를 String으로 바꿔서 추가한 후 다시 JSON형태로 변경
-            ChatLog existingLog = chatLogOpt.get();
-
-            newChats = jsonUtil.parseMessage(existingLog.getChatLogContent());
-
-            newChats.add(userMessage);
-            newChats.add(aiMessage);
-
-            existingLog.updateChatLog(jsonUtil.messageToJson(newChats));
-        }
+        chatMessageRepository.saveAll(List.of(
+                ChatMessage.of(content, userMessage),
+                ChatMessage.of(content, aiMessage)));
     }
 
     public void updateContentStatus(CoverLetterContent content) {
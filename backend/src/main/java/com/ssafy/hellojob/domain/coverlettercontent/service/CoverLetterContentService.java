@@ -35,6 +35,8 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class CoverLetterContentService {
 
+    private static final int CHAT_HISTORY_SIZE = 10; // FastAPI에 넘기는 최근 대화 수
+
     private final CoverLetterContentRepository coverLetterContentRepository;
     private final CoverLetterRepository coverLetterRepository;
     private final CoverLetterExperienceService coverLetterExperienceService;
@@ -85,7 +87,7 @@ public class CoverLetterContentService {
     @Transactional
     public CoverLetterContentDto getCoverLetterContent(Integer userId, Integer contentId) {
 
-        userReadService.findUserByIdOrElseThrow(userId);
+        userReadService.validateUserExists(userId);
         CoverLetterContent coverLetterContent = coverLetterContentReadService.findCoverLetterContentByIdOrElseThrow(contentId);
         coverLetterContentReadService.checkCoverLetterContentValidation(userId, coverLetterContent);
 
@@ -161,7 +163,7 @@ public class CoverLetterContentService {
     @Transactional
     public Map<String, String> updateCoverLetterContent(Integer userId, Integer contentId, CoverLetterUpdateRequestDto requestDto) {
 
-        userReadService.findUserByIdOrElseThrow(userId);
+        userReadService.validateUserExists(userId);
         CoverLetterContent content = coverLetterContentReadService.findCoverLetterContentByIdOrElseThrow(contentId);
         coverLetterContentReadService.checkCoverLetterContentValidation(userId, content);
 
@@ -204,7 +206,7 @@ public class CoverLetterContentService {
 
     public AIChatRequestDto getAIChatRequestDto(Integer userId, Integer contentId, ChatRequestDto requestDto) {
 
-        userReadService.findUserByIdOrElseThrow(userId);
+        userReadService.validateUserExists(userId);
         CoverLetterContent content = coverLetterContentReadService.findCoverLetterContentByIdOrElseThrow(contentId);
         coverLetterContentReadService.checkCoverLetterContentValidation(userId, content);
 
@@ -213,9 +215,8 @@ public class CoverLetterContentService {
 
         CoverLetter coverLetter = coverLetterRepository.findFullCoverLetterDetail(coverLetterId);
 
-        List<ChatMessageDto> chatLog = chatLogService.getContentChatLog(contentId);
-        log.debug("🌞 chatLog size : {}", chatLog.size());
-        List<ChatMessageDto> chatRecentHistory = chatLog.subList(Math.max(chatLog.size() - 10, 0), chatLog.size());
+        List<ChatMessageDto> chatRecentHistory = chatLogService.getRecentChatLog(contentId, CHAT_HISTORY_SIZE);
+        log.debug("🌞 chatRecentHistory size : {}", chatRecentHistory.size());
 
         return AIChatRequestDto.builder()
                 .user_message(requestDto.getUserMessage())
@@ -56,20 +56,20 @@ public class ExperienceService {
     }
 
     public List<ExperiencesResponseDto> getExperiences(Integer userId) {
-        userReadService.findUserByIdOrElseThrow(userId);
+        userReadService.validateUserExists(userId);
         List<ExperiencesResponseDto> experiences = experienceRepository.findExperiencesByUserId(userId);
         return experiences;
     }
 
     public Page<ExperiencesResponseDto> getExperiencesPage(Integer userId, Pageable pageable) {
-        userReadService.findUserByIdOrElseThrow(userId);
+        userReadService.validateUserExists(userId);
         Page<ExperiencesResponseDto> page = experienceRepository.findExperiencesPageByUserId(userId, pageable);
         return page;
     }
 
     public ExperienceResponseDto getExperience(Integer userId, Integer experienceId) {
 
-        userReadService.findUserByIdOrElseThrow(userId);
+        userReadService.validateUserExists(userId);
         Experience experience = experienceReadService.findExperienceByIdOrElseThrow(experienceId);
         experienceReadService.checkExperienceValidation(userId, experience);
 
@@ -87,7 +87,7 @@ public class ExperienceService {
 
     public void updateExperience(Integer userId, Integer experienceId, ExperienceRequestDto experienceRequestDto) {
 
-        userReadService.findUserByIdOrElseThrow(userId);
+        userReadService.validateUserExists(userId);
         Experience experience = experienceReadService.findExperienceByIdOrElseThrow(experienceId);
         experienceReadService.checkExperienceValidation(userId, experience);
 
@@ -101,7 +101,7 @@ public class ExperienceService {
 
     public void deleteExperience(Integer userId, Integer experienceId) {
 
-        userReadService.findUserByIdOrElseThrow(userId);
+        userReadService.validateUserExists(userId);
         Experience experience = experienceReadService.findExperienceByIdOrElseThrow(experienceId);
         experienceReadService.checkExperienceValidation(userId, experience);
 
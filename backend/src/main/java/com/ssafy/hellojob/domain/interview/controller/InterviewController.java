@@ -4,19 +4,16 @@ import com.ssafy.hellojob.domain.interview.dto.request.*;
 import com.ssafy.hellojob.domain.interview.dto.response.*;
 import com.ssafy.hellojob.domain.interview.service.*;
 import com.ssafy.hellojob.global.auth.token.UserPrincipal;
-import com.ssafy.hellojob.global.exception.BaseException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
-import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 
-import static com.ssafy.hellojob.global.exception.ErrorCode.GET_VIDEO_LENGTH_FAIL;
 
 @Slf4j
 @RestController
@@ -25,11 +22,12 @@ import static com.ssafy.hellojob.global.exception.ErrorCode.GET_VIDEO_LENGTH_FAI
 public class InterviewController {
 
     private final InterviewService interviewService;
-    private final S3UploadService s3UploadService;
     private final SttService sttService;
     private final InterviewAnswerSaveService interviewAnswerSaveService;
     private final InterviewFeedbackSaveService interviewFeedbackSaveService;
     private final SttQueueService sttQueueService;
+    private final SttSpoolService sttSpoolService;
+    private final InterviewVideoUploadService interviewVideoUploadService;
 
     // cs 질문 목록 조회
     @GetMapping("/question/cs")
@@ -157,20 +155,14 @@ public class InterviewController {
 
         log.debug("😎 면접 한 문항 종료 요청 들어옴 : {}", interviewAnswerId);
 
+        SttRequest request = null;
         try{
-            byte[] audioBytes = audioFile.getBytes();
-            String originalFilename = audioFile.getOriginalFilename();
-
-            SttRequest request = new SttRequest(
-                    Integer.valueOf(interviewAnswerId),
-                    audioBytes,
-                    originalFilename,
-                    userPrincipal.getUserId()
-            );
-
+            // 오디오는 spool 디렉토리로 옮기고 큐에는 경로만 넣음
+            request = sttSpoolService.spool(audioFile, userPrincipal.getUserId(), Integer.valueOf(interviewAnswerId));
             sttQueueService.submitRequest(request);
         } catch(Exception e){
             log.error("😱 MultipartFile 변환 실패", e);
+            if (request != null) sttSpoolService.delete(request);
             interviewAnswerSaveService.saveInterviewAnswer(
                     userPrincipal.getUserId(),
                     "stt 변환에 실패했습니다",
@@ -182,26 +174,14 @@ public class InterviewController {
 
 
     // 영상 저장(S3 업로드 + 시간 추출 및 저장)
+    // 영상 길이 검증까지 끝난 뒤 202 반환, 업로드/저장 결과는 SSE(interview-video-processed / interview-video-failed)로 전달
     @PostMapping("/practice/video")
+    @ResponseStatus(HttpStatus.ACCEPTED)
     public Map<String, String> saveVideo(@RequestPart("interviewAnswerId") String interviewAnswerId,
                                          @RequestPart("videoFile") MultipartFile videoFile,
-                                         @AuthenticationPrincipal UserPrincipal userPrincipal) throws IOException, InterruptedException {
-
-        String url = s3UploadService.uploadVideo(videoFile);
+                                         @AuthenticationPrincipal UserPrincipal userPrincipal) {
 
-        File tempVideoFile = File.createTempFile("video", ".webm");  // 또는 확장자 추출해서 지정
-        videoFile.transferTo(tempVideoFile);
-
-        String videoLength = "";
-        try {
-            videoLength = interviewAnswerSaveService.getVideoDurationWithFFprobe(tempVideoFile);
-        } catch (Exception e){
-            log.debug("영상 길이 추출 실패 - Exception: {}", e);
-            throw new BaseException(GET_VIDEO_LENGTH_FAIL);
-        }
-
-        Thread.sleep(2000);
-        return interviewAnswerSaveService.saveVideo(userPrincipal.getUserId(), url, videoLength, Integer.parseInt(interviewAnswerId), tempVideoFile);
+        return interviewVideoUploadService.submit(userPrincipal.getUserId(), Integer.parseInt(interviewAnswerId), videoFile);
     }
 
     // fast API 자소서 기반 질문 생성
@@ -230,6 +210,14 @@ public class InterviewController {
         return interviewService.findAllInterview(userPrincipal.getUserId());
     }
 
+    // 면접 기록 목록 조회 (커서 페이지네이션)
+    @GetMapping("/page")
+    public InterviewThumbNailCursorResponseDto findInterviewPage(@RequestParam(value = "cursor", required = false) String cursor,
+                                                                 @RequestParam(value = "size", defaultValue = "20") int size,
+                                                                 @AuthenticationPrincipal UserPrincipal userPrincipal) {
+        return interviewService.findInterviewPage(userPrincipal.getUserId(), cursor, size);
+    }
+
     @GetMapping("/{interviewVideoId}")
     public InterviewDetailResponseDto findInterviewDetail(@PathVariable Integer interviewVideoId, @AuthenticationPrincipal UserPrincipal userPrincipal) {
         return interviewService.findInterviewDetail(interviewVideoId, userPrincipal.getUserId());
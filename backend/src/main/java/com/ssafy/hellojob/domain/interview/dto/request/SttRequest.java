@@ -4,12 +4,15 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.nio.file.Path;
+
+// 오디오 본문은 spool 디렉토리에 두고 큐에는 경로만 보관
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
 public class SttRequest {
     private Integer interviewAnswerId;
-    private byte[] fileBytes;
+    private Path audioPath;
     private String originalFilename;
     private Integer userId;
 }
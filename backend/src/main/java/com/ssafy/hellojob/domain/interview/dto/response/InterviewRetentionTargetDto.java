@@ -0,0 +1,13 @@
+package com.ssafy.hellojob.domain.interview.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class InterviewRetentionTargetDto {
+    private Integer interviewVideoId;
+    private LocalDateTime start;
+}
@@ -1,6 +1,7 @@
 package com.ssafy.hellojob.domain.interview.dto.response;
 
 import com.ssafy.hellojob.domain.interview.entity.InterviewCategory;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -8,6 +9,7 @@ import java.time.LocalDateTime;
 
 @Builder
 @Getter
+@AllArgsConstructor
 public class InterviewThumbNailResponseDto {
     private Integer interviewVideoId;
     private boolean feedbackEnd;
@@ -12,8 +12,14 @@ import lombok.NoArgsConstructor;
 @Table(name = "interview_answer")
 public class InterviewAnswer extends BaseTimeEntity {
 
+    // IDENTITY 는 insert 마다 키를 받아와야 해서 JDBC batch 가 꺼짐
+    // → 테이블 기반 pooled 시퀀스로 50개씩 미리 할당받아 batch insert 가능하게 함
+    public static final String ID_SEQUENCE = "interview_answer_seq";
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = ID_SEQUENCE)
+    @SequenceGenerator(name = ID_SEQUENCE, sequenceName = ID_SEQUENCE, allocationSize = ID_ALLOCATION_SIZE)
     @Column(name = "interview_answer_id", nullable = false)
     private Integer interviewAnswerId;
 
@@ -0,0 +1,47 @@
+package com.ssafy.hellojob.domain.interview.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 면접 기록 목록 조회용 읽기 모델 (interview_video 1건당 1행, 제목이 저장된 면접만)
+// - interview / cover_letter_interview 를 거치지 않고 user_id 인덱스로 바로 조회
+// - 첫 번째 질문을 미리 저장해 두어 목록 조회 시 답변 테이블을 보지 않음
+// - 행 생성/갱신은 InterviewHistoryRepository.upsert 한 문장으로만 (동시 기록 시 PK 중복 방지)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "interview_history",
+        indexes = @Index(name = "idx_interview_history_user_start", columnList = "user_id, start, interview_video_id"))
+public class InterviewHistory {
+
+    @Id
+    @Column(name = "interview_video_id", nullable = false)
+    private Integer interviewVideoId;
+
+    @Column(name = "user_id", nullable = false)
+    private Integer userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "interview_category", nullable = false)
+    private InterviewCategory interviewCategory;
+
+    @Column(name = "select_question", nullable = false)
+    private boolean selectQuestion;
+
+    @Column(name = "interview_title")
+    private String interviewTitle;
+
+    @Column(name = "start", nullable = false)
+    private LocalDateTime start;
+
+    @Column(name = "first_question")
+    private String firstQuestion;
+
+    @Column(name = "feedback_end", nullable = false)
+    private boolean feedbackEnd;
+
+}
@@ -12,7 +12,9 @@ import java.util.List;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "interview_video")
+// 보관 기간이 지난 미완료(제목 없는) 면접 정리 시 (interview_title, start) 인덱스로 범위 스캔
+@Table(name = "interview_video",
+        indexes = @Index(name = "idx_interview_video_title_start", columnList = "interview_title, start"))
 public class InterviewVideo {
 
     @Id
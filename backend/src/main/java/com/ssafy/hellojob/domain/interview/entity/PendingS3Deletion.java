@@ -0,0 +1,51 @@
+package com.ssafy.hellojob.domain.interview.entity;
+
+import com.ssafy.hellojob.global.common.domain.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 삭제 대기 중인 S3 객체 (outbox)
+// - DB 행을 지우는 트랜잭션 안에서 함께 저장 → 커밋되면 S3 삭제가 반드시 뒤따름
+// - S3DeletionWorker 가 next_attempt_at 이 지난 행을 가져가 삭제하고, 성공하면 행을 지움
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "pending_s3_deletion",
+        indexes = @Index(name = "idx_pending_s3_deletion_next_attempt", columnList = "next_attempt_at, pending_s3_deletion_id"))
+public class PendingS3Deletion extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "pending_s3_deletion_id", nullable = false)
+    private Long pendingS3DeletionId;
+
+    @Column(name = "object_key", nullable = false, length = 1024)
+    private String objectKey;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error")
+    private String lastError;
+
+    public static PendingS3Deletion of(String objectKey, LocalDateTime now) {
+        PendingS3Deletion deletion = new PendingS3Deletion();
+        deletion.objectKey = objectKey;
+        deletion.attempts = 0;
+        deletion.nextAttemptAt = now;
+        return deletion;
+    }
+
+    public void retryLater(String error, LocalDateTime nextAttemptAt) {
+        this.attempts++;
+        this.lastError = error;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+}
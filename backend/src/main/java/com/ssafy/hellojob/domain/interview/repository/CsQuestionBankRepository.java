@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -13,4 +14,7 @@ public interface CsQuestionBankRepository extends JpaRepository<CsQuestionBank,
     @Query("SELECT c.csQuestionBankId FROM CsQuestionBank c")
     List<Integer> findAllIds();
 
+    @Query("SELECT MAX(c.updatedAt) FROM CsQuestionBank c")
+    LocalDateTime findLastUpdatedAt();
+
 }
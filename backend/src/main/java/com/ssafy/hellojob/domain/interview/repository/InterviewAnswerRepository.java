@@ -9,7 +9,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
-import java.util.Map;
+import java.util.Optional;
 
 @Repository
 public interface InterviewAnswerRepository extends JpaRepository<InterviewAnswer, Integer> {
@@ -18,12 +18,13 @@ public interface InterviewAnswerRepository extends JpaRepository<InterviewAnswer
 
     List<InterviewAnswer> findByInterviewVideoOrderByCreatedAtAsc(InterviewVideo interviewVideo);
 
-    @Query("SELECT new map(ia.interviewVideo.interviewVideoId as videoId, ia.interviewQuestion as firstQuestion) " +
-            "FROM InterviewAnswer ia " +
-            "WHERE ia.interviewVideo.interviewVideoId IN :videoIds " +
-            "AND ia.interviewAnswerId = (SELECT MIN(ia2.interviewAnswerId) FROM InterviewAnswer ia2 " +
-            "                            WHERE ia2.interviewVideo = ia.interviewVideo)")
-    List<Map<String, Object>> findFirstQuestionsByVideoIds(@Param("videoIds") List<Integer> videoIds);
+    @Query("""
+            SELECT ia.interviewQuestion FROM InterviewAnswer ia
+            WHERE ia.interviewVideo.interviewVideoId = :videoId
+            ORDER BY ia.interviewAnswerId ASC
+            LIMIT 1
+            """)
+    Optional<String> findFirstQuestionByVideoId(@Param("videoId") Integer videoId);
 
     List<InterviewAnswer> findAllByInterviewVideo(InterviewVideo interviewVideo);
 
@@ -53,4 +54,23 @@ public interface InterviewAnswerRepository extends JpaRepository<InterviewAnswer
             UPDATE InterviewAnswer ia SET ia.interviewVideoUrl = :url, ia.videoLength = :length WHERE ia.interviewAnswerId = :id
             """)
     void saveVideoUrl(@Param("id") Integer Id, @Param("url") String url, @Param("length") String length);
+
+    @Query("""
+            SELECT ia.interviewVideoUrl FROM InterviewAnswer ia
+            WHERE ia.interviewVideo.interviewVideoId IN :videoIds
+              AND ia.interviewVideo.interviewTitle IS NULL
+              AND ia.interviewVideoUrl IS NOT NULL AND ia.interviewVideoUrl <> ''
+            """)
+    List<String> findVideoUrlsByVideoIds(@Param("videoIds") List<Integer> videoIds);
+
+    // 보관 기간 정리용 일괄 삭제 (영속성 컨텍스트를 거치지 않음)
+    @Modifying
+    @Query("""
+            DELETE FROM InterviewAnswer ia
+            WHERE ia.interviewVideo.interviewVideoId IN (
+                SELECT iv.interviewVideoId FROM InterviewVideo iv
+                WHERE iv.interviewVideoId IN :videoIds AND iv.interviewTitle IS NULL
+            )
+            """)
+    int deleteByUntitledVideoIds(@Param("videoIds") List<Integer> videoIds);
 }
@@ -0,0 +1,69 @@
+package com.ssafy.hellojob.domain.interview.repository;
+
+import com.ssafy.hellojob.domain.interview.dto.response.InterviewThumbNailResponseDto;
+import com.ssafy.hellojob.domain.interview.entity.InterviewHistory;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface InterviewHistoryRepository extends JpaRepository<InterviewHistory, Integer> {
+
+    // 면접 기록 목록 (최신순, keyset 페이지네이션) - idx_interview_history_user_start 인덱스 순서 그대로 읽음
+    // cursorStart가 null이면 첫 페이지, 개수 제한은 pageable로 (offset은 항상 0)
+    @Query("""
+            SELECT new com.ssafy.hellojob.domain.interview.dto.response.InterviewThumbNailResponseDto(
+                h.interviewVideoId, h.feedbackEnd, h.interviewCategory, h.selectQuestion,
+                h.interviewTitle, h.start, h.firstQuestion)
+            FROM InterviewHistory h
+            WHERE h.userId = :userId
+              AND (:cursorStart IS NULL
+                   OR h.start < :cursorStart
+                   OR (h.start = :cursorStart AND h.interviewVideoId < :cursorId))
+            ORDER BY h.start DESC, h.interviewVideoId DESC
+            """)
+    List<InterviewThumbNailResponseDto> findThumbNails(@Param("userId") Integer userId,
+                                                       @Param("cursorStart") LocalDateTime cursorStart,
+                                                       @Param("cursorId") Integer cursorId,
+                                                       Pageable pageable);
+
+    // interview_video_id(PK) 기준 insert-or-update → 동시에 기록해도 같은 PK 로 두 번 insert 하지 않음
+    // 피드백 완료는 되돌아가지 않음 (markFeedbackEnd 가 먼저 반영됐을 수 있음)
+    @Modifying
+    @Query(value = """
+            INSERT INTO interview_history
+                (interview_video_id, user_id, interview_category, select_question, start,
+                 interview_title, first_question, feedback_end)
+            VALUES (:videoId, :userId, :category, :selectQuestion, :start, :title, :firstQuestion, :feedbackEnd)
+            ON DUPLICATE KEY UPDATE
+                interview_title = VALUES(interview_title),
+                first_question = VALUES(first_question),
+                feedback_end = feedback_end OR VALUES(feedback_end)
+            """, nativeQuery = true)
+    int upsert(@Param("videoId") Integer videoId,
+               @Param("userId") Integer userId,
+               @Param("category") String category,
+               @Param("selectQuestion") boolean selectQuestion,
+               @Param("start") LocalDateTime start,
+               @Param("title") String title,
+               @Param("firstQuestion") String firstQuestion,
+               @Param("feedbackEnd") boolean feedbackEnd);
+
+    @Modifying
+    @Query("""
+            UPDATE InterviewHistory h SET h.feedbackEnd = true WHERE h.interviewVideoId = :videoId
+            """)
+    int markFeedbackEnd(@Param("videoId") Integer videoId);
+
+    @Modifying
+    @Query("""
+            DELETE FROM InterviewHistory h WHERE h.interviewVideoId = :videoId
+            """)
+    int deleteByInterviewVideoId(@Param("videoId") Integer videoId);
+}
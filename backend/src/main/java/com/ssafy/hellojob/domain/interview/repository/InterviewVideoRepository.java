@@ -1,7 +1,8 @@
 package com.ssafy.hellojob.domain.interview.repository;
 
+import com.ssafy.hellojob.domain.interview.dto.response.InterviewRetentionTargetDto;
 import com.ssafy.hellojob.domain.interview.entity.InterviewVideo;
-import com.ssafy.hellojob.domain.user.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -15,14 +16,6 @@ import java.util.Optional;
 @Repository
 public interface InterviewVideoRepository extends JpaRepository<InterviewVideo, Integer> {
 
-    @Query("SELECT iv FROM InterviewVideo iv " +
-            "LEFT JOIN iv.interview i " +
-            "LEFT JOIN iv.coverLetterInterview cli " +
-            "WHERE i.user = :user OR cli.user = :user " +
-            "ORDER BY iv.start DESC NULLS LAST")
-    List<InterviewVideo> findAllByUser(@Param("user") User user);
-
-
     @Query("SELECT iv FROM InterviewVideo iv " +
             "LEFT JOIN FETCH iv.coverLetterInterview " +
             "LEFT JOIN FETCH iv.interview " +
@@ -30,7 +23,26 @@ public interface InterviewVideoRepository extends JpaRepository<InterviewVideo,
     Optional<InterviewVideo> findByIdWithInterviewAndCoverLetterInterview(@Param("id") Integer interviewVideoId);
 
 
-    List<InterviewVideo> findAllByStartBeforeAndInterviewTitleIsNull(LocalDateTime cutoff);
+    // 보관 기간이 지난 미완료 면접 - (start, id) keyset 으로 chunk 단위 조회
+    @Query("""
+            SELECT new com.ssafy.hellojob.domain.interview.dto.response.InterviewRetentionTargetDto(iv.interviewVideoId, iv.start)
+            FROM InterviewVideo iv
+            WHERE iv.interviewTitle IS NULL
+              AND iv.start < :cutoff
+              AND (iv.start > :cursorStart OR (iv.start = :cursorStart AND iv.interviewVideoId > :cursorId))
+            ORDER BY iv.start ASC, iv.interviewVideoId ASC
+            """)
+    List<InterviewRetentionTargetDto> findExpiredUntitled(@Param("cutoff") LocalDateTime cutoff,
+                                                          @Param("cursorStart") LocalDateTime cursorStart,
+                                                          @Param("cursorId") Integer cursorId,
+                                                          Pageable pageable);
+
+    // 제목이 그 사이 저장된 면접은 삭제하지 않음
+    @Modifying
+    @Query("""
+            DELETE FROM InterviewVideo iv WHERE iv.interviewVideoId IN :ids AND iv.interviewTitle IS NULL
+            """)
+    int deleteUntitledByIds(@Param("ids") List<Integer> ids);
 
     @Query("SELECT COUNT(ia) FROM InterviewAnswer ia WHERE ia.interviewVideo.interviewVideoId = :videoId")
     Integer countTotalAnswer(@Param("videoId") Integer videoId);
@@ -0,0 +1,50 @@
+package com.ssafy.hellojob.domain.interview.repository;
+
+import com.ssafy.hellojob.domain.interview.entity.PendingS3Deletion;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface PendingS3DeletionRepository extends JpaRepository<PendingS3Deletion, Long> {
+
+    // 여러 노드가 동시에 가져가도 겹치지 않도록 잠긴 행은 건너뜀 (MySQL 8: FOR UPDATE SKIP LOCKED)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+            SELECT p FROM PendingS3Deletion p
+            WHERE p.nextAttemptAt <= :now
+            ORDER BY p.nextAttemptAt ASC, p.pendingS3DeletionId ASC
+            """)
+    List<PendingS3Deletion> findDue(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // 가져간 행은 lease 동안 다시 조회되지 않도록 다음 시도 시각을 미룸 (처리 중 죽으면 lease 후 재시도)
+    @Modifying
+    @Query("""
+            UPDATE PendingS3Deletion p SET p.nextAttemptAt = :leaseUntil
+            WHERE p.pendingS3DeletionId IN :ids AND p.nextAttemptAt <= :now
+            """)
+    int lease(@Param("ids") List<Long> ids, @Param("now") LocalDateTime now, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    // 지금 처리할 수 있는 행 수 (idx_pending_s3_deletion_next_attempt 범위만 셈, lease/backoff 중인 행은 제외)
+    @Query("""
+            SELECT COUNT(p) FROM PendingS3Deletion p WHERE p.nextAttemptAt <= :now
+            """)
+    long countDue(@Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("""
+            DELETE FROM PendingS3Deletion p WHERE p.pendingS3DeletionId IN :ids
+            """)
+    int deleteByIds(@Param("ids") List<Long> ids);
+}
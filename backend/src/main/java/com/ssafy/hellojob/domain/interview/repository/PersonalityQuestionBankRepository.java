@@ -2,12 +2,17 @@ package com.ssafy.hellojob.domain.interview.repository;
 
 import com.ssafy.hellojob.domain.interview.entity.PersonalityQuestionBank;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface PersonalityQuestionBankRepository extends JpaRepository<PersonalityQuestionBank, Integer> {
 
     List<PersonalityQuestionBank> findTop100ByOrderByPersonalityQuestionBankId();
+
+    @Query("SELECT MAX(p.updatedAt) FROM PersonalityQuestionBank p")
+    LocalDateTime findLastUpdatedAt();
 }
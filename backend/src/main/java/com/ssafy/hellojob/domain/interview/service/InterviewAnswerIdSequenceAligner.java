@@ -0,0 +1,40 @@
+package com.ssafy.hellojob.domain.interview.service;
+
+import com.ssafy.hellojob.domain.interview.entity.InterviewAnswer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+// interview_answer 키 생성 방식을 AUTO_INCREMENT → pooled 시퀀스 테이블로 바꾸면서
+// 기존 행과 키가 겹치지 않도록 기동 시 시퀀스 값을 (현재 최대 id + 할당 크기) 이상으로 맞춤
+// - 웹 서버가 요청을 받기 전(싱글톤 초기화 단계)에 실행됨
+// - 이미 충분히 크면 아무것도 하지 않으므로 재기동/새 버전 인스턴스끼리는 여러 대가 떠도 안전
+// - 단, 전환 배포는 반드시 stop-the-world 로 진행 (이전 버전을 모두 내린 뒤 새 버전 기동)
+//   롤링 배포로 AUTO_INCREMENT 를 쓰는 이전 버전이 함께 insert 하면, 보정 이후 늘어난 id 가
+//   새 인스턴스가 이미 할당받은 시퀀스 구간과 겹쳐 PK 중복이 날 수 있음
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory") // ddl-auto 로 시퀀스 테이블이 만들어진 뒤 실행
+@RequiredArgsConstructor
+public class InterviewAnswerIdSequenceAligner {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void align() {
+        Long maxId = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(MAX(interview_answer_id), 0) FROM interview_answer", Long.class);
+        long floor = (maxId == null ? 0 : maxId) + InterviewAnswer.ID_ALLOCATION_SIZE + 1;
+
+        String table = InterviewAnswer.ID_SEQUENCE;
+        int updated = jdbcTemplate.update(
+                "INSERT INTO " + table + " (next_val) SELECT ? FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM " + table + ")", floor);
+        updated += jdbcTemplate.update("UPDATE " + table + " SET next_val = ? WHERE next_val < ?", floor, floor);
+        if (updated > 0) {
+            log.info("🔢 interview_answer 시퀀스 보정 - next_val={}", floor);
+        }
+    }
+}
@@ -31,11 +31,13 @@ public class InterviewFeedbackSaveService {
     private final InterviewVideoRepository interviewVideoRepository;
     private final InterviewReadService interviewReadService;
     private final ApplicationEventPublisher applicationEventPublisher;
+    private final InterviewHistoryService interviewHistoryService;
 
     @Transactional
     public Map<String, String> saveTitle(Integer videoId, String title){
         InterviewVideo video = interviewReadService.findInterviewVideoByIdOrElseThrow(videoId);
         video.addTitle(title);
+        interviewHistoryService.record(InterviewHistoryService.ownerIdOf(video), video, title);
         return Map.of("message", "정상적으로 저장되었습니다.");
     }
 
@@ -47,6 +49,7 @@ public class InterviewFeedbackSaveService {
 
         // 꼬리 질문 json 직렬화
         interviewVideoRepository.saveFeedback(interviewVideo.getInterviewVideoId(), fastAPIResponseDto.getOverall_feedback());
+        interviewHistoryService.markFeedbackEnd(interviewVideo.getInterviewVideoId());
 
         for (SingleInterviewFeedbackFastAPIResponseDto singleInterviewFeedback : fastAPIResponseDto.getSingle_feedbacks()) {
 
@@ -0,0 +1,33 @@
+package com.ssafy.hellojob.domain.interview.service;
+
+import com.ssafy.hellojob.global.exception.BaseException;
+import com.ssafy.hellojob.global.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+// 면접 기록 목록 keyset 커서 (마지막 행의 start + interviewVideoId)
+// 클라이언트에는 "{start}|{id}"를 URL-safe Base64로 인코딩해서 전달
+record InterviewHistoryCursor(LocalDateTime start, Integer interviewVideoId) {
+
+    private static final InterviewHistoryCursor FIRST_PAGE = new InterviewHistoryCursor(null, null);
+
+    static InterviewHistoryCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) return FIRST_PAGE;
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.lastIndexOf('|');
+            return new InterviewHistoryCursor(
+                    LocalDateTime.parse(decoded.substring(0, separator)),
+                    Integer.valueOf(decoded.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new BaseException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    String encode() {
+        String raw = start + "|" + interviewVideoId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
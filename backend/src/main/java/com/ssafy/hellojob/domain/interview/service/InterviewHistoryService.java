@@ -0,0 +1,89 @@
+package com.ssafy.hellojob.domain.interview.service;
+
+import com.ssafy.hellojob.domain.interview.dto.response.InterviewThumbNailCursorResponseDto;
+import com.ssafy.hellojob.domain.interview.dto.response.InterviewThumbNailResponseDto;
+import com.ssafy.hellojob.domain.interview.entity.InterviewVideo;
+import com.ssafy.hellojob.domain.interview.repository.InterviewAnswerRepository;
+import com.ssafy.hellojob.domain.interview.repository.InterviewHistoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+// interview_history 읽기 모델 관리
+// - 제목 저장(saveTitle) / 면접 종료(endInterview) 시 갱신, 피드백 완료 시 feedbackEnd 표시, 면접 삭제 시 함께 삭제
+// - 제목이 없는 면접은 목록에 노출되지 않으므로 행을 만들지 않음
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class InterviewHistoryService {
+
+    private static final int MAX_PAGE_SIZE = 50;
+
+    private final InterviewHistoryRepository interviewHistoryRepository;
+    private final InterviewAnswerRepository interviewAnswerRepository;
+
+    // title은 벌크 UPDATE로 저장되어 영속성 컨텍스트의 video와 다를 수 있으므로 따로 받음
+    @Transactional
+    public void record(Integer userId, InterviewVideo video, String title) {
+        if (title == null) return;
+
+        String firstQuestion = interviewAnswerRepository.findFirstQuestionByVideoId(video.getInterviewVideoId())
+                .orElse(null);
+
+        // 조회 후 save 하면 동시 호출 시 둘 다 없다고 보고 같은 PK 로 insert → 한 문장 upsert 로 처리
+        interviewHistoryRepository.upsert(video.getInterviewVideoId(), userId, video.getInterviewCategory().name(),
+                video.isSelectQuestion(), video.getStart(), title, firstQuestion, video.isFeedback());
+        log.debug("🗂️ 면접 기록 갱신 - videoId={}, userId={}", video.getInterviewVideoId(), userId);
+    }
+
+    @Transactional
+    public void markFeedbackEnd(Integer videoId) {
+        interviewHistoryRepository.markFeedbackEnd(videoId);
+    }
+
+    @Transactional
+    public void delete(Integer videoId) {
+        interviewHistoryRepository.deleteByInterviewVideoId(videoId);
+    }
+
+    @Transactional(readOnly = true)
+    public List<InterviewThumbNailResponseDto> findAll(Integer userId) {
+        return interviewHistoryRepository.findThumbNails(userId, null, null, Pageable.unpaged());
+    }
+
+    // 한 건 더 조회해서 다음 페이지 존재 여부 판단
+    @Transactional(readOnly = true)
+    public InterviewThumbNailCursorResponseDto findPage(Integer userId, String cursor, int size) {
+        InterviewHistoryCursor decoded = InterviewHistoryCursor.decode(cursor);
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        List<InterviewThumbNailResponseDto> rows = interviewHistoryRepository.findThumbNails(
+                userId, decoded.start(), decoded.interviewVideoId(), PageRequest.of(0, pageSize + 1));
+
+        boolean hasNext = rows.size() > pageSize;
+        List<InterviewThumbNailResponseDto> page = hasNext ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            InterviewThumbNailResponseDto last = page.get(page.size() - 1);
+            nextCursor = new InterviewHistoryCursor(last.getStart(), last.getInterviewVideoId()).encode();
+        }
+
+        return InterviewThumbNailCursorResponseDto.builder()
+                .content(page)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    // 면접 소유자 (interview / cover_letter_interview 중 하나에만 연결됨)
+    public static Integer ownerIdOf(InterviewVideo video) {
+        return video.getCoverLetterInterview() != null
+                ? video.getCoverLetterInterview().getUser().getUserId()
+                : video.getInterview().getUser().getUserId();
+    }
+}
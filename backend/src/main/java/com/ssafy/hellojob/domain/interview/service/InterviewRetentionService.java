@@ -0,0 +1,60 @@
+package com.ssafy.hellojob.domain.interview.service;
+
+import com.ssafy.hellojob.domain.interview.dto.response.InterviewRetentionTargetDto;
+import com.ssafy.hellojob.domain.interview.repository.InterviewAnswerRepository;
+import com.ssafy.hellojob.domain.interview.repository.InterviewVideoRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 보관 기간이 지난 미완료(제목 없는) 면접 정리
+// - chunk 하나 = 트랜잭션 하나 → 중간에 멈춰도 이미 지운 chunk는 커밋된 상태로 남고, 다음 실행은 남은 행부터 다시 스캔
+// - 엔티티를 올리지 않고 답변 → 면접 순서로 일괄 DELETE
+// - 답변 영상은 같은 트랜잭션에서 S3 삭제 outbox 에 예약 (실제 삭제는 S3DeletionWorker)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class InterviewRetentionService {
+
+    // 첫 chunk 조회용 커서 (start 가 이보다 이른 면접은 없음)
+    public static final LocalDateTime INITIAL_CURSOR_START = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final InterviewVideoRepository interviewVideoRepository;
+    private final InterviewAnswerRepository interviewAnswerRepository;
+    private final S3DeletionOutboxService s3DeletionOutboxService;
+
+    public record ChunkResult(int scanned, int deletedVideos, int deletedAnswers, int enqueuedObjects,
+                              LocalDateTime lastStart, Integer lastVideoId) {
+    }
+
+    @Transactional
+    public ChunkResult deleteExpiredChunk(LocalDateTime cutoff, LocalDateTime cursorStart, Integer cursorId, int chunkSize) {
+        List<InterviewRetentionTargetDto> targets = interviewVideoRepository.findExpiredUntitled(
+                cutoff, cursorStart, cursorId, PageRequest.of(0, chunkSize));
+        if (targets.isEmpty()) {
+            return new ChunkResult(0, 0, 0, 0, cursorStart, cursorId);
+        }
+
+        List<Integer> videoIds = targets.stream()
+                .map(InterviewRetentionTargetDto::getInterviewVideoId)
+                .toList();
+
+        // S3 객체 URL은 행을 지우기 전에 수집
+        List<String> videoUrls = interviewAnswerRepository.findVideoUrlsByVideoIds(videoIds);
+        int enqueuedObjects = s3DeletionOutboxService.enqueueUrls(videoUrls);
+        int deletedAnswers = interviewAnswerRepository.deleteByUntitledVideoIds(videoIds);
+        int deletedVideos = interviewVideoRepository.deleteUntitledByIds(videoIds);
+
+        InterviewRetentionTargetDto last = targets.get(targets.size() - 1);
+        log.debug("🧹 면접 정리 chunk - 조회={}, 면접 삭제={}, 답변 삭제={}, 마지막 videoId={}",
+                targets.size(), deletedVideos, deletedAnswers, last.getInterviewVideoId());
+
+        return new ChunkResult(targets.size(), deletedVideos, deletedAnswers, enqueuedObjects,
+                last.getStart(), last.getInterviewVideoId());
+    }
+}
@@ -25,14 +25,14 @@ import com.ssafy.hellojob.global.exception.ErrorCode;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.concurrent.CompletableFuture;
-import java.util.stream.Collectors;
 
 import static com.ssafy.hellojob.global.exception.ErrorCode.*;
 
@@ -57,18 +57,22 @@ public class InterviewService {
     private final UserReadService userReadService;
     private final CoverLetterContentService coverLetterContentService;
     private final FastApiClientService fastApiClientService;
-    private final S3UploadService s3UploadService;
+    private final S3DeletionOutboxService s3DeletionOutboxService;
     private final InterviewFeedbackSaveService interviewFeedbackSaveService;
     private final SSEService sseService;
     private final InterviewAnswerContentSaveService interviewAnswerContentSaveService;
     private final EntityManager entityManager;
+    private final QuestionBankSnapshot questionBankSnapshot;
+    @Qualifier("fastApiCallbackExecutor")
+    private final ThreadPoolTaskExecutor fastApiCallbackExecutor;
+    private final InterviewHistoryService interviewHistoryService;
 
     private static final Integer QUESTION_SIZE = 5;
 
     // cs 질문 목록 조회
     @Transactional(readOnly = true)
     public List<CsQuestionListResponseDto> getCsQuestionList(Integer userId) {
-        userReadService.findUserByIdOrElseThrow(userId);
+        userReadService.validateUserExists(userId);
         List<CsQuestionBank> questionList = csQuestionBankRepository.findAll();
 
         return questionList.stream()
@@ -99,7 +103,7 @@ public class InterviewService {
     // 인성 질문 목록 조회
     @Transactional(readOnly = true)
     public List<QuestionListResponseDto> getPersonalityQuestionList(Integer userId) {
-        userReadService.findUserByIdOrElseThrow(userId);
+        userReadService.validateUserExists(userId);
         List<PersonalityQuestionBank> questionList = personalityQuestionBankRepository.findTop100ByOrderByPersonalityQuestionBankId();
 
         return questionList.stream()
@@ -241,24 +245,7 @@ public class InterviewService {
         interviewVideoRepository.save(video);
 
         // cs 질문 랜덤하게 가져오기
-        List<CsQuestionBank> all = csQuestionBankRepository.findAll();
-        Collections.shuffle(all); // Java 내부에서 무작위 섞기
-        List<CsQuestionBank> selectedQuestion = all.stream()
-                .limit(QUESTION_SIZE)
-                .toList();
-
-        List<QuestionAndAnswerListResponseDto> questionList = selectedQuestion.stream()
-                .map(q -> {
-                    InterviewAnswer answer = InterviewAnswer.of(video, q.getCsQuestion(), InterviewQuestionCategory.valueOf(q.getCsCategory().name()));
-                    interviewAnswerRepository.save(answer);
-
-                    return QuestionAndAnswerListResponseDto.builder()
-                            .questionBankId(q.getCsQuestionBankId())
-                            .interviewAnswerId(answer.getInterviewAnswerId())
-                            .question(q.getCsQuestion())
-                            .build();
-                })
-                .toList();
+        List<QuestionAndAnswerListResponseDto> questionList = saveAnswers(video, questionBankSnapshot.sampleCs(QUESTION_SIZE));
 
         return InterviewStartResponseDto.builder()
                 .interviewId(interview.getInterviewId())
@@ -285,24 +272,7 @@ public class InterviewService {
         interviewVideoRepository.save(video);
 
         // 인성 질문 랜덤하게 가져오기
-        List<PersonalityQuestionBank> all = personalityQuestionBankRepository.findAll();
-        Collections.shuffle(all); // Java 내부에서 무작위 섞기
-        List<PersonalityQuestionBank> selectedQuestion = all.stream()
-                .limit(QUESTION_SIZE)
-                .toList();
-
-        List<QuestionAndAnswerListResponseDto> questionList = selectedQuestion.stream()
-                .map(q -> {
-                    InterviewAnswer answer = InterviewAnswer.of(video, q.getPersonalityQuestion(), InterviewQuestionCategory.valueOf("인성면접"));
-                    interviewAnswerRepository.save(answer);
-
-                    return QuestionAndAnswerListResponseDto.builder()
-                            .questionBankId(q.getPersonalityQuestionBankId())
-                            .interviewAnswerId(answer.getInterviewAnswerId())
-                            .question(q.getPersonalityQuestion())
-                            .build();
-                })
-                .toList();
+        List<QuestionAndAnswerListResponseDto> questionList = saveAnswers(video, questionBankSnapshot.samplePersonality(QUESTION_SIZE));
 
         return InterviewStartResponseDto.builder()
                 .interviewId(interview.getInterviewId())
@@ -312,6 +282,35 @@ public class InterviewService {
 
     }
 
+    // 질문 목록으로 답변 행을 만들어 한 번에 저장 (pooled 시퀀스 키 → commit 시 JDBC batch insert)
+    private List<QuestionAndAnswerListResponseDto> saveAnswers(InterviewVideo video, List<QuestionBankSnapshot.Question> questions) {
+        List<InterviewAnswer> answers = questions.stream()
+                .map(q -> InterviewAnswer.of(video, q.question(), q.category()))
+                .toList();
+        interviewAnswerRepository.saveAll(answers);
+
+        List<QuestionAndAnswerListResponseDto> questionList = new ArrayList<>(questions.size());
+        for (int i = 0; i < questions.size(); i++) {
+            questionList.add(QuestionAndAnswerListResponseDto.builder()
+                    .questionBankId(questions.get(i).questionBankId())
+                    .interviewAnswerId(answers.get(i).getInterviewAnswerId())
+                    .question(questions.get(i).question())
+                    .build());
+        }
+        return questionList;
+    }
+
+    // 요청 순서대로 질문 정렬, 하나라도 없으면 아무것도 저장하지 않고 실패
+    private List<QuestionBankSnapshot.Question> orderedOrThrow(List<Integer> questionIds, Map<Integer, QuestionBankSnapshot.Question> resolved) {
+        List<QuestionBankSnapshot.Question> ordered = new ArrayList<>(questionIds.size());
+        for (Integer questionId : questionIds) {
+            QuestionBankSnapshot.Question question = resolved.get(questionId);
+            if (question == null) throw new BaseException(ErrorCode.QUESTION_NOT_FOUND);
+            ordered.add(question);
+        }
+        return ordered;
+    }
+
     // 자소서 모의 면접 시작
     @Transactional
     public InterviewStartResponseDto startCoverLetterRandomInterview(Integer coverLetterId, Integer userId) {
@@ -375,7 +374,7 @@ public class InterviewService {
     // 문항 선택 면접 cs 질문 선택
     @Transactional
     public InterviewStartResponseDto saveCsQuestions(Integer userId, SelectQuestionRequestDto requestDto) {
-        userReadService.findUserByIdOrElseThrow(userId);
+        userReadService.validateUserExists(userId);
 
         InterviewVideo video = interviewReadService.findInterviewVideoByIdOrElseThrow(requestDto.getInterviewVideoId());
 
@@ -384,29 +383,9 @@ public class InterviewService {
             throw new BaseException(INVALID_USER);
         }
 
-        List<QuestionAndAnswerListResponseDto> questionList = new ArrayList<>();
-
-        // front에서 받은 질문 id로 질문(string) 조회 후 interviewAnswer 객체 생성
-        for (Integer questionId : requestDto.getQuestionIdList()) {
-
-            CsQuestionBank question = csQuestionBankRepository.findById(questionId)
-                    .orElseThrow(() -> new BaseException(ErrorCode.QUESTION_NOT_FOUND));
-
-            InterviewAnswer answer = InterviewAnswer.of(
-                    video,
-                    question.getCsQuestion(),
-                    InterviewQuestionCategory.valueOf(question.getCsCategory().name())
-            );
-            interviewAnswerRepository.save(answer);
-
-            questionList.add(
-                    QuestionAndAnswerListResponseDto.builder()
-                            .questionBankId(questionId)
-                            .question(question.getCsQuestion())
-                            .interviewAnswerId(answer.getInterviewAnswerId())
-                            .build()
-            );
-        }
+        // front에서 받은 질문 id로 질문(string) 일괄 조회 후 interviewAnswer 객체 생성
+        Map<Integer, QuestionBankSnapshot.Question> resolved = questionBankSnapshot.resolveCs(requestDto.getQuestionIdList());
+        List<QuestionAndAnswerListResponseDto> questionList = saveAnswers(video, orderedOrThrow(requestDto.getQuestionIdList(), resolved));
 
         return InterviewStartResponseDto.builder()
                 .interviewId(video.getInterviewVideoId())
@@ -418,7 +397,7 @@ public class InterviewService {
     // 문항 선택 면접 인성 질문 선택
     @Transactional
     public InterviewStartResponseDto savePersonalityQuestions(Integer userId, SelectQuestionRequestDto requestDto) {
-        userReadService.findUserByIdOrElseThrow(userId);
+        userReadService.validateUserExists(userId);
 
         InterviewVideo video = interviewReadService.findInterviewVideoByIdOrElseThrow(requestDto.getInterviewVideoId());
 
@@ -427,29 +406,9 @@ public class InterviewService {
             throw new BaseException(INVALID_USER);
         }
 
-        List<QuestionAndAnswerListResponseDto> questionList = new ArrayList<>();
-
-        // front에서 받은 질문 id로 질문(string) 조회 후 interviewAnswer 객체 생성
-        for (Integer questionId : requestDto.getQuestionIdList()) {
-
-            PersonalityQuestionBank question = personalityQuestionBankRepository.findById(questionId)
-                    .orElseThrow(() -> new BaseException(ErrorCode.QUESTION_NOT_FOUND));
-
-            InterviewAnswer answer = InterviewAnswer.of(
-                    video,
-                    question.getPersonalityQuestion(),
-                    InterviewQuestionCategory.valueOf("인성면접")
-            );
-            interviewAnswerRepository.save(answer);
-
-            questionList.add(
-                    QuestionAndAnswerListResponseDto.builder()
-                            .questionBankId(questionId)
-                            .question(question.getPersonalityQuestion())
-                            .interviewAnswerId(answer.getInterviewAnswerId())
-                            .build()
-            );
-        }
+        // front에서 받은 질문 id로 질문(string) 일괄 조회 후 interviewAnswer 객체 생성
+        Map<Integer, QuestionBankSnapshot.Question> resolved = questionBankSnapshot.resolvePersonality(requestDto.getQuestionIdList());
+        List<QuestionAndAnswerListResponseDto> questionList = saveAnswers(video, orderedOrThrow(requestDto.getQuestionIdList(), resolved));
 
         return InterviewStartResponseDto.builder()
                 .interviewId(video.getInterviewVideoId())
@@ -475,29 +434,14 @@ public class InterviewService {
 
         InterviewVideo video = interviewVideoRepository.save(InterviewVideo.of(coverLetterInterview, null, true, LocalDateTime.now(), InterviewCategory.valueOf("COVERLETTER")));
 
-        List<QuestionAndAnswerListResponseDto> questionList = new ArrayList<>();
-
-        for (Integer questionId : requestDto.getQuestionIdList()) {
-
-            // front에서 받은 질문 id로 질문(string) 조회 후 interviewAnswer 객체 생성
-            CoverLetterQuestionBank question = coverLetterQuestionBankRepository.findById(questionId)
-                    .orElseThrow(() -> new BaseException(ErrorCode.QUESTION_NOT_FOUND));
-
-            InterviewAnswer answer = InterviewAnswer.of(
-                    video,
-                    question.getCoverLetterQuestion(),
-                    InterviewQuestionCategory.valueOf("자기소개서면접")
-            );
-            interviewAnswerRepository.save(answer);
-
-            questionList.add(
-                    QuestionAndAnswerListResponseDto.builder()
-                            .questionBankId(questionId)
-                            .question(question.getCoverLetterQuestion())
-                            .interviewAnswerId(answer.getInterviewAnswerId())
-                            .build()
-            );
+        // front에서 받은 질문 id로 질문(string) IN 쿼리 한 번에 조회 후 interviewAnswer 객체 생성
+        Map<Integer, QuestionBankSnapshot.Question> resolved = new HashMap<>();
+        for (CoverLetterQuestionBank question : coverLetterQuestionBankRepository.findAllById(new HashSet<>(requestDto.getQuestionIdList()))) {
+            resolved.put(question.getCoverLetterQuestionBankId(), new QuestionBankSnapshot.Question(
+                    question.getCoverLetterQuestionBankId(), question.getCoverLetterQuestion(),
+                    InterviewQuestionCategory.valueOf("자기소개서면접")));
         }
+        List<QuestionAndAnswerListResponseDto> questionList = saveAnswers(video, orderedOrThrow(requestDto.getQuestionIdList(), resolved));
 
         return InterviewStartResponseDto.builder()
                 .interviewId(video.getInterviewVideoId())
@@ -646,7 +590,7 @@ public class InterviewService {
     // Fast API 자소서 기반 질문 생성
     @Transactional
     public CreateCoverLetterQuestionResponseDto createCoverLetterQuestion(Integer userId, CoverLetterIdRequestDto requestDto) {
-        userReadService.findUserByIdOrElseThrow(userId);
+        userReadService.validateUserExists(userId);
         CoverLetter coverLetter = coverLetterReadService.findCoverLetterByIdOrElseThrow(requestDto.getCoverLetterId());
 
         if (!userId.equals(coverLetter.getUser().getUserId())) {
@@ -721,6 +665,7 @@ public class InterviewService {
         }
 
         interviewVideoRepository.saveTitle(interviewVideo.getInterviewVideoId(), videoInfo.getInterviewTitle());
+        interviewHistoryService.record(userId, interviewVideo, videoInfo.getInterviewTitle());
 
         return Map.of("message", "피드백 생성 요청이 정상적으로 처리되었습니다");
     }
@@ -757,6 +702,9 @@ public class InterviewService {
             }
         }
 
+        // 제목이 먼저 저장된 경우 면접 기록 읽기 모델 동기화 (제목이 아직 없으면 saveInterviewTitle에서 생성)
+        interviewHistoryService.record(userId, interviewVideo, interviewVideo.getInterviewTitle());
+
         // 여기서부터 fast API 관련 로직
         // 답변 객체 조회(stt 변환에 성공한 경우만)
         List<InterviewQuestionAndAnswerRequestDto> interviewQuestionAndAnswerRequestDto =
@@ -800,13 +748,14 @@ public class InterviewService {
     }
 
     public void requestInterviewFeedbackAsync(User user, InterviewFeedbackFastAPIRequestDto fastAPIRequestDto, List<InterviewAnswer> interviewAnswers, InterviewVideo interviewVideo) {
-        CompletableFuture
-                .supplyAsync(() -> fastApiClientService.sendInterviewAnswerToFastApi(fastAPIRequestDto))
-                .thenApply(fastAPIResponseDto -> {
+        // 응답을 기다리는 동안 스레드를 점유하지 않음 (저장은 Netty 스레드가 아닌 별도 스레드에서)
+        fastApiClientService.sendInterviewAnswerToFastApiAsync(fastAPIRequestDto)
+                .toFuture()
+                .thenApplyAsync(fastAPIResponseDto -> {
                     log.debug("😎 saveFeedback 들어가기 직전");
                     EndInterviewResponseDto responseDto = interviewFeedbackSaveService.saveFeedback(user.getUserId(), fastAPIResponseDto, interviewAnswers, interviewVideo);
                     return responseDto;
-                })
+                }, fastApiCallbackExecutor)
 //                .thenAccept(data -> {
 //                    log.debug("피드백 생성 완료됨. sse 송신 시도");
 //                    sseService.sendToUser(user.getUserId(), "interview-feedback-completed", data);
@@ -901,7 +850,7 @@ public class InterviewService {
     @Transactional(readOnly = true)
     public InterviewFeedbackResponseDto findInterviewFeedbackDetail(Integer interviewVideoId, Integer userId) {
 
-        userReadService.findUserByIdOrElseThrow(userId);
+        userReadService.validateUserExists(userId);
         InterviewVideo interviewVideo = interviewReadService.findInterviewVideoByIdOrElseThrow(interviewVideoId);
 
         if (interviewVideo.getCoverLetterInterview() != null) {
@@ -962,40 +911,17 @@ public class InterviewService {
 
     @Transactional(readOnly = true)
     public List<InterviewThumbNailResponseDto> findAllInterview(Integer userId) {
-        User user = userReadService.findUserByIdOrElseThrow(userId);
-
-        // 한 번의 쿼리로 모든 InterviewVideo 조회 (Join 활용, 날짜 기준 내림차순 정렬)
-        List<InterviewVideo> interviewVideos = interviewVideoRepository.findAllByUser(user);
+        userReadService.validateUserExists(userId);
 
-        // 모든 InterviewVideo ID를 수집
-        List<Integer> videoIds = interviewVideos.stream()
-                .map(InterviewVideo::getInterviewVideoId)
-                .toList();
+        // interview_history 읽기 모델에서 (user_id, start) 인덱스 순서대로 바로 조회
+        return interviewHistoryService.findAll(userId);
+    }
 
-        // 한 번의 쿼리로 각 InterviewVideo의 첫 번째 답변 조회
-        List<Map<String, Object>> firstQuestionsResults = interviewAnswerRepository
-                .findFirstQuestionsByVideoIds(videoIds);
-
-        // Map<videoId, firstQuestion> 형태로 변환
-        Map<Integer, String> firstQuestionsByVideoId = firstQuestionsResults.stream()
-                .collect(Collectors.toMap(
-                        map -> (Integer) map.get("videoId"),
-                        map -> (String) map.get("firstQuestion")
-                ));
-
-        // DTO 구성
-        return interviewVideos.stream()
-                .filter(video -> video.getInterviewTitle() != null)
-                .map(video -> InterviewThumbNailResponseDto.builder()
-                        .interviewVideoId(video.getInterviewVideoId())
-                        .feedbackEnd(video.isFeedback())
-                        .interviewCategory(video.getInterviewCategory())
-                        .selectQuestion(video.isSelectQuestion())
-                        .interviewTitle(video.getInterviewTitle())
-                        .start(video.getStart())
-                        .firstQuestion(firstQuestionsByVideoId.get(video.getInterviewVideoId()))
-                        .build())
-                .toList();
+    // 면접 기록 목록 조회 (커서 페이지네이션)
+    @Transactional(readOnly = true)
+    public InterviewThumbNailCursorResponseDto findInterviewPage(Integer userId, String cursor, int size) {
+        userReadService.validateUserExists(userId);
+        return interviewHistoryService.findPage(userId, cursor, size);
     }
 
     @Transactional(readOnly = true)
@@ -1053,18 +979,11 @@ public class InterviewService {
                     .filter(Objects::nonNull)
                     .toList();
 
-            try {
-                // 배치 삭제 시도
-                s3UploadService.deleteVideos(s3Urls);
-
-                // 모든 S3 삭제 성공 시에만 DB 삭제
-                interviewAnswerRepository.deleteAll(answers);
-
-            } catch (BaseException e) {
-                log.error("❌ S3 삭제 실패로 인한 DB 삭제 취소");
-                throw e; // 트랜잭션 롤백
-            }
+            // S3 삭제는 outbox 에 예약만 하고 커밋 후 S3DeletionWorker 가 처리 (DB 삭제와 같은 트랜잭션)
+            s3DeletionOutboxService.enqueueUrls(s3Urls);
+            interviewAnswerRepository.deleteAll(answers);
         }
+        interviewHistoryService.delete(video.getInterviewVideoId());
         interviewVideoRepository.delete(video);
 
         return Map.of("message", "면접 영상이 삭제되었습니다.");
@@ -0,0 +1,196 @@
+package com.ssafy.hellojob.domain.interview.service;
+
+import com.ssafy.hellojob.domain.interview.service.MediaProcessPool.Priority;
+import com.ssafy.hellojob.domain.sse.service.SSEService;
+import com.ssafy.hellojob.global.exception.BaseException;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static com.ssafy.hellojob.global.exception.ErrorCode.*;
+
+// 면접 영상 저장 파이프라인
+// 1. 업로드 파일을 spool 디렉토리에 한 번만 기록
+// 2. ffprobe 길이 추출(MediaProcessPool, HIGH 우선순위)은 요청 스레드에서 기다림 → 손상/빈 영상은 202 전에 400으로 거절
+// 3. S3 업로드는 비동기로 시작하고 202 반환
+// 4. 업로드가 끝나면 videoUploadExecutor 스레드에서 DB 저장 → SSE 알림 → spool 파일 삭제
+//    업로드/저장 실패는 interview-video-failed 이벤트로 전달 (이미 올라간 S3 객체는 삭제 outbox에 예약)
+@Slf4j
+@Service
+public class InterviewVideoUploadService {
+
+    private static final long MAX_VIDEO_SIZE = 500L * 1024 * 1024;
+
+    private final S3UploadService s3UploadService;
+    private final InterviewAnswerSaveService interviewAnswerSaveService;
+    private final MediaProbeService mediaProbeService;
+    private final SSEService sseService;
+    private final S3DeletionOutboxService s3DeletionOutboxService;
+    private final ThreadPoolTaskExecutor videoUploadExecutor;
+    private final Path spoolDir;
+    private final long probeWaitSeconds;
+
+    public InterviewVideoUploadService(S3UploadService s3UploadService,
+                                       InterviewAnswerSaveService interviewAnswerSaveService,
+                                       MediaProbeService mediaProbeService,
+                                       SSEService sseService,
+                                       S3DeletionOutboxService s3DeletionOutboxService,
+                                       @Qualifier("videoUploadExecutor") ThreadPoolTaskExecutor videoUploadExecutor,
+                                       @Value("${video.spool.dir:${java.io.tmpdir}/hellojob-video-spool}") String spoolDir,
+                                       @Value("${video.upload.probe-wait-seconds:60}") long probeWaitSeconds) {
+        this.s3UploadService = s3UploadService;
+        this.interviewAnswerSaveService = interviewAnswerSaveService;
+        this.mediaProbeService = mediaProbeService;
+        this.sseService = sseService;
+        this.s3DeletionOutboxService = s3DeletionOutboxService;
+        this.videoUploadExecutor = videoUploadExecutor;
+        this.spoolDir = Paths.get(spoolDir);
+        this.probeWaitSeconds = probeWaitSeconds;
+    }
+
+    @PostConstruct
+    public void init() throws IOException {
+        Files.createDirectories(spoolDir);
+        // 이전 실행에서 처리되지 못한 파일 정리 (업로드 결과를 알 수 없으므로 재처리하지 않음)
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(spoolDir)) {
+            for (Path file : files) {
+                log.warn("⚠️ 처리되지 않은 영상 spool 파일 삭제: {}", file.getFileName());
+                deleteQuietly(file);
+            }
+        }
+        log.info("🗂️ 영상 spool 디렉토리: {}", spoolDir.toAbsolutePath());
+    }
+
+    public Map<String, String> submit(Integer userId, Integer interviewAnswerId, MultipartFile videoFile) {
+        if (videoFile.getSize() > MAX_VIDEO_SIZE) {
+            throw new BaseException(VIDEO_TOO_LARGE);
+        }
+
+        Path videoPath = spool(videoFile, userId, interviewAnswerId);
+
+        String videoLength;
+        try {
+            videoLength = probeDuration(videoPath, interviewAnswerId);
+        } catch (BaseException e) {
+            deleteQuietly(videoPath);
+            throw e;
+        }
+
+        CompletableFuture<String> upload = s3UploadService.uploadVideo(
+                videoPath, videoFile.getOriginalFilename(), videoFile.getContentType());
+
+        // 완료 콜백은 SDK 스레드에서 불리므로 저장은 전용 풀로 넘김
+        upload.whenComplete((url, uploadError) -> {
+            try {
+                videoUploadExecutor.execute(() -> save(userId, interviewAnswerId, videoPath, url, uploadError, videoLength));
+            } catch (TaskRejectedException rejected) {
+                log.error("❌ 영상 저장 작업 거부 - interviewAnswerId={}", interviewAnswerId);
+                discardUploaded(url);
+                notifyFailed(userId, interviewAnswerId);
+                deleteQuietly(videoPath);
+            }
+        });
+
+        return Map.of("message", "영상이 접수되었습니다. 저장 결과는 알림으로 전달됩니다.");
+    }
+
+    // ffprobe는 HIGH 우선순위라 대기 없이 바로 실행되고 메타데이터만 읽으므로 요청 스레드에서 기다림
+    private String probeDuration(Path videoPath, Integer interviewAnswerId) {
+        try {
+            return mediaProbeService.probeDuration(videoPath, Priority.HIGH).get(probeWaitSeconds, TimeUnit.SECONDS);
+        } catch (MediaProcessPool.QueueFullException e) {
+            log.warn("❌ 영상 처리 대기열 초과 - interviewAnswerId={}", interviewAnswerId);
+            throw new BaseException(VIDEO_UPLOAD_QUEUE_FULL);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof BaseException baseException) throw baseException;
+            log.error("❌ 영상 길이 추출 실패 - interviewAnswerId={}", interviewAnswerId, e.getCause());
+            throw new BaseException(GET_VIDEO_LENGTH_FAIL);
+        } catch (TimeoutException e) {
+            log.error("❌ 영상 길이 추출 시간 초과 - interviewAnswerId={}", interviewAnswerId);
+            throw new BaseException(GET_VIDEO_LENGTH_FAIL);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BaseException(GET_VIDEO_LENGTH_FAIL);
+        }
+    }
+
+    private void save(Integer userId, Integer interviewAnswerId, Path videoPath,
+                      String url, Throwable uploadError, String videoLength) {
+        try {
+            if (uploadError != null || url == null || url.isEmpty()) {
+                log.error("❌ 영상 S3 업로드 실패 - interviewAnswerId={}", interviewAnswerId, uploadError);
+                notifyFailed(userId, interviewAnswerId);
+                return;
+            }
+            interviewAnswerSaveService.saveVideo(userId, url, videoLength, interviewAnswerId);
+            sseService.sendToUser(userId, "interview-video-processed",
+                    Map.of("interviewAnswerId", interviewAnswerId, "videoLength", videoLength));
+        } catch (Exception e) {
+            log.error("😱 삐상 !!! 영상 저장 처리 중 에러 발생 !!! interviewAnswerId={}", interviewAnswerId, e);
+            discardUploaded(url);
+            notifyFailed(userId, interviewAnswerId);
+        } finally {
+            deleteQuietly(videoPath);
+        }
+    }
+
+    // DB에 연결되지 못한 S3 객체는 삭제 outbox에 예약
+    private void discardUploaded(String url) {
+        if (url == null || url.isEmpty()) return;
+        try {
+            s3DeletionOutboxService.enqueueUrls(List.of(url));
+        } catch (Exception e) {
+            log.error("❌ 저장 실패 영상 S3 삭제 예약 실패 - url={}", url, e);
+        }
+    }
+
+    private void notifyFailed(Integer userId, Integer interviewAnswerId) {
+        sseService.sendToUser(userId, "interview-video-failed", Map.of("interviewAnswerId", interviewAnswerId));
+    }
+
+    private Path spool(MultipartFile videoFile, Integer userId, Integer interviewAnswerId) {
+        Path videoPath = spoolDir.resolve(userId + "_" + interviewAnswerId + "_" + UUID.randomUUID()
+                + extractExtension(videoFile.getOriginalFilename()));
+        try {
+            // Tomcat이 디스크에 받아둔 파일이면 이동만 일어나고, 메모리에 있으면 한 번 기록
+            videoFile.transferTo(videoPath);
+            return videoPath;
+        } catch (IOException e) {
+            log.error("❌ 영상 spool 실패 - interviewAnswerId={}", interviewAnswerId, e);
+            deleteQuietly(videoPath);
+            throw new BaseException(VIDEO_SPOOL_FAIL);
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("⚠️ 영상 spool 파일 삭제 실패: {}", path, e);
+        }
+    }
+
+    private String extractExtension(String originalFilename) {
+        if (originalFilename == null || !originalFilename.contains(".")) return ".webm";
+        String extension = originalFilename.substring(originalFilename.lastIndexOf("."));
+        return extension.matches("\\.[A-Za-z0-9]{1,10}") ? extension : ".webm";
+    }
+}
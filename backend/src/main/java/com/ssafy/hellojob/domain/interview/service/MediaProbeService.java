@@ -0,0 +1,97 @@
+package com.ssafy.hellojob.domain.interview.service;
+
+import com.ssafy.hellojob.domain.interview.service.MediaProcessPool.Priority;
+import com.ssafy.hellojob.domain.interview.service.MediaProcessPool.ProcessResult;
+import com.ssafy.hellojob.global.exception.BaseException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static com.ssafy.hellojob.global.exception.ErrorCode.VIDEO_LENGTH_INVALID;
+
+// ffprobe로 영상 메타데이터 추출 (MediaProcessPool을 통해서만 프로세스 실행)
+@Slf4j
+@Service
+public class MediaProbeService {
+
+    private final MediaProcessPool mediaProcessPool;
+    private final String ffprobePath;
+    private final long timeoutSeconds;
+
+    public MediaProbeService(MediaProcessPool mediaProcessPool,
+                             @Value("${FFPROBE_PATH}") String ffprobePath,
+                             @Value("${media.process.timeout-seconds:30}") long timeoutSeconds) {
+        this.mediaProcessPool = mediaProcessPool;
+        this.ffprobePath = ffprobePath;
+        this.timeoutSeconds = timeoutSeconds;
+    }
+
+    // 동영상에서 시간 뽑아내기 → "HH:mm:ss"
+    // 트랜스코딩 없이 컨테이너 메타데이터(format=duration)만 읽음
+    // MediaRecorder로 만든 webm은 duration이 비어있는 경우가 있어, 그때는 마지막 패킷 시각으로 대체
+    // 큐가 가득 차면 MediaProcessPool.QueueFullException (호출 시점에 바로 던짐)
+    // 길이를 읽을 수 없거나 0초인 영상은 VIDEO_LENGTH_INVALID로 실패 (00:00:00으로 저장하지 않음)
+    public CompletableFuture<String> probeDuration(Path videoPath, Priority priority) {
+        String target = videoPath.toAbsolutePath().toString();
+
+        return probe(priority, "-show_entries", "format=duration", target)
+                .thenCompose(duration -> {
+                    if (duration != null) return CompletableFuture.completedFuture(duration);
+                    log.debug("⚠️ format duration 없음 → 패킷 시각으로 계산");
+                    return probe(priority, "-select_streams", "v:0", "-show_entries", "packet=pts_time", target);
+                })
+                .thenApply(duration -> {
+                    if (duration == null || duration <= 0) {
+                        log.warn("⚠️ ffprobe 결과로부터 duration 추출 실패: {}", videoPath);
+                        throw new BaseException(VIDEO_LENGTH_INVALID);
+                    }
+                    String result = format(duration);
+                    log.info("🎥 영상 길이: {}", result);
+                    return result;
+                });
+    }
+
+    private CompletableFuture<Double> probe(Priority priority, String... args) {
+        List<String> command = new ArrayList<>();
+        command.add(ffprobePath);
+        command.add("-v");
+        command.add("error");
+        command.addAll(List.of(args).subList(0, args.length - 1));
+        command.add("-of");
+        command.add("default=noprint_wrappers=1:nokey=1");
+        command.add(args[args.length - 1]);
+
+        return mediaProcessPool.submit(command, priority, timeoutSeconds, TimeUnit.SECONDS)
+                .thenApply(this::parseDuration);
+    }
+
+    // 출력 중 가장 큰 값을 duration으로 사용 (format=duration이면 한 줄, packet이면 마지막 pts)
+    private Double parseDuration(ProcessResult result) {
+        if (!result.succeeded()) return null;
+        Double max = null;
+        for (String line : result.output()) {
+            String value = line.trim();
+            if (value.isEmpty() || value.equalsIgnoreCase("N/A")) continue;
+            try {
+                double parsed = Double.parseDouble(value);
+                if (max == null || parsed > max) max = parsed;
+            } catch (NumberFormatException e) {
+                log.debug("⚠️ duration 값이 유효하지 않음: '{}'", value);
+            }
+        }
+        return max;
+    }
+
+    private String format(double durationInSeconds) {
+        int hours = (int) (durationInSeconds / 3600);
+        int minutes = (int) (durationInSeconds % 3600) / 60;
+        int seconds = (int) (durationInSeconds % 60);
+        return String.format("%02d:%02d:%02d", hours, minutes, seconds);
+    }
+}
@@ -0,0 +1,204 @@
+package com.ssafy.hellojob.domain.interview.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// ffmpeg/ffprobe 외부 프로세스 실행 풀
+// - 동시에 떠 있는 프로세스 수 = 워커 수 (요청이 몰려도 프로세스가 무한정 fork 되지 않음)
+// - 대기 작업은 우선순위 → 접수 순서로 처리 (사용자가 기다리는 작업을 백필보다 먼저)
+// - stdout은 워커 스레드가 직접 읽고 stderr는 버림 → 로그 소비용 스레드를 따로 띄우지 않음
+// - 시간 초과 프로세스는 watchdog이 강제 종료
+@Slf4j
+public class MediaProcessPool {
+
+    public enum Priority {
+        HIGH, NORMAL, LOW
+    }
+
+    public record ProcessResult(int exitCode, List<String> output, boolean timedOut) {
+        public boolean succeeded() {
+            return !timedOut && exitCode == 0;
+        }
+    }
+
+    public static class QueueFullException extends RuntimeException {
+        QueueFullException() {
+            super("media process queue is full");
+        }
+    }
+
+    private record Job(List<String> command, Priority priority, long sequence, long timeoutMillis,
+                       long enqueuedAtNanos, CompletableFuture<ProcessResult> result) implements Comparable<Job> {
+        @Override
+        public int compareTo(Job other) {
+            int byPriority = priority.compareTo(other.priority);
+            return byPriority != 0 ? byPriority : Long.compare(sequence, other.sequence);
+        }
+    }
+
+    private final int capacity;
+    private final PriorityBlockingQueue<Job> queue = new PriorityBlockingQueue<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final Set<Process> liveProcesses = ConcurrentHashMap.newKeySet();
+
+    private final ExecutorService workers;
+    private final ScheduledExecutorService watchdog;
+
+    private final MeterRegistry meterRegistry;
+    private final Timer waitTimer;
+    private final Counter timeoutCounter;
+    private final Counter rejectedCounter;
+
+    public MediaProcessPool(int maxProcesses, int capacity, MeterRegistry meterRegistry) {
+        this.capacity = capacity;
+        this.meterRegistry = meterRegistry;
+
+        this.waitTimer = Timer.builder("media.process.wait")
+                .description("외부 프로세스 작업이 큐에서 대기한 시간")
+                .register(meterRegistry);
+        this.timeoutCounter = Counter.builder("media.process.timeout").register(meterRegistry);
+        this.rejectedCounter = Counter.builder("media.process.rejected").register(meterRegistry);
+        Gauge.builder("media.process.queue.depth", pending, AtomicInteger::get).register(meterRegistry);
+        Gauge.builder("media.process.active", running, AtomicInteger::get).register(meterRegistry);
+
+        AtomicInteger threadSequence = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(maxProcesses, runnable -> {
+            Thread thread = new Thread(runnable, "media-process-" + threadSequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.watchdog = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "media-process-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < maxProcesses; i++) {
+            workers.execute(this::runWorker);
+        }
+        log.info("🎬 미디어 프로세스 풀 시작 - 최대 프로세스={}, 대기열={}", maxProcesses, capacity);
+    }
+
+    // 큐가 가득 차면 QueueFullException
+    public CompletableFuture<ProcessResult> submit(List<String> command, Priority priority, long timeout, TimeUnit unit) {
+        if (closed.get()) {
+            rejectedCounter.increment();
+            throw new QueueFullException();
+        }
+        if (pending.incrementAndGet() > capacity) {
+            pending.decrementAndGet();
+            rejectedCounter.increment();
+            throw new QueueFullException();
+        }
+        CompletableFuture<ProcessResult> result = new CompletableFuture<>();
+        queue.add(new Job(List.copyOf(command), priority, sequence.incrementAndGet(),
+                unit.toMillis(timeout), System.nanoTime(), result));
+        return result;
+    }
+
+    private void runWorker() {
+        while (!Thread.currentThread().isInterrupted()) {
+            Job job;
+            try {
+                job = queue.poll(1, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (job == null) continue;
+
+            pending.decrementAndGet();
+            waitTimer.record(System.nanoTime() - job.enqueuedAtNanos(), TimeUnit.NANOSECONDS);
+            running.incrementAndGet();
+            try {
+                job.result().complete(execute(job));
+            } catch (Exception e) {
+                job.result().completeExceptionally(e);
+            } finally {
+                running.decrementAndGet();
+            }
+        }
+    }
+
+    private ProcessResult execute(Job job) throws IOException, InterruptedException {
+        String tool = Paths.get(job.command().get(0)).getFileName().toString();
+        long start = System.nanoTime();
+
+        Process process = new ProcessBuilder(job.command())
+                .redirectError(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        liveProcesses.add(process);
+
+        AtomicBoolean timedOut = new AtomicBoolean();
+        ScheduledFuture<?> kill = watchdog.schedule(() -> {
+            if (process.isAlive()) {
+                timedOut.set(true);
+                process.destroyForcibly();
+            }
+        }, job.timeoutMillis(), TimeUnit.MILLISECONDS);
+
+        List<String> output = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                output.add(line);
+            }
+            int exitCode = process.waitFor();
+            return new ProcessResult(exitCode, output, timedOut.get());
+        } finally {
+            kill.cancel(false);
+            liveProcesses.remove(process);
+            if (process.isAlive()) process.destroyForcibly();
+            if (timedOut.get()) {
+                log.error("❌ {} 시간 초과로 강제 종료됨", tool);
+                timeoutCounter.increment();
+            }
+            Timer.builder("media.process.run")
+                    .tag("tool", tool)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public int pendingCount() {
+        return pending.get();
+    }
+
+    // 종료 시: 신규 작업 차단 → 대기 작업 취소 → 실행 중인 프로세스는 인터럽트 후 정리
+    public void shutdown() {
+        if (!closed.compareAndSet(false, true)) return;
+        Job job;
+        while ((job = queue.poll()) != null) {
+            pending.decrementAndGet();
+            job.result().cancel(false);
+        }
+        workers.shutdownNow();
+        watchdog.shutdownNow();
+        liveProcesses.forEach(Process::destroyForcibly); // stdout 읽기에 묶인 워커를 풀어줌
+        log.info("🛑 미디어 프로세스 풀 종료");
+    }
+}
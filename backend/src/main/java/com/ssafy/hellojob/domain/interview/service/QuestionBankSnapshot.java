@@ -0,0 +1,147 @@
+package com.ssafy.hellojob.domain.interview.service;
+
+import com.ssafy.hellojob.domain.interview.entity.CsQuestionBank;
+import com.ssafy.hellojob.domain.interview.entity.InterviewQuestionCategory;
+import com.ssafy.hellojob.domain.interview.entity.PersonalityQuestionBank;
+import com.ssafy.hellojob.domain.interview.repository.CsQuestionBankRepository;
+import com.ssafy.hellojob.domain.interview.repository.PersonalityQuestionBankRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// CS/인성 질문 은행 메모리 스냅샷
+// - 면접 시작마다 전체 테이블을 읽고 섞는 대신, 불변 목록에서 k개만 무작위 추출 (O(k))
+// - 질문 은행은 거의 바뀌지 않으므로 (건수, 최종 수정 시각)이 바뀌었을 때만 다시 적재
+// - 문항 선택 면접의 질문 id 조회도 스냅샷에서 처리, 스냅샷에 없는 id 만 IN 쿼리 한 번으로 보충
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QuestionBankSnapshot {
+
+    public record Question(Integer questionBankId, String question, InterviewQuestionCategory category) {
+    }
+
+    private record Bank(List<Question> questions, Map<Integer, Question> byId, long count, LocalDateTime lastUpdatedAt) {
+        Bank(List<Question> questions, long count, LocalDateTime lastUpdatedAt) {
+            this(questions, questions.stream().collect(Collectors.toUnmodifiableMap(Question::questionBankId, q -> q)),
+                    count, lastUpdatedAt);
+        }
+    }
+
+    private final CsQuestionBankRepository csQuestionBankRepository;
+    private final PersonalityQuestionBankRepository personalityQuestionBankRepository;
+
+    private volatile Bank csBank = new Bank(List.of(), -1, null);
+    private volatile Bank personalityBank = new Bank(List.of(), -1, null);
+
+    @PostConstruct
+    public void load() {
+        refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${interview.question-bank.refresh-interval-ms:60000}")
+    public void refresh() {
+        try {
+            long csCount = csQuestionBankRepository.count();
+            LocalDateTime csUpdatedAt = csQuestionBankRepository.findLastUpdatedAt();
+            if (csCount != csBank.count() || !Objects.equals(csUpdatedAt, csBank.lastUpdatedAt())) {
+                List<Question> questions = csQuestionBankRepository.findAll().stream()
+                        .map(QuestionBankSnapshot::toQuestion)
+                        .toList();
+                csBank = new Bank(questions, csCount, csUpdatedAt);
+                log.info("📚 CS 질문 은행 적재 - {}건", questions.size());
+            }
+
+            long personalityCount = personalityQuestionBankRepository.count();
+            LocalDateTime personalityUpdatedAt = personalityQuestionBankRepository.findLastUpdatedAt();
+            if (personalityCount != personalityBank.count() || !Objects.equals(personalityUpdatedAt, personalityBank.lastUpdatedAt())) {
+                List<Question> questions = personalityQuestionBankRepository.findAll().stream()
+                        .map(QuestionBankSnapshot::toQuestion)
+                        .toList();
+                personalityBank = new Bank(questions, personalityCount, personalityUpdatedAt);
+                log.info("📚 인성 질문 은행 적재 - {}건", questions.size());
+            }
+        } catch (Exception e) {
+            // 실패 시 기존 스냅샷 유지
+            log.warn("❌ 질문 은행 갱신 실패 - 원인={}", e.getMessage());
+        }
+    }
+
+    public List<Question> sampleCs(int k) {
+        return sample(csBank.questions(), k);
+    }
+
+    public List<Question> samplePersonality(int k) {
+        return sample(personalityBank.questions(), k);
+    }
+
+    // id → 질문 (없는 id 는 결과에서 빠짐)
+    public Map<Integer, Question> resolveCs(Collection<Integer> ids) {
+        return resolve(csBank.byId(), ids, missing -> csQuestionBankRepository.findAllById(missing).stream()
+                .map(QuestionBankSnapshot::toQuestion)
+                .toList());
+    }
+
+    public Map<Integer, Question> resolvePersonality(Collection<Integer> ids) {
+        return resolve(personalityBank.byId(), ids, missing -> personalityQuestionBankRepository.findAllById(missing).stream()
+                .map(QuestionBankSnapshot::toQuestion)
+                .toList());
+    }
+
+    private static Map<Integer, Question> resolve(Map<Integer, Question> cached, Collection<Integer> ids,
+                                                  Function<Set<Integer>, List<Question>> loader) {
+        Map<Integer, Question> result = new HashMap<>();
+        Set<Integer> missing = new HashSet<>();
+        for (Integer id : ids) {
+            Question question = cached.get(id);
+            if (question != null) result.put(id, question);
+            else missing.add(id);
+        }
+        // 스냅샷 갱신 전에 추가된 질문일 수 있으므로 DB에서 한 번에 조회
+        if (!missing.isEmpty()) {
+            loader.apply(missing).forEach(q -> result.put(q.questionBankId(), q));
+        }
+        return result;
+    }
+
+    private static Question toQuestion(CsQuestionBank q) {
+        return new Question(q.getCsQuestionBankId(), q.getCsQuestion(),
+                InterviewQuestionCategory.valueOf(q.getCsCategory().name()));
+    }
+
+    private static Question toQuestion(PersonalityQuestionBank q) {
+        return new Question(q.getPersonalityQuestionBankId(), q.getPersonalityQuestion(),
+                InterviewQuestionCategory.valueOf("인성면접"));
+    }
+
+    // 부분 Fisher-Yates: 원본은 건드리지 않고, 바뀐 자리만 map 에 기록 → 시간/공간 모두 O(k)
+    static <T> List<T> sample(List<T> source, int k) {
+        int n = source.size();
+        int size = Math.min(k, n);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Map<Integer, Integer> swapped = new HashMap<>(size * 2);
+        List<T> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            int j = random.nextInt(i, n);
+            int picked = swapped.getOrDefault(j, j);
+            swapped.put(j, swapped.getOrDefault(i, i));
+            result.add(source.get(picked));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,114 @@
+package com.ssafy.hellojob.domain.interview.service;
+
+import com.ssafy.hellojob.domain.interview.entity.PendingS3Deletion;
+import com.ssafy.hellojob.domain.interview.repository.PendingS3DeletionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+// S3 삭제 outbox
+// - enqueue: 사용자 요청/정리 작업의 트랜잭션 안에서 삭제할 key만 기록 (S3 호출 없음)
+// - claim / complete / retryLater: S3DeletionWorker 가 사용하는 짧은 트랜잭션들
+@Slf4j
+@Service
+public class S3DeletionOutboxService {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    public record ClaimedDeletion(Long id, String objectKey) {
+    }
+
+    private final PendingS3DeletionRepository pendingS3DeletionRepository;
+    private final S3UploadService s3UploadService;
+    private final long leaseSeconds;
+    private final long baseBackoffSeconds;
+    private final long maxBackoffSeconds;
+    private final int alertAttempts;
+
+    public S3DeletionOutboxService(PendingS3DeletionRepository pendingS3DeletionRepository,
+                                   S3UploadService s3UploadService,
+                                   @Value("${s3.deletion.lease-seconds:300}") long leaseSeconds,
+                                   @Value("${s3.deletion.base-backoff-seconds:10}") long baseBackoffSeconds,
+                                   @Value("${s3.deletion.max-backoff-seconds:3600}") long maxBackoffSeconds,
+                                   @Value("${s3.deletion.alert-attempts:10}") int alertAttempts) {
+        this.pendingS3DeletionRepository = pendingS3DeletionRepository;
+        this.s3UploadService = s3UploadService;
+        this.leaseSeconds = leaseSeconds;
+        this.baseBackoffSeconds = baseBackoffSeconds;
+        this.maxBackoffSeconds = maxBackoffSeconds;
+        this.alertAttempts = alertAttempts;
+    }
+
+    // 호출한 쪽 트랜잭션에 참여 → DB 삭제가 롤백되면 삭제 예약도 같이 롤백
+    @Transactional
+    public int enqueueUrls(List<String> s3Urls) {
+        LocalDateTime now = LocalDateTime.now(ZONE);
+        List<PendingS3Deletion> deletions = new ArrayList<>();
+        for (String url : s3Urls) {
+            if (url == null || url.isBlank()) continue;
+            String key = s3UploadService.extractKeyFromUrl(url);
+            if (key == null || key.isBlank()) {
+                log.warn("⚠️ S3 URL에서 key를 추출할 수 없어 삭제 예약 생략: {}", url);
+                continue;
+            }
+            deletions.add(PendingS3Deletion.of(key, now));
+        }
+        if (deletions.isEmpty()) return 0;
+
+        pendingS3DeletionRepository.saveAll(deletions);
+        return deletions.size();
+    }
+
+    @Transactional
+    public List<ClaimedDeletion> claim(int limit) {
+        LocalDateTime now = LocalDateTime.now(ZONE);
+        List<PendingS3Deletion> due = pendingS3DeletionRepository.findDue(now, PageRequest.of(0, limit));
+        if (due.isEmpty()) return List.of();
+
+        List<Long> ids = due.stream().map(PendingS3Deletion::getPendingS3DeletionId).toList();
+        pendingS3DeletionRepository.lease(ids, now, now.plusSeconds(leaseSeconds));
+        return due.stream()
+                .map(d -> new ClaimedDeletion(d.getPendingS3DeletionId(), d.getObjectKey()))
+                .toList();
+    }
+
+    @Transactional
+    public void complete(List<Long> ids) {
+        if (ids.isEmpty()) return;
+        pendingS3DeletionRepository.deleteByIds(ids);
+    }
+
+    // key별 재시도: 지수 backoff + jitter, 상한 이후에도 계속 재시도 (S3에 없는 key 삭제는 성공으로 끝남)
+    @Transactional
+    public void retryLater(Map<Long, String> errorsById) {
+        if (errorsById.isEmpty()) return;
+        LocalDateTime now = LocalDateTime.now(ZONE);
+        for (PendingS3Deletion deletion : pendingS3DeletionRepository.findAllById(errorsById.keySet())) {
+            String error = errorsById.get(deletion.getPendingS3DeletionId());
+            deletion.retryLater(error, now.plusSeconds(backoffSeconds(deletion.getAttempts())));
+            if (deletion.getAttempts() == alertAttempts) {
+                log.error("❌ S3 객체 삭제 {}회 연속 실패 - key={}, 오류={}", alertAttempts, deletion.getObjectKey(), error);
+            }
+        }
+    }
+
+    private long backoffSeconds(int attempts) {
+        long backoff = baseBackoffSeconds << Math.min(attempts, 20);
+        backoff = Math.min(backoff, maxBackoffSeconds);
+        return backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1);
+    }
+
+    // 전체 count() 는 테이블 풀스캔이라 기한이 지난 행만 인덱스 범위로 셈
+    public long countDue() {
+        return pendingS3DeletionRepository.countDue(LocalDateTime.now(ZONE));
+    }
+}
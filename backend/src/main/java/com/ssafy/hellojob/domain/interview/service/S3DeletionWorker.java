@@ -0,0 +1,160 @@
+package com.ssafy.hellojob.domain.interview.service;
+
+import com.ssafy.hellojob.domain.interview.service.S3DeletionOutboxService.ClaimedDeletion;
+import com.ssafy.hellojob.domain.interview.storage.AdaptiveRateLimiter;
+import com.ssafy.hellojob.domain.interview.storage.S3ObjectDeleter;
+import com.ssafy.hellojob.domain.interview.storage.S3ObjectDeleter.BatchDeleteResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+// S3 삭제 outbox 처리기
+// - 기한이 지난 행을 한 번에 (배치 크기 × 동시 요청 수)만큼 가져와 1000개 단위 DeleteObjects 로 나눠 병렬 전송
+// - 요청 속도는 AIMD로 조절 (SlowDown/503 응답 시 절반, 성공 시 조금씩 증가)
+// - 배치가 끝날 때마다 성공한 key는 outbox 에서 제거, 실패한 key만 backoff 후 재시도
+// - @Scheduled 는 처리 루프를 전용 스레드에 넘기기만 함 (공용 스케줄러 스레드를 최대 max-drain-seconds 동안 잡지 않도록)
+@Slf4j
+@Component
+public class S3DeletionWorker {
+
+    private final S3DeletionOutboxService outboxService;
+    private final S3ObjectDeleter s3ObjectDeleter;
+    private final ThreadPoolTaskExecutor executor;
+    private final ThreadPoolTaskExecutor drainExecutor;
+    private final AdaptiveRateLimiter rateLimiter;
+
+    private final int batchSize;
+    private final int parallelism;
+    private final long maxDrainMillis;
+
+    private final Counter deletedCounter;
+    private final Counter failedCounter;
+    private final Counter throttledCounter;
+    private final Timer batchTimer;
+    private final AtomicLong due = new AtomicLong();
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    public S3DeletionWorker(S3DeletionOutboxService outboxService,
+                            S3ObjectDeleter s3ObjectDeleter,
+                            @Qualifier("s3DeletionExecutor") ThreadPoolTaskExecutor executor,
+                            @Qualifier("s3DeletionDrainExecutor") ThreadPoolTaskExecutor drainExecutor,
+                            MeterRegistry meterRegistry,
+                            @Value("${s3.deletion.batch-size:1000}") int batchSize,
+                            @Value("${s3.deletion.parallelism:4}") int parallelism,
+                            @Value("${s3.deletion.max-drain-seconds:30}") long maxDrainSeconds,
+                            @Value("${s3.deletion.rate.initial:5}") double initialRate,
+                            @Value("${s3.deletion.rate.min:0.5}") double minRate,
+                            @Value("${s3.deletion.rate.max:20}") double maxRate) {
+        this.outboxService = outboxService;
+        this.s3ObjectDeleter = s3ObjectDeleter;
+        this.executor = executor;
+        this.drainExecutor = drainExecutor;
+        this.batchSize = Math.min(batchSize, S3ObjectDeleter.MAX_BATCH_SIZE);
+        this.parallelism = parallelism;
+        this.maxDrainMillis = TimeUnit.SECONDS.toMillis(maxDrainSeconds);
+        this.rateLimiter = new AdaptiveRateLimiter(initialRate, minRate, maxRate, 1.0);
+
+        this.deletedCounter = Counter.builder("s3.deletion.deleted").register(meterRegistry);
+        this.failedCounter = Counter.builder("s3.deletion.failed").register(meterRegistry);
+        this.throttledCounter = Counter.builder("s3.deletion.throttled").register(meterRegistry);
+        this.batchTimer = Timer.builder("s3.deletion.batch").register(meterRegistry);
+        meterRegistry.gauge("s3.deletion.due", due);
+        meterRegistry.gauge("s3.deletion.rate", rateLimiter, AdaptiveRateLimiter::currentRate);
+    }
+
+    @Scheduled(fixedDelayString = "${s3.deletion.poll-interval-ms:5000}")
+    public void poll() {
+        if (!draining.compareAndSet(false, true)) return; // 이전 처리가 아직 진행 중
+        try {
+            drainExecutor.execute(() -> {
+                try {
+                    drain();
+                } finally {
+                    draining.set(false);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            draining.set(false);
+            log.warn("⚠️ S3 삭제 outbox 처리 시작 실패 - 다음 주기에 다시 시도", e);
+        }
+    }
+
+    void drain() {
+        long deadline = System.currentTimeMillis() + maxDrainMillis;
+        int limit = batchSize * parallelism;
+        try {
+            while (System.currentTimeMillis() < deadline) {
+                List<ClaimedDeletion> claimed = outboxService.claim(limit);
+                if (claimed.isEmpty()) break;
+
+                List<CompletableFuture<Void>> inFlight = new ArrayList<>();
+                for (int i = 0; i < claimed.size(); i += batchSize) {
+                    List<ClaimedDeletion> batch = claimed.subList(i, Math.min(i + batchSize, claimed.size()));
+                    inFlight.add(CompletableFuture.runAsync(() -> deleteBatch(batch), executor));
+                }
+                CompletableFuture.allOf(inFlight.toArray(CompletableFuture[]::new)).join();
+
+                if (claimed.size() < limit) break;
+            }
+        } catch (Exception e) {
+            // 처리하지 못한 행은 lease 만료 후 다시 가져감
+            log.error("❌ S3 삭제 outbox 처리 중 예외 발생", e);
+        } finally {
+            due.set(outboxService.countDue());
+        }
+    }
+
+    private void deleteBatch(List<ClaimedDeletion> batch) {
+        try {
+            rateLimiter.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        List<String> keys = batch.stream().map(ClaimedDeletion::objectKey).toList();
+        long start = System.nanoTime();
+        BatchDeleteResult result = s3ObjectDeleter.deleteObjects(keys);
+        batchTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        if (result.throttled()) {
+            rateLimiter.onThrottle();
+            throttledCounter.increment();
+            log.warn("🐢 S3 삭제 속도 제한 응답 - 초당 요청 수를 {}로 낮춤", rateLimiter.currentRate());
+        } else {
+            rateLimiter.onSuccess();
+        }
+
+        List<Long> succeeded = new ArrayList<>();
+        Map<Long, String> failed = new HashMap<>();
+        for (ClaimedDeletion deletion : batch) {
+            String error = result.failedKeys().get(deletion.objectKey());
+            if (error == null) {
+                succeeded.add(deletion.id());
+            } else {
+                failed.put(deletion.id(), error);
+            }
+        }
+
+        outboxService.complete(succeeded);
+        outboxService.retryLater(failed);
+        deletedCounter.increment(succeeded.size());
+        failedCounter.increment(failed.size());
+    }
+}
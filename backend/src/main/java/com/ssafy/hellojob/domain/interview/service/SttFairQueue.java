@@ -0,0 +1,149 @@
+package com.ssafy.hellojob.domain.interview.service;
+
+import com.ssafy.hellojob.domain.interview.dto.request.SttRequest;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 사용자별 공정 STT 대기열
+// - 사용자마다 FIFO 큐를 두고, 꺼낼 때는 사용자 단위로 라운드로빈 → 한 사용자가 몰아넣어도 다른 사용자가 밀리지 않음
+// - 전체 용량 / 사용자별 용량 제한으로 유입 제어
+// - close() 이후에는 새 요청을 받지 않고, 남은 요청만 꺼내갈 수 있음
+public class SttFairQueue {
+
+    public record QueuedSttRequest(SttRequest request, long enqueuedAtNanos) {
+    }
+
+    public enum OfferResult {
+        ACCEPTED, QUEUE_FULL, USER_LIMIT_EXCEEDED, CLOSED
+    }
+
+    private final int capacity;
+    private final int perUserLimit;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+
+    private final Map<Integer, Deque<QueuedSttRequest>> userQueues = new HashMap<>();
+    private final Deque<Integer> readyUsers = new ArrayDeque<>(); // 대기 중인 요청이 있는 사용자 (라운드로빈 순서)
+    private int size = 0;
+    private boolean closed = false;
+
+    public SttFairQueue(int capacity, int perUserLimit) {
+        this.capacity = capacity;
+        this.perUserLimit = perUserLimit;
+    }
+
+    // 전체 용량이 찰 경우 timeout 만큼만 대기, 사용자별 한도 초과는 즉시 거절
+    public OfferResult offer(SttRequest request, long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            Integer userId = request.getUserId();
+            while (true) {
+                if (closed) return OfferResult.CLOSED;
+                Deque<QueuedSttRequest> userQueue = userQueues.get(userId);
+                if (userQueue != null && userQueue.size() >= perUserLimit) return OfferResult.USER_LIMIT_EXCEEDED;
+                if (size < capacity) break;
+                if (nanos <= 0) return OfferResult.QUEUE_FULL;
+                nanos = notFull.awaitNanos(nanos);
+            }
+
+            Deque<QueuedSttRequest> userQueue = userQueues.computeIfAbsent(userId, k -> new ArrayDeque<>());
+            if (userQueue.isEmpty()) readyUsers.addLast(userId);
+            userQueue.addLast(new QueuedSttRequest(request, System.nanoTime()));
+            size++;
+            notEmpty.signal();
+            return OfferResult.ACCEPTED;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 요청이 없으면 timeout 동안 대기, 닫혔고 비어있으면 즉시 null (isClosed()로 종료 여부 구분)
+    public QueuedSttRequest poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (size == 0) {
+                if (closed || nanos <= 0) return null;
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+
+            Integer userId = readyUsers.pollFirst();
+            Deque<QueuedSttRequest> userQueue = userQueues.get(userId);
+            QueuedSttRequest next = userQueue.pollFirst();
+            if (userQueue.isEmpty()) {
+                userQueues.remove(userId);
+            } else {
+                readyUsers.addLast(userId); // 다음 차례는 다른 사용자
+            }
+            size--;
+            notFull.signal();
+            return next;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            notEmpty.signalAll();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean isClosed() {
+        lock.lock();
+        try {
+            return closed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 종료 시 처리하지 못한 요청 회수
+    public List<QueuedSttRequest> drainRemaining() {
+        lock.lock();
+        try {
+            List<QueuedSttRequest> remaining = new ArrayList<>(size);
+            userQueues.values().forEach(remaining::addAll);
+            userQueues.clear();
+            readyUsers.clear();
+            size = 0;
+            return remaining;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int userCount() {
+        lock.lock();
+        try {
+            return userQueues.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -1,14 +1,17 @@
 package com.ssafy.hellojob.domain.interview.service;
 
 import com.ssafy.hellojob.domain.interview.dto.request.SttRequest;
+import com.ssafy.hellojob.domain.interview.service.SttFairQueue.OfferResult;
 import com.ssafy.hellojob.global.exception.BaseException;
 import com.ssafy.hellojob.global.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.TimeUnit;
 
 @Slf4j
@@ -16,15 +19,30 @@ import java.util.concurrent.TimeUnit;
 @RequiredArgsConstructor
 public class SttQueueService {
 
-    private final BlockingQueue<SttRequest> sttRequestQueue;
+    private final SttFairQueue sttRequestQueue;
     private final InterviewAnswerSaveService interviewAnswerSaveService;
+    private final MeterRegistry meterRegistry;
+
+    @PostConstruct
+    public void registerMetrics() {
+        Gauge.builder("stt.queue.depth", sttRequestQueue, SttFairQueue::size)
+                .description("STT 대기 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("stt.queue.users", sttRequestQueue, SttFairQueue::userCount)
+                .description("STT 대기 요청이 있는 사용자 수")
+                .register(meterRegistry);
+    }
 
     public void submitRequest(SttRequest request) {
         log.debug("😎 큐에 stt 요청 offer 시작");
         try {
-            boolean success = sttRequestQueue.offer(request, 5, TimeUnit.SECONDS);
-            if (!success) {
-                log.warn("❌ STT 큐가 가득 차서 요청을 넣지 못했습니다");
+            OfferResult result = sttRequestQueue.offer(request, 5, TimeUnit.SECONDS);
+            if (result != OfferResult.ACCEPTED) {
+                log.warn("❌ STT 큐에 요청을 넣지 못했습니다 - userId={}, 사유={}", request.getUserId(), result);
+                Counter.builder("stt.queue.rejected")
+                        .tag("reason", result.name())
+                        .register(meterRegistry)
+                        .increment();
                 throw new BaseException(ErrorCode.STT_QUEUE_FULL);
             }
         } catch (InterruptedException e) {
@@ -35,11 +53,4 @@ public class SttQueueService {
         }
     }
 
-
-    // SttQueueService.java
-    @PostConstruct
-    public void logQueueInstance() {
-        log.info("🧪 SttQueueService queue instance: {}", sttRequestQueue);
-    }
-
 }
@@ -1,89 +1,82 @@
 package com.ssafy.hellojob.domain.interview.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.ByteArrayResource;
-import org.springframework.core.io.Resource;
-import org.springframework.http.*;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.MultipartBodyBuilder;
 import org.springframework.stereotype.Service;
-import org.springframework.util.LinkedMultiValueMap;
-import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class SttService {
 
-    private final InterviewReadService interviewReadService;
-
-
-    @Value("${OPENAI_API_URL}")
-    private String openAiUrl;
+    private static final String STT_FAIL_MESSAGE = "stt 변환에 실패했습니다";
 
-    @Value("${OPENAI_API_KEY}")
-    private String openAiKey;
+    private final InterviewReadService interviewReadService;
+    private final WebClient sttWebClient;
+    private final MeterRegistry meterRegistry;
+
+    public SttService(InterviewReadService interviewReadService,
+                      @Qualifier("sttWebClient") WebClient sttWebClient,
+                      MeterRegistry meterRegistry) {
+        this.interviewReadService = interviewReadService;
+        this.sttWebClient = sttWebClient;
+        this.meterRegistry = meterRegistry;
+    }
 
-    public String transcribeAudioSync(Integer interviewAnswerId, byte[] fileBytes, String originalFilename) {
+    // spool 파일을 그대로 multipart 본문으로 흘려보냄 (힙에 오디오 전체를 올리지 않음)
+    // 워커 스레드 전용 동기 호출
+    public String transcribeAudioSync(Integer interviewAnswerId, Path audioPath) {
+        long start = System.nanoTime();
+        String outcome = "error";
         try {
-            if (fileBytes.length > 25 * 1024 * 1024) {
-                return "stt 변환에 실패했습니다";
+            if (Files.size(audioPath) > 25 * 1024 * 1024) {
+                outcome = "too_large";
+                return STT_FAIL_MESSAGE;
             }
 
             interviewReadService.findInterviewAnswerByIdOrElseThrow(interviewAnswerId);
 
-            Resource audioResource = new ByteArrayResource(fileBytes) {
-                @Override
-                public String getFilename() {
-                    return originalFilename;
-                }
-            };
-
-            RestTemplate restTemplate = createTimeoutRestTemplate();
+            MultipartBodyBuilder body = new MultipartBodyBuilder();
+            body.part("file", new FileSystemResource(audioPath));
+            body.part("model", "gpt-4o-transcribe");
+            body.part("language", "ko");
 
-            MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
-            body.add("file", audioResource);
-            body.add("model", "gpt-4o-transcribe");
-            body.add("language", "ko");
+            JsonNode root = sttWebClient.post()
+                    .contentType(MediaType.MULTIPART_FORM_DATA)
+                    .body(BodyInserters.fromMultipartData(body.build()))
+                    .retrieve()
+                    .bodyToMono(JsonNode.class)
+                    .block();
 
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.MULTIPART_FORM_DATA);
-            headers.setBearerAuth(openAiKey);
-
-            HttpEntity<MultiValueMap<String, Object>> requestEntity = new HttpEntity<>(body, headers);
-
-            ResponseEntity<String> response = restTemplate.exchange(
-                    openAiUrl, HttpMethod.POST, requestEntity, String.class);
-
-            if (response.getStatusCode().is2xxSuccessful()) {
-                ObjectMapper objectMapper = new ObjectMapper();
-                JsonNode root = objectMapper.readTree(response.getBody());
-                String text = root.has("text") && !root.get("text").isNull()
-                        ? root.get("text").asText()
-                        : "stt 변환에 실패했습니다";
-                log.debug("😎 stt 변환 결과: {}", text);
-                return text;
-            } else {
-                return "stt 변환에 실패했습니다";
+            if (root == null || !root.has("text") || root.get("text").isNull()) {
+                return STT_FAIL_MESSAGE;
             }
+            String text = root.get("text").asText();
+            outcome = "success";
+            log.debug("😎 stt 변환 결과: {}", text);
+            return text;
 
         } catch (Exception e) {
             log.warn("❗ STT 처리 실패", e);
-            return "stt 변환에 실패했습니다";
+            return STT_FAIL_MESSAGE;
+        } finally {
+            Timer.builder("stt.openai.request")
+                    .description("OpenAI transcription 호출 시간")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
         }
     }
 
-    private RestTemplate createTimeoutRestTemplate() {
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        factory.setConnectTimeout(3000);  // 연결 시도 최대 3초
-        factory.setReadTimeout(20000);    // 응답 대기 최대 20초
-        return new RestTemplate(factory);
-    }
-
-
-
 }
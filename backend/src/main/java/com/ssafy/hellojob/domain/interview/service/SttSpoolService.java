@@ -0,0 +1,96 @@
+package com.ssafy.hellojob.domain.interview.service;
+
+import com.ssafy.hellojob.domain.interview.dto.request.SttRequest;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+// STT 오디오 spool 디렉토리 관리
+// - 파일명: {userId}_{interviewAnswerId}_{uuid}{확장자} → 재시작 시 파일명만으로 요청 복구
+// - 쓰는 중인 파일은 .part로 두었다가 완료 후 rename (복구 시 반쯤 쓰인 파일을 집지 않도록)
+@Slf4j
+@Service
+public class SttSpoolService {
+
+    private static final String PART_SUFFIX = ".part";
+
+    private final Path spoolDir;
+
+    public SttSpoolService(@Value("${stt.spool.dir:${java.io.tmpdir}/hellojob-stt-spool}") String spoolDir) {
+        this.spoolDir = Paths.get(spoolDir);
+    }
+
+    @PostConstruct
+    public void init() throws IOException {
+        Files.createDirectories(spoolDir);
+        log.info("🗂️ STT spool 디렉토리: {}", spoolDir.toAbsolutePath());
+    }
+
+    // 업로드 파일을 메모리에 올리지 않고 spool 디렉토리로 바로 옮김
+    public SttRequest spool(MultipartFile audioFile, Integer userId, Integer interviewAnswerId) throws IOException {
+        String originalFilename = audioFile.getOriginalFilename();
+        String fileName = userId + "_" + interviewAnswerId + "_" + UUID.randomUUID() + extractExtension(originalFilename);
+
+        Path partFile = spoolDir.resolve(fileName + PART_SUFFIX);
+        Path audioPath = spoolDir.resolve(fileName);
+        try {
+            audioFile.transferTo(partFile);
+            Files.move(partFile, audioPath, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            Files.deleteIfExists(partFile);
+            throw e;
+        }
+        return new SttRequest(interviewAnswerId, audioPath, originalFilename, userId);
+    }
+
+    // 재시작 전에 처리하지 못한 요청 복구
+    public List<SttRequest> recover() {
+        List<SttRequest> recovered = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(spoolDir)) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                if (fileName.endsWith(PART_SUFFIX)) {
+                    Files.deleteIfExists(file); // 업로드 도중 종료된 파일
+                    continue;
+                }
+                String[] parts = fileName.split("_", 3);
+                try {
+                    recovered.add(new SttRequest(
+                            Integer.valueOf(parts[1]), file, fileName, Integer.valueOf(parts[0])));
+                } catch (RuntimeException e) {
+                    log.warn("⚠️ spool 파일명 해석 실패, 건너뜀: {}", fileName);
+                }
+            }
+        } catch (IOException e) {
+            log.error("❌ STT spool 디렉토리 스캔 실패", e);
+        }
+        return recovered;
+    }
+
+    public void delete(SttRequest request) {
+        try {
+            Files.deleteIfExists(request.getAudioPath());
+        } catch (IOException e) {
+            log.warn("⚠️ spool 파일 삭제 실패: {}", request.getAudioPath(), e);
+        }
+    }
+
+    private String extractExtension(String originalFilename) {
+        if (originalFilename == null || !originalFilename.contains(".")) return ".webm";
+        String extension = originalFilename.substring(originalFilename.lastIndexOf("."));
+        // 파일명에 경로 문자 등이 섞여 들어오는 경우 방지
+        return extension.matches("\\.[A-Za-z0-9]{1,10}") ? extension : ".webm";
+    }
+}
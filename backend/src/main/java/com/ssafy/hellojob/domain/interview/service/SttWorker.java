@@ -1,71 +1,151 @@
 package com.ssafy.hellojob.domain.interview.service;
 
 import com.ssafy.hellojob.domain.interview.dto.request.SttRequest;
-import jakarta.annotation.PostConstruct;
+import com.ssafy.hellojob.domain.interview.service.SttFairQueue.OfferResult;
+import com.ssafy.hellojob.domain.interview.service.SttFairQueue.QueuedSttRequest;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.util.concurrent.BlockingQueue;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class SttWorker implements InitializingBean {
+public class SttWorker implements InitializingBean, DisposableBean {
 
-    private final BlockingQueue<SttRequest> sttRequestQueue;
+    private final SttFairQueue sttRequestQueue;
     private final SttService sttService;
     private final InterviewAnswerSaveService interviewAnswerSaveService;
+    private final SttSpoolService sttSpoolService;
+    private final MeterRegistry meterRegistry;
 
+    @Value("${stt.worker.count:4}")
+    private int workerCount;
 
-    // SttWorker.java
-    @PostConstruct
-    public void logQueueInstance() {
-        log.info("🧪 SttWorker queue instance: {}", sttRequestQueue);
-    }
+    @Value("${stt.worker.drain-timeout-seconds:30}")
+    private long drainTimeoutSeconds;
 
+    private ExecutorService workers;
+    private Timer waitTimer;
+    private Timer processingTimer;
 
     @Override
     public void afterPropertiesSet() {
-        log.info("🚀 STT 워커 초기화 시작");
-        Thread workerThread = new Thread(() -> {
-            log.info("🧵 STT 워커 스레드 시작됨");
-            while (true) {
-                try {
-                    SttRequest request = sttRequestQueue.take();
-                    log.info("📥 STT 요청 처리 시작: {}", request.getInterviewAnswerId());
-
-                    String result;
-                    try {
-                        result = sttService.transcribeAudioSync(
-                                request.getInterviewAnswerId(),
-                                request.getFileBytes(),
-                                request.getOriginalFilename()
-                        );
-                    } catch (Exception sttException) {
-                        log.error("❌ STT 변환 중 내부 예외", sttException);
-                        result = "stt 변환에 실패했습니다";  // 실패 메시지 fallback
-                    }
-
-                    try {
-                        interviewAnswerSaveService.saveInterviewAnswer(
-                                request.getUserId(), result, request.getInterviewAnswerId());
-                    } catch (Exception saveException) {
-                        log.error("❌ 답변 저장 중 예외 발생", saveException);
-                    }
-
-                } catch (Exception e) {
-                    log.error("❌ 큐에서 요청 take 실패", e);
-                    // request 객체가 없으므로 여기선 save 못 함
+        log.info("🚀 STT 워커 초기화 시작 - 워커 수={}", workerCount);
+        waitTimer = Timer.builder("stt.queue.wait")
+                .description("STT 요청이 큐에서 대기한 시간")
+                .register(meterRegistry);
+        processingTimer = Timer.builder("stt.processing")
+                .description("STT 변환 + 답변 저장 시간")
+                .register(meterRegistry);
+
+        AtomicInteger sequence = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(workerCount, runnable -> {
+            Thread thread = new Thread(runnable, "SttWorkerThread-" + sequence.incrementAndGet());
+            thread.setDaemon(true); // Spring 종료 시 같이 종료
+            return thread;
+        });
+        for (int i = 0; i < workerCount; i++) {
+            workers.execute(this::runWorker);
+        }
+
+        recoverSpooledRequests();
+    }
+
+    // 재시작 전 spool에 남아있던 요청 다시 적재
+    private void recoverSpooledRequests() {
+        List<SttRequest> recovered = sttSpoolService.recover();
+        if (recovered.isEmpty()) return;
+
+        log.info("♻️ spool에 남은 STT 요청 복구 - {}건", recovered.size());
+        for (SttRequest request : recovered) {
+            try {
+                OfferResult result = sttRequestQueue.offer(request, 0, TimeUnit.SECONDS);
+                if (result != OfferResult.ACCEPTED) {
+                    // 파일은 남겨두고 다음 기동 때 다시 시도
+                    log.warn("⚠️ 복구 요청 적재 실패 - interviewAnswerId={}, 사유={}", request.getInterviewAnswerId(), result);
                 }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
 
+    private void runWorker() {
+        log.info("🧵 STT 워커 스레드 시작됨");
+        while (true) {
+            QueuedSttRequest queued;
+            try {
+                queued = sttRequestQueue.poll(1, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("❌ 큐에서 요청 take 실패", e);
+                // request 객체가 없으므로 여기선 save 못 함
+                continue;
             }
-        });
 
-        workerThread.setDaemon(true); // Spring 종료 시 같이 종료
-        workerThread.setName("SttWorkerThread");
-        workerThread.start();
+            if (queued == null) {
+                // 닫힌 뒤 비어있으면 poll이 대기 없이 null을 반환하므로 여기서 종료 (계속 돌면 busy-spin)
+                if (Thread.currentThread().isInterrupted() || sttRequestQueue.isClosed()) {
+                    log.info("🧵 STT 워커 스레드 종료");
+                    return;
+                }
+                continue;
+            }
+            waitTimer.record(System.nanoTime() - queued.enqueuedAtNanos(), TimeUnit.NANOSECONDS);
+            processingTimer.record(() -> process(queued.request()));
+        }
     }
-}
 
+    private void process(SttRequest request) {
+        log.info("📥 STT 요청 처리 시작: {}", request.getInterviewAnswerId());
+
+        String result;
+        try {
+            result = sttService.transcribeAudioSync(
+                    request.getInterviewAnswerId(),
+                    request.getAudioPath()
+            );
+        } catch (Exception sttException) {
+            log.error("❌ STT 변환 중 내부 예외", sttException);
+            result = "stt 변환에 실패했습니다";  // 실패 메시지 fallback
+        }
+
+        try {
+            interviewAnswerSaveService.saveInterviewAnswer(
+                    request.getUserId(), result, request.getInterviewAnswerId());
+        } catch (Exception saveException) {
+            // spool 파일은 남겨두고 다음 기동 때 recoverSpooledRequests에서 다시 처리
+            log.error("❌ 답변 저장 중 예외 발생 - spool 파일 유지: {}", request.getAudioPath(), saveException);
+            return;
+        }
+        sttSpoolService.delete(request); // 저장이 끝난 뒤에만 삭제
+    }
+
+    // 종료 시: 신규 요청 차단 → 남은 요청 처리 대기 → 시간 초과 시 남은 요청은 spool에 남겨 다음 기동 때 복구
+    @Override
+    public void destroy() throws InterruptedException {
+        log.info("🛑 STT 워커 종료 시작 - 남은 요청={}", sttRequestQueue.size());
+        sttRequestQueue.close();
+        workers.shutdown();
+        if (!workers.awaitTermination(drainTimeoutSeconds, TimeUnit.SECONDS)) {
+            workers.shutdownNow();
+        }
+
+        List<QueuedSttRequest> remaining = sttRequestQueue.drainRemaining();
+        log.info("🛑 STT 워커 종료 완료 - spool에 남긴 요청={}", remaining.size());
+    }
+}
@@ -0,0 +1,46 @@
+package com.ssafy.hellojob.domain.interview.storage;
+
+import java.util.concurrent.TimeUnit;
+
+// AIMD 방식 요청 속도 제한
+// - acquire: 현재 속도(초당 요청 수)에 맞춰 다음 슬롯까지 대기
+// - 성공하면 조금씩 올리고(additive increase), 속도 제한 응답을 받으면 절반으로 내림(multiplicative decrease)
+public class AdaptiveRateLimiter {
+
+    private final double minRate;
+    private final double maxRate;
+    private final double increaseStep;
+
+    private double rate;
+    private long nextFreeNanos = System.nanoTime();
+
+    public AdaptiveRateLimiter(double initialRate, double minRate, double maxRate, double increaseStep) {
+        this.minRate = minRate;
+        this.maxRate = maxRate;
+        this.increaseStep = increaseStep;
+        this.rate = Math.max(minRate, Math.min(maxRate, initialRate));
+    }
+
+    public void acquire() throws InterruptedException {
+        long waitNanos;
+        synchronized (this) {
+            long now = System.nanoTime();
+            long slot = Math.max(now, nextFreeNanos);
+            nextFreeNanos = slot + (long) (TimeUnit.SECONDS.toNanos(1) / rate);
+            waitNanos = slot - now;
+        }
+        if (waitNanos > 0) TimeUnit.NANOSECONDS.sleep(waitNanos);
+    }
+
+    public synchronized void onSuccess() {
+        rate = Math.min(maxRate, rate + increaseStep);
+    }
+
+    public synchronized void onThrottle() {
+        rate = Math.max(minRate, rate / 2);
+    }
+
+    public synchronized double currentRate() {
+        return rate;
+    }
+}
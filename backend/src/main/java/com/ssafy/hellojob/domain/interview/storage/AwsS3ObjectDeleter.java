@@ -0,0 +1,76 @@
+package com.ssafy.hellojob.domain.interview.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.Delete;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.S3Error;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Slf4j
+public class AwsS3ObjectDeleter implements S3ObjectDeleter {
+
+    // 속도 제한/일시 장애로 보고 전송 속도를 낮출 오류 코드
+    private static final Set<String> THROTTLE_CODES = Set.of("SlowDown", "ServiceUnavailable", "InternalError");
+
+    private final S3Client s3Client;
+    private final String bucketName;
+
+    public AwsS3ObjectDeleter(S3Client s3Client, String bucketName) {
+        this.s3Client = s3Client;
+        this.bucketName = bucketName;
+    }
+
+    @Override
+    public BatchDeleteResult deleteObjects(List<String> keys) {
+        if (keys.isEmpty()) return BatchDeleteResult.success();
+        if (keys.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("batch size exceeds " + MAX_BATCH_SIZE + ": " + keys.size());
+        }
+
+        List<ObjectIdentifier> objects = keys.stream()
+                .map(key -> ObjectIdentifier.builder().key(key).build())
+                .toList();
+
+        DeleteObjectsRequest request = DeleteObjectsRequest.builder()
+                .bucket(bucketName)
+                .delete(Delete.builder().objects(objects).quiet(true).build()) // 실패한 key만 응답에 포함
+                .build();
+
+        try {
+            DeleteObjectsResponse response = s3Client.deleteObjects(request);
+            if (response.errors().isEmpty()) return BatchDeleteResult.success();
+
+            Map<String, String> failed = new HashMap<>();
+            boolean throttled = false;
+            for (S3Error error : response.errors()) {
+                failed.put(error.key(), error.code());
+                throttled |= THROTTLE_CODES.contains(error.code());
+            }
+            log.warn("⚠️ S3 배치 삭제 일부 실패 - {}/{}개, 예: {}", failed.size(), keys.size(),
+                    response.errors().get(0).message());
+            return new BatchDeleteResult(failed, throttled);
+
+        } catch (S3Exception e) {
+            String code = e.awsErrorDetails() != null ? e.awsErrorDetails().errorCode() : String.valueOf(e.statusCode());
+            log.warn("⚠️ S3 배치 삭제 요청 실패 - {}개, code={}", keys.size(), code);
+            return allFailed(keys, code, e.statusCode() == 503 || THROTTLE_CODES.contains(code));
+        } catch (Exception e) {
+            log.warn("⚠️ S3 배치 삭제 요청 실패 - {}개, 원인={}", keys.size(), e.getMessage());
+            return allFailed(keys, e.getClass().getSimpleName(), false);
+        }
+    }
+
+    private BatchDeleteResult allFailed(List<String> keys, String code, boolean throttled) {
+        Map<String, String> failed = new HashMap<>();
+        keys.forEach(key -> failed.put(key, code));
+        return new BatchDeleteResult(failed, throttled);
+    }
+}
@@ -0,0 +1,66 @@
+package com.ssafy.hellojob.domain.interview.storage;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 메모리 기반 S3 대역 (로컬 실행/테스트용)
+// - put 으로 넣어둔 key를 삭제 요청 시 제거, 없는 key 삭제는 실제 S3처럼 성공 처리
+// - failNext / throttleNext 로 부분 실패, 속도 제한 응답을 재현
+public class LocalS3ObjectDeleter implements S3ObjectDeleter {
+
+    private final Set<String> objects = ConcurrentHashMap.newKeySet();
+    private final Map<String, String> failures = new ConcurrentHashMap<>();
+    private final AtomicInteger throttledRequests = new AtomicInteger();
+    private final AtomicInteger requestCount = new AtomicInteger();
+
+    public void put(String key) {
+        objects.add(key);
+    }
+
+    public boolean exists(String key) {
+        return objects.contains(key);
+    }
+
+    // 다음 삭제 요청에서 해당 key만 실패 (한 번)
+    public void failNext(String key, String errorCode) {
+        failures.put(key, errorCode);
+    }
+
+    // 다음 n번의 요청을 SlowDown 으로 통째로 거절
+    public void throttleNext(int requests) {
+        throttledRequests.set(requests);
+    }
+
+    public int requestCount() {
+        return requestCount.get();
+    }
+
+    @Override
+    public BatchDeleteResult deleteObjects(List<String> keys) {
+        if (keys.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("batch size exceeds " + MAX_BATCH_SIZE + ": " + keys.size());
+        }
+        requestCount.incrementAndGet();
+
+        if (throttledRequests.getAndUpdate(n -> Math.max(0, n - 1)) > 0) {
+            Map<String, String> failed = new HashMap<>();
+            keys.forEach(key -> failed.put(key, "SlowDown"));
+            return new BatchDeleteResult(failed, true);
+        }
+
+        Map<String, String> failed = new HashMap<>();
+        for (String key : keys) {
+            String errorCode = failures.remove(key);
+            if (errorCode != null) {
+                failed.put(key, errorCode);
+            } else {
+                objects.remove(key);
+            }
+        }
+        return failed.isEmpty() ? BatchDeleteResult.success() : new BatchDeleteResult(failed, false);
+    }
+}
@@ -0,0 +1,23 @@
+package com.ssafy.hellojob.domain.interview.storage;
+
+import java.util.List;
+import java.util.Map;
+
+// S3 객체 일괄 삭제
+// 운영에서는 AwsS3ObjectDeleter, 로컬/테스트에서는 LocalS3ObjectDeleter (s3.deletion.store=local)
+public interface S3ObjectDeleter {
+
+    // DeleteObjects 한 번에 보낼 수 있는 최대 key 수
+    int MAX_BATCH_SIZE = 1000;
+
+    // 실패한 key만 돌려줌 (예외를 던지지 않음)
+    BatchDeleteResult deleteObjects(List<String> keys);
+
+    // failedKeys: key → 오류 코드, throttled: S3가 요청 속도를 낮추라고 응답한 경우
+    record BatchDeleteResult(Map<String, String> failedKeys, boolean throttled) {
+
+        public static BatchDeleteResult success() {
+            return new BatchDeleteResult(Map.of(), false);
+        }
+    }
+}
@@ -13,7 +13,12 @@ import lombok.NoArgsConstructor;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "job_role_analysis")
+@Table(name = "job_role_analysis", indexes = {
+        // 기업별 검색: 공개 글 (카테고리 지정 시 / 미지정 시), 내 비공개 글 각각 인덱스 순서대로 최신 N개를 읽고 멈춤
+        @Index(name = "idx_job_role_analysis_company_public_updated", columnList = "company_id, public, updated_at"),
+        @Index(name = "idx_job_role_analysis_company_public_category_updated", columnList = "company_id, public, job_role_category, updated_at"),
+        @Index(name = "idx_job_role_analysis_user_company_public_updated", columnList = "user_id, company_id, public, updated_at")
+})
 public class JobRoleAnalysis extends BaseTimeEntity {
 
     @Id
@@ -10,7 +10,9 @@ import lombok.NoArgsConstructor;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "job_role_analysis_bookmark")
+@Table(name = "job_role_analysis_bookmark", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_job_role_analysis_bookmark_user_analysis", columnNames = {"user_id", "job_role_analysis_id"})
+})
 public class JobRoleAnalysisBookmark {
 
     @Id
@@ -4,10 +4,15 @@ import com.ssafy.hellojob.domain.jobroleanalysis.entity.JobRoleAnalysis;
 import com.ssafy.hellojob.domain.jobroleanalysis.entity.JobRoleAnalysisBookmark;
 import com.ssafy.hellojob.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public interface JobRoleAnalysisBookmarkRepository extends JpaRepository<JobRoleAnalysisBookmark, Integer> {
@@ -20,4 +25,42 @@ public interface JobRoleAnalysisBookmarkRepository extends JpaRepository<JobRole
 
     List<JobRoleAnalysisBookmark> findByUserAndJobRoleAnalysis_Company_CompanyId(User user, Integer companyId);
 
+    // 검색 결과에 대한 북마크 여부를 한 번에 조회
+    @Query("""
+            SELECT b.jobRoleAnalysis.jobRoleAnalysisId
+            FROM JobRoleAnalysisBookmark b
+            WHERE b.user.userId = :userId
+              AND b.jobRoleAnalysis.jobRoleAnalysisId IN :jobRoleAnalysisIds
+            """)
+    Set<Integer> findBookmarkedAnalysisIds(@Param("userId") Integer userId,
+                                           @Param("jobRoleAnalysisIds") Collection<Integer> jobRoleAnalysisIds);
+
+    @Query("""
+            SELECT b.jobRoleAnalysisBookmarkId
+            FROM JobRoleAnalysisBookmark b
+            WHERE b.user.userId = :userId
+              AND b.jobRoleAnalysis.jobRoleAnalysisId = :jobRoleAnalysisId
+            """)
+    Optional<Integer> findBookmarkId(@Param("userId") Integer userId,
+                                     @Param("jobRoleAnalysisId") Integer jobRoleAnalysisId);
+
+    // (user_id, job_role_analysis_id) unique 제약 기반 insert-or-ignore
+    // 새로 추가되면 1, 이미 있으면 0 반환 → 따닥 요청에도 중복 행/중복 카운트 없음
+    @Modifying
+    @Query(value = """
+            INSERT IGNORE INTO job_role_analysis_bookmark (user_id, job_role_analysis_id)
+            VALUES (:userId, :jobRoleAnalysisId)
+            """, nativeQuery = true)
+    int insertIgnore(@Param("userId") Integer userId, @Param("jobRoleAnalysisId") Integer jobRoleAnalysisId);
+
+    // 삭제된 행 수 반환 (없으면 0)
+    @Modifying
+    @Query("""
+            DELETE FROM JobRoleAnalysisBookmark b
+            WHERE b.user.userId = :userId
+              AND b.jobRoleAnalysis.jobRoleAnalysisId = :jobRoleAnalysisId
+            """)
+    int deleteByUserIdAndJobRoleAnalysisId(@Param("userId") Integer userId,
+                                           @Param("jobRoleAnalysisId") Integer jobRoleAnalysisId);
+
 }
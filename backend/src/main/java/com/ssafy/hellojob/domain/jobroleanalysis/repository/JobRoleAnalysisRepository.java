@@ -2,16 +2,27 @@ package com.ssafy.hellojob.domain.jobroleanalysis.repository;
 
 import com.ssafy.hellojob.domain.jobroleanalysis.entity.JobRoleAnalysis;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface JobRoleAnalysisRepository extends JpaRepository<JobRoleAnalysis, Integer> {
+public interface JobRoleAnalysisRepository extends JpaRepository<JobRoleAnalysis, Integer>, JobRoleAnalysisSearchRepository {
 
     @Query("SELECT j.user.userId FROM JobRoleAnalysis j WHERE j.jobRoleAnalysisId = :jobRoleAnalysisId")
     Optional<Integer> findUserIdByJobRoleAnalysisId(@Param("jobRoleAnalysisId") Integer jobRoleAnalysisId);
 
+    // 북마크 수 증감 (read-modify-write 없이 한 문장으로 원자적으로 반영)
+    @Modifying
+    @Query("""
+            UPDATE JobRoleAnalysis j
+            SET j.jobRoleBookmarkCount = j.jobRoleBookmarkCount + :delta
+            WHERE j.jobRoleAnalysisId = :jobRoleAnalysisId
+            """)
+    int addBookmarkCount(@Param("jobRoleAnalysisId") Integer jobRoleAnalysisId, @Param("delta") int delta);
+
 }
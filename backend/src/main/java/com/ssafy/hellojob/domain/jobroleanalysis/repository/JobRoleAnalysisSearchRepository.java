@@ -0,0 +1,14 @@
+package com.ssafy.hellojob.domain.jobroleanalysis.repository;
+
+import com.ssafy.hellojob.domain.jobroleanalysis.entity.JobRoleAnalysis;
+import com.ssafy.hellojob.domain.jobroleanalysis.entity.JobRoleCategory;
+
+import java.util.List;
+
+public interface JobRoleAnalysisSearchRepository {
+
+    // 기업별 직무 분석 검색 - 조회 가능한 글(공개 글 + 내 비공개 글) 중 최신 수정순 상위 limit 개
+    // 이름/제목은 앞부분 일치 LIKE 패턴, null 이면 해당 필터 생략
+    List<JobRoleAnalysis> searchByCompany(Integer companyId, Integer userId, JobRoleCategory category,
+                                          String namePrefix, String titlePrefix, int limit);
+}
@@ -0,0 +1,62 @@
+package com.ssafy.hellojob.domain.jobroleanalysis.repository;
+
+import com.ssafy.hellojob.domain.jobroleanalysis.entity.JobRoleAnalysis;
+import com.ssafy.hellojob.domain.jobroleanalysis.entity.JobRoleCategory;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+// 직무 분석 검색
+// - "공개 OR 내 글" 을 한 쿼리에 넣으면 인덱스 순서로 상위 N개를 읽을 수 없어 후보 전체를 filesort 함
+//   → 공개 글 / 내 비공개 글을 각각 인덱스 범위 쿼리로 LIMIT N 만큼 읽고 병합
+// - 필터는 값이 있는 것만 WHERE 에 넣음 (:x IS NULL OR ... 형태는 옵티마이저가 인덱스를 고르지 못함)
+// 인덱스: 공개 글 (company_id, public, [job_role_category,] updated_at) / 내 글 (user_id, company_id, public, updated_at)
+@RequiredArgsConstructor
+public class JobRoleAnalysisSearchRepositoryImpl implements JobRoleAnalysisSearchRepository {
+
+    private static final Comparator<JobRoleAnalysis> LATEST_FIRST =
+            Comparator.comparing(JobRoleAnalysis::getUpdatedAt)
+                    .thenComparing(JobRoleAnalysis::getJobRoleAnalysisId)
+                    .reversed();
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<JobRoleAnalysis> searchByCompany(Integer companyId, Integer userId, JobRoleCategory category,
+                                                 String namePrefix, String titlePrefix, int limit) {
+        List<JobRoleAnalysis> result = new ArrayList<>(
+                find(companyId, null, category, namePrefix, titlePrefix, limit));
+        result.addAll(find(companyId, userId, category, namePrefix, titlePrefix, limit));
+
+        result.sort(LATEST_FIRST);
+        return result.size() > limit ? result.subList(0, limit) : result;
+    }
+
+    // ownerId 가 null 이면 공개 글, 아니면 해당 사용자의 비공개 글
+    private List<JobRoleAnalysis> find(Integer companyId, Integer ownerId, JobRoleCategory category,
+                                       String namePrefix, String titlePrefix, int limit) {
+        StringBuilder jpql = new StringBuilder("SELECT j FROM JobRoleAnalysis j WHERE ");
+        if (ownerId == null) {
+            jpql.append("j.company.companyId = :companyId AND j.isPublic = true");
+        } else {
+            jpql.append("j.user.userId = :ownerId AND j.company.companyId = :companyId AND j.isPublic = false");
+        }
+        if (category != null) jpql.append(" AND j.jobRoleCategory = :category");
+        if (namePrefix != null) jpql.append(" AND j.jobRoleName LIKE :namePrefix ESCAPE '!'");
+        if (titlePrefix != null) jpql.append(" AND j.jobRoleTitle LIKE :titlePrefix ESCAPE '!'");
+        jpql.append(" ORDER BY j.updatedAt DESC, j.jobRoleAnalysisId DESC");
+
+        TypedQuery<JobRoleAnalysis> query = entityManager.createQuery(jpql.toString(), JobRoleAnalysis.class)
+                .setParameter("companyId", companyId)
+                .setMaxResults(limit);
+        if (ownerId != null) query.setParameter("ownerId", ownerId);
+        if (category != null) query.setParameter("category", category);
+        if (namePrefix != null) query.setParameter("namePrefix", namePrefix);
+        if (titlePrefix != null) query.setParameter("titlePrefix", titlePrefix);
+        return query.getResultList();
+    }
+}
@@ -13,6 +13,8 @@ import com.ssafy.hellojob.domain.jobroleanalysis.repository.JobRoleAnalysisBookm
 import com.ssafy.hellojob.domain.jobroleanalysis.repository.JobRoleAnalysisRepository;
 import com.ssafy.hellojob.domain.user.entity.User;
 import com.ssafy.hellojob.domain.user.service.UserReadService;
+import com.ssafy.hellojob.global.common.viewcount.ViewCountService;
+import com.ssafy.hellojob.global.common.viewcount.ViewCountTarget;
 import com.ssafy.hellojob.global.exception.BaseException;
 import com.ssafy.hellojob.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
@@ -21,10 +23,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -36,6 +36,9 @@ public class JobRoleAnalysisService {
     private final UserReadService userReadService;
     private final CompanyReadService companyReadService;
     private final JobRoleAnalysisReadService jobRoleAnalysisReadService;
+    private final ViewCountService viewCountService;
+
+    private static final int SEARCH_LIMIT = 10;
 
     // 직무 분석 데이터 저장
     @Transactional
@@ -72,7 +75,7 @@ public class JobRoleAnalysisService {
     }
 
     // 직무 분석 상세 조회
-    @Transactional
+    @Transactional(readOnly = true)
     public JobRoleAnalysisDetailResponseDto searchJobRoleAnalysis(Integer userId, Integer jobRoleAnalysisId) {
 
         // 유저 정보 조회
@@ -92,9 +95,10 @@ public class JobRoleAnalysisService {
 
         boolean isWrittenByMe = userId.equals(jobRoleAnalysis.getUser().getUserId());
 
-        // 조회수 +1
-        jobRoleAnalysis.setJobRoleViewCount(jobRoleAnalysis.getJobRoleViewCount() + 1);
-        jobRoleAnalysisRepository.save(jobRoleAnalysis); // 업데이트 반영
+        // 조회수 +1 (메모리에 모았다가 주기적으로 DB 반영)
+        viewCountService.increment(ViewCountTarget.JOB_ROLE_ANALYSIS, jobRoleAnalysisId);
+        long viewCount = jobRoleAnalysis.getJobRoleViewCount()
+                + viewCountService.pendingCount(ViewCountTarget.JOB_ROLE_ANALYSIS, jobRoleAnalysisId);
 
         // ResponseDto에 담아서 리턴 (반영된 조회수로)
         return JobRoleAnalysisDetailResponseDto.builder()
@@ -107,7 +111,7 @@ public class JobRoleAnalysisService {
                 .jobRoleRequirements(jobRoleAnalysis.getJobRoleRequirements())
                 .jobRolePreferences(jobRoleAnalysis.getJobRolePreferences())
                 .jobRoleEtc(jobRoleAnalysis.getJobRoleEtc())
-                .jobRoleViewCount(jobRoleAnalysis.getJobRoleViewCount())
+                .jobRoleViewCount((int) viewCount)
                 .isPublic(jobRoleAnalysis.isPublic())
                 .jobRoleCategory(jobRoleAnalysis.getJobRoleCategory())
                 .createdAt(jobRoleAnalysis.getCreatedAt())
@@ -120,68 +124,38 @@ public class JobRoleAnalysisService {
 
 
     // 북마크 추가
+    // unique 제약 기반 insert-or-ignore → 새로 추가된 경우에만 북마크 수 +1 (중복 요청은 기존 정보 반환)
     @Transactional
     public JobRoleAnalysisBookmarkSaveResponseDto addJobRoleBookmark(Integer userId, JobRoleAnalysisBookmarkSaveRequestDto requestDto) {
-        
-        // 유저 정보 조회
-        User user = userReadService.findUserByIdOrElseThrow(userId);
-        
-        // 직무 분석 데이터 조회
-        JobRoleAnalysis jobRoleAnalysis = jobRoleAnalysisReadService.findJobRoleAnalysisById(requestDto.getJobRoleAnalysisId());
 
-        // 현재 로그인한 유저가 해당 직무 분석 데이터 북마크 했는지 확인
-        boolean alreadyBookmarked = jobRoleAnalysisBookmarkRepository.existsByUserAndJobRoleAnalysis(user, jobRoleAnalysis);
+        Integer jobRoleAnalysisId = requestDto.getJobRoleAnalysisId();
 
-        // 이미 북마크된 경우 기존에 저장되어 있던 정보 반환(에러 처리 X)
-        if (alreadyBookmarked) {
-            JobRoleAnalysisBookmark existingBookmark = jobRoleAnalysisReadService.findJobRoleBookmarkAnalysisByUserAndJobRoleAnalysis(user, jobRoleAnalysis);
-            return JobRoleAnalysisBookmarkSaveResponseDto.builder()
-                    .jobRoleAnalysisBookmarkId(existingBookmark.getJobRoleAnalysisBookmarkId())
-                    .jobRoleAnalysisId(jobRoleAnalysis.getJobRoleAnalysisId())
-                    .build();
+        // 직무 분석 존재 여부 확인
+        if (!jobRoleAnalysisRepository.existsById(jobRoleAnalysisId)) {
+            throw new BaseException(ErrorCode.JOB_ROLE_ANALYSIS_NOT_FOUND);
         }
 
-        // 북마크 안 되어 있는 경우 새로 저장
-        JobRoleAnalysisBookmark newJobRoleAnalysisBookmark = JobRoleAnalysisBookmark.builder()
-                .user(user)
-                .jobRoleAnalysis(jobRoleAnalysis)
-                .build();
-
-        jobRoleAnalysisBookmarkRepository.save(newJobRoleAnalysisBookmark);
+        if (jobRoleAnalysisBookmarkRepository.insertIgnore(userId, jobRoleAnalysisId) == 1) {
+            jobRoleAnalysisRepository.addBookmarkCount(jobRoleAnalysisId, 1);
+        }
 
-        // 해당 직무 분석 데이터에 북마크 수 +1
-        jobRoleAnalysis.setJobRoleBookmarkCount(jobRoleAnalysis.getJobRoleBookmarkCount() + 1);
-        jobRoleAnalysisRepository.save(jobRoleAnalysis);
+        Integer bookmarkId = jobRoleAnalysisBookmarkRepository.findBookmarkId(userId, jobRoleAnalysisId)
+                .orElseThrow(() -> new BaseException(ErrorCode.JOB_ROLE_ANALYSIS_BOOKMARK_NOT_FOUND));
 
         return JobRoleAnalysisBookmarkSaveResponseDto.builder()
-                .jobRoleAnalysisBookmarkId(newJobRoleAnalysisBookmark.getJobRoleAnalysisBookmarkId())
-                .jobRoleAnalysisId(requestDto.getJobRoleAnalysisId())
+                .jobRoleAnalysisBookmarkId(bookmarkId)
+                .jobRoleAnalysisId(jobRoleAnalysisId)
                 .build();
     }
 
     // 북마크 삭제
+    // 본인 북마크만 삭제 대상이 되고, 실제로 삭제된 경우에만 북마크 수 -1 (중복 요청은 무시)
     @Transactional
     public void deleteJobRoleBookmark(Integer jobRoleAnalysisId, Integer userId) {
 
-        // 유저 조회
-        User user = userReadService.findUserByIdOrElseThrow(userId);
-
-        // 직무 분석 데이터 조회
-        JobRoleAnalysis jobRoleAnalysis = jobRoleAnalysisReadService.findJobRoleAnalysisById(jobRoleAnalysisId);
-
-        // 북마크 조회
-        JobRoleAnalysisBookmark bookmark = jobRoleAnalysisReadService.findJobRoleBookmarkAnalysisByUserAndJobRoleAnalysis(user, jobRoleAnalysis);
-
-        // 유저 아이디와 북마크에 저장된 유저 아이디가 같을 때 요청 실행
-        if(userId.equals(bookmark.getUser().getUserId())){
-            jobRoleAnalysisBookmarkRepository.delete(bookmark);
-        } else {
-            throw new BaseException(ErrorCode.INVALID_USER);
+        if (jobRoleAnalysisBookmarkRepository.deleteByUserIdAndJobRoleAnalysisId(userId, jobRoleAnalysisId) == 1) {
+            jobRoleAnalysisRepository.addBookmarkCount(jobRoleAnalysisId, -1);
         }
-
-        // 해당 직무 분석 데이터의 북마크 카운트 -1
-        jobRoleAnalysis.setJobRoleBookmarkCount(jobRoleAnalysis.getJobRoleBookmarkCount() - 1);
-        jobRoleAnalysisRepository.save(jobRoleAnalysis);
     }
 
     // 해당 유저가 북마크한 모든 직무 분석 리스트 출력(마이페이지에서)
@@ -231,8 +205,8 @@ public class JobRoleAnalysisService {
         // 유저 정보 조회
         User user = userReadService.findUserByIdOrElseThrow(userId);
 
-        // 기업 정보 조회
-        companyReadService.findCompanyByIdOrElseThrow(companyId);
+        // 기업 정보 조회 (모든 결과가 같은 기업이므로 기업명은 여기서 한 번만)
+        Company company = companyReadService.findCompanyByIdOrElseThrow(companyId);
 
         // 이 유저가 북마크한 모든 직무 분석 리스트 가져오기
         List<JobRoleAnalysisBookmark> bookmarkList = jobRoleAnalysisBookmarkRepository.findByUserAndJobRoleAnalysis_Company_CompanyId(user, companyId);
@@ -251,7 +225,7 @@ public class JobRoleAnalysisService {
             result.add(JobRoleAnalysisListResponseDto.builder()
                     .jobRoleAnalysisBookmarkId(bookmark.getJobRoleAnalysisBookmarkId())
                     .jobRoleAnalysisId(jobRoleAnalysis.getJobRoleAnalysisId())
-                    .companyName(companyReadService.getCompanyNameByCompanyId(companyId))
+                    .companyName(company.getCompanyName())
                     .jobRoleName(jobRoleAnalysis.getJobRoleName())
                     .jobRoleAnalysisTitle(jobRoleAnalysis.getJobRoleTitle())
                     .jobRoleCategory(jobRoleAnalysis.getJobRoleCategory().name()) // enum을 문자열로
@@ -272,45 +246,25 @@ public class JobRoleAnalysisService {
     public List<JobRoleAnalysisSearchListResponseDto> searchJobRoleAnalysis(Integer userId, Integer companyId, JobRoleAnalysisSearchCondition condition) {
 
         // 유저 정보 조회
-        User user = userReadService.findUserByIdOrElseThrow(userId);
+        userReadService.validateUserExists(userId);
 
-        // 기업 정보 조회
-        companyReadService.findCompanyByIdOrElseThrow(companyId);
+        // 기업 정보 조회 (모든 결과가 같은 기업이므로 기업명은 여기서 한 번만)
+        Company company = companyReadService.findCompanyByIdOrElseThrow(companyId);
 
-        // 이 유저의 북마크 정보 조회
-        List<JobRoleAnalysisBookmark> bookmarkList = jobRoleAnalysisBookmarkRepository.findAllByUser(user);
+        // 필터/정렬/상위 10개는 DB에서 처리
+        List<JobRoleAnalysis> jobRoleAnalysisList = jobRoleAnalysisRepository.searchByCompany(
+                companyId,
+                userId,
+                condition.getJobRoleCategory(),
+                toPrefixPattern(condition.getJobRoleName()),
+                toPrefixPattern(condition.getJobRoleTitle()),
+                SEARCH_LIMIT);
 
-        // 북마크한 jobRoleAnalysisId 별도 관리
-        Set<Integer> bookmarkedAnalysisIds = bookmarkList.stream()
-                .map(bookmark -> bookmark.getJobRoleAnalysis().getJobRoleAnalysisId())
-                .collect(Collectors.toSet());
+        if (jobRoleAnalysisList.isEmpty()) return List.of();
 
-        // companyId로 소속된 모든 직무 분석 조회
-        List<JobRoleAnalysis> jobRoleAnalysisList = jobRoleAnalysisRepository.findAll().stream()
-                .filter(analysis -> analysis.getCompany().getCompanyId().equals(companyId)) // companyId 일치
-                .filter(analysis ->
-                        analysis.isPublic() || analysis.getUser().getUserId().equals(userId))
-                .filter(analysis -> {
-                    if (condition.getJobRoleName() != null && !condition.getJobRoleName().isEmpty()) {
-                        return analysis.getJobRoleName().startsWith(condition.getJobRoleName()); // jobRoleName이 시작하는 경우
-                    }
-                    return true; // 조건 없으면 통과
-                })
-                .filter(analysis -> {
-                    if (condition.getJobRoleTitle() != null && !condition.getJobRoleTitle().isEmpty()) {
-                        return analysis.getJobRoleTitle().startsWith(condition.getJobRoleTitle()); // jobRoleTitle이 시작하는 경우
-                    }
-                    return true; // 조건 없으면 통과
-                })
-                .filter(analysis -> {
-                    if (condition.getJobRoleCategory() != null) {
-                        return analysis.getJobRoleCategory() == condition.getJobRoleCategory(); // 카테고리 정확 매칭
-                    }
-                    return true; // 조건 없으면 통과
-                })
-                .sorted(Comparator.comparing(JobRoleAnalysis::getUpdatedAt).reversed()) // 최신순 정렬
-                .limit(10) // 최대 10개만
-                .toList();
+        // 결과 10건에 대해서만 북마크 여부 조회
+        Set<Integer> bookmarkedAnalysisIds = jobRoleAnalysisBookmarkRepository.findBookmarkedAnalysisIds(
+                userId, jobRoleAnalysisList.stream().map(JobRoleAnalysis::getJobRoleAnalysisId).toList());
 
         // 3. 결과를 변환
         List<JobRoleAnalysisSearchListResponseDto> result = new ArrayList<>();
@@ -318,7 +272,7 @@ public class JobRoleAnalysisService {
         for (JobRoleAnalysis jobRoleAnalysis : jobRoleAnalysisList) {
             result.add(JobRoleAnalysisSearchListResponseDto.builder()
                     .jobRoleAnalysisId(jobRoleAnalysis.getJobRoleAnalysisId())
-                    .companyName(companyReadService.getCompanyNameByCompanyId(companyId))
+                    .companyName(company.getCompanyName())
                     .jobRoleName(jobRoleAnalysis.getJobRoleName())
                     .jobRoleAnalysisTitle(jobRoleAnalysis.getJobRoleTitle())
                     .jobRoleCategory(jobRoleAnalysis.getJobRoleCategory().name()) // enum -> 문자열
@@ -334,26 +288,29 @@ public class JobRoleAnalysisService {
         return result;
     }
 
+    // 앞부분 일치 LIKE 패턴 (입력에 섞인 %, _ 는 와일드카드로 해석되지 않도록 escape)
+    private String toPrefixPattern(String prefix) {
+        if (prefix == null || prefix.isEmpty()) return null;
+        return prefix.replace("!", "!!").replace("%", "!%").replace("_", "!_") + "%";
+    }
+
     // 유저가 작성한 직무 분석 데이터 조회
     @Transactional(readOnly = true)
     public List<JobRoleAnalysisSearchListResponseDto> searchJobRoleAnalysisByUserId(Integer userId) {
 
         // 유저 조회
-        User user = userReadService.findUserByIdOrElseThrow(userId);
-
-        // 북마크 정보 조회
-        List<JobRoleAnalysisBookmark> bookmarkList = jobRoleAnalysisBookmarkRepository.findAllByUser(user);
-
-        // 북마크한 jobRoleAnalysisId만 따로 뽑아두기
-        Set<Integer> bookmarkedAnalysisIds = bookmarkList.stream()
-                .map(bookmark -> bookmark.getJobRoleAnalysis().getJobRoleAnalysisId())
-                .collect(Collectors.toSet());
+        userReadService.validateUserExists(userId);
 
         // userId 기반 직무 분석 데이터 조회
         List<JobRoleAnalysis> jobRoleAnalysisList = jobRoleAnalysisRepository.findAll().stream()
                 .filter(analysis -> userId.equals(analysis.getUser().getUserId()))
                 .toList();
 
+        // 조회된 분석 중 북마크한 jobRoleAnalysisId 조회
+        Set<Integer> bookmarkedAnalysisIds = jobRoleAnalysisList.isEmpty() ? Set.of()
+                : jobRoleAnalysisBookmarkRepository.findBookmarkedAnalysisIds(userId,
+                        jobRoleAnalysisList.stream().map(JobRoleAnalysis::getJobRoleAnalysisId).toList());
+
         // 결과를 변환
         List<JobRoleAnalysisSearchListResponseDto> result = new ArrayList<>();
 
@@ -379,7 +336,7 @@ public class JobRoleAnalysisService {
     public void deleteJobRoleAnalysis(Integer userId, Integer jobRoleAnalysisId){
 
         // 유저 조회
-        userReadService.findUserByIdOrElseThrow(userId);
+        userReadService.validateUserExists(userId);
 
         // 직무 분석 데이터 조회
         JobRoleAnalysis jobRoleAnalysis = jobRoleAnalysisReadService.findJobRoleAnalysisById(jobRoleAnalysisId);
@@ -397,7 +354,7 @@ public class JobRoleAnalysisService {
     public JobRoleAnalysisUpdateResponseDto updateJobRoleAnalysis(JobRoleAnalysisUpdateRequestDto requestDto, Integer userId) {
 
         // 유저 정보 조회
-        userReadService.findUserByIdOrElseThrow(userId);
+        userReadService.validateUserExists(userId);
 
         // 기업 정보 조회
         companyReadService.findCompanyByIdOrElseThrow(requestDto.getCompanyId());
@@ -42,7 +42,7 @@ public class JobRoleSnapshotService {
 
     @Transactional(readOnly = true)
     public JobRoleSnapshotResponseDto getJobRoleSnapshot(Integer userId, Integer jobRoleSnapshotId) {
-        userReadService.findUserByIdOrElseThrow(userId);
+        userReadService.validateUserExists(userId);
         return jobRoleSnapshotRepository.findByJobRoleSnapshotId(jobRoleSnapshotId)
                 .orElseThrow(() -> new BaseException(ErrorCode.JOB_ROLE_SNAPSHOT_NOT_FOUND));
     }
@@ -57,17 +57,17 @@ public class ProjectService {
     }
 
     public List<ProjectsResponseDto> getProjects(Integer userId) {
-        userReadService.findUserByIdOrElseThrow(userId);
+        userReadService.validateUserExists(userId);
         return projectRepository.findByUserId(userId);
     }
 
     public Page<ProjectsResponseDto> getProjectsPage(Integer userId, Pageable pageable) {
-        userReadService.findUserByIdOrElseThrow(userId);
+        userReadService.validateUserExists(userId);
         return projectRepository.findPageByUserId(userId, pageable);
     }
 
     public ProjectResponseDto getProject(Integer userId, Integer projectId) {
-        userReadService.findUserByIdOrElseThrow(userId);
+        userReadService.validateUserExists(userId);
         Project project = projectReadService.findProjectByIdOrElseThrow(projectId);
         projectReadService.checkProjectValidation(userId, project);
 
@@ -86,7 +86,7 @@ public class ProjectService {
     }
 
     public void updateProject(Integer userId, Integer projectId, ProjectRequestDto projectRequestDto) {
-        userReadService.findUserByIdOrElseThrow(userId);
+        userReadService.validateUserExists(userId);
         Project project = projectReadService.findProjectByIdOrElseThrow(projectId);
         projectReadService.checkProjectValidation(userId, project);
 
@@ -99,7 +99,7 @@ public class ProjectService {
     }
 
     public void removeProject(Integer userId, Integer projectId) {
-        userReadService.findUserByIdOrElseThrow(userId);
+        userReadService.validateUserExists(userId);
         Project project = projectReadService.findProjectByIdOrElseThrow(projectId);
         projectReadService.checkProjectValidation(userId, project);
 
@@ -90,7 +90,7 @@ public class ScheduleService {
     public void deleteSchedule(Integer scheduleId, Integer userId) {
 
         // 유저 정보 조회
-        userReadService.findUserByIdOrElseThrow(userId);
+        userReadService.validateUserExists(userId);
 
         // 스케줄 정보 조회
         Schedule schedule = scheduleRepository.findById(scheduleId)
@@ -109,7 +109,7 @@ public class ScheduleService {
     @Transactional
     public ScheduleIdResponseDto updateScheduleStatus(ScheduleUpdateScheduleStatusRequestDto requestDto, Integer scheduleId, Integer userId) {
         // 유저 정보 조회
-        userReadService.findUserByIdOrElseThrow(userId);
+        userReadService.validateUserExists(userId);
 
         // 스케줄 정보 조회
         Schedule schedule = scheduleRepository.findById(scheduleId)
@@ -140,7 +140,7 @@ public class ScheduleService {
     @Transactional
     public ScheduleIdResponseDto updateScheduleCoverLetter(ScheduleUpdateScheduleCoverLetterRequestDto requestDto, Integer scheduleId, Integer userId) {
         // 유저 정보 조회
-        userReadService.findUserByIdOrElseThrow(userId);
+        userReadService.validateUserExists(userId);
 
         // 스케줄 정보 조회
         Schedule schedule = scheduleRepository.findById(scheduleId)
@@ -168,7 +168,7 @@ public class ScheduleService {
     @Transactional
     public ScheduleIdResponseDto updateSchedule(ScheduleAddRequestDto requestDto, Integer scheduleId, Integer userId) {
         // 유저 조회
-        userReadService.findUserByIdOrElseThrow(userId);
+        userReadService.validateUserExists(userId);
 
         // 기존 스케줄 조회
         Schedule schedule = scheduleRepository.findById(scheduleId)
@@ -245,7 +245,7 @@ public class ScheduleService {
     @Transactional(readOnly = true)
     public ScheduleDetailResponseDto detailSchedule(Integer scheduleId, Integer userId) {
 
-        userReadService.findUserByIdOrElseThrow(userId);
+        userReadService.validateUserExists(userId);
 
         Schedule schedule = scheduleRepository.findById(scheduleId)
                 .orElseThrow(() -> new BaseException(ErrorCode.SCHEDULE_NOT_FOUND));
@@ -0,0 +1,166 @@
+package com.ssafy.hellojob.domain.sse.bus;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+// 같은 JVM 안에서 동작하는 버스
+// 운영(단일 노드)에서는 노드 하나짜리 Network를, 테스트에서는 여러 노드를 하나의 Network에 join 시켜 클러스터처럼 사용
+// (마지막 소유 기록은 Redis처럼 재전송 보관 기간이 지나면 만료, 이관할 다른 노드가 없으면 release 시 바로 제거)
+public class LocalSseEventBus implements SseEventBus {
+
+    private static final int INBOX_CAPACITY = 100;
+    private static final long CONNECTED = Long.MAX_VALUE; // 연결 중인 소유 노드는 만료 없음
+
+    private record Owner(String nodeId, long expiresAt) {
+        boolean isExpired(long now) {
+            return expiresAt <= now;
+        }
+    }
+
+    public static class Network {
+        private final Map<String, LocalSseEventBus> nodes = new ConcurrentHashMap<>();
+        private final Map<Integer, Owner> owners = new ConcurrentHashMap<>();
+        private final Map<Integer, Deque<SseBusMessage>> inboxes = new ConcurrentHashMap<>();
+        private final long lastOwnerTtlMillis;
+
+        public Network() {
+            this(Duration.ofMinutes(30));
+        }
+
+        public Network(Duration lastOwnerTtl) {
+            this.lastOwnerTtlMillis = lastOwnerTtl.toMillis();
+        }
+
+        public LocalSseEventBus join(String nodeId) {
+            return nodes.computeIfAbsent(nodeId, id -> new LocalSseEventBus(id, this));
+        }
+
+        public void leave(String nodeId) {
+            nodes.remove(nodeId);
+            owners.values().removeIf(owner -> owner.nodeId().equals(nodeId));
+        }
+
+        // 노드 장애: 더 이상 메시지를 받지 못하지만 소유 기록은 그대로 남음 (Redis TTL 만료 전 상태)
+        public void crash(String nodeId) {
+            nodes.remove(nodeId);
+        }
+
+        // 만료된 기록은 읽는 쪽에서 지움 (같은 기록일 때만 → 그 사이 다시 점유한 소유권은 유지)
+        private String liveOwner(Integer userId) {
+            Owner owner = owners.get(userId);
+            if (owner == null) return null;
+            if (owner.isExpired(System.currentTimeMillis())) {
+                owners.remove(userId, owner);
+                return null;
+            }
+            return owner.nodeId();
+        }
+    }
+
+    private final String nodeId;
+    private final Network network;
+    private volatile Consumer<SseBusMessage> listener = message -> {
+    };
+
+    private LocalSseEventBus(String nodeId, Network network) {
+        this.nodeId = nodeId;
+        this.network = network;
+    }
+
+    @Override
+    public String nodeId() {
+        return nodeId;
+    }
+
+    @Override
+    public String ownerOf(Integer userId) {
+        return network.liveOwner(userId);
+    }
+
+    @Override
+    public String adopt(Integer userId) {
+        long now = System.currentTimeMillis();
+        return network.owners.compute(userId, (key, owner) ->
+                (owner != null && !owner.isExpired(now)) ? owner : new Owner(nodeId, now + network.lastOwnerTtlMillis)
+        ).nodeId();
+    }
+
+    @Override
+    public void claim(Integer userId, long lastEventId) {
+        Owner previous = network.owners.put(userId, new Owner(nodeId, CONNECTED));
+        if (previous != null && !previous.isExpired(System.currentTimeMillis()) && !previous.nodeId().equals(nodeId)) {
+            send(previous.nodeId(), SseBusMessage.claim(userId, lastEventId, nodeId));
+        }
+    }
+
+    @Override
+    public void release(Integer userId) {
+        long now = System.currentTimeMillis();
+        network.owners.computeIfPresent(userId, (key, owner) -> {
+            if (!owner.nodeId().equals(nodeId)) return owner; // 다른 노드가 이미 가져간 소유권
+            // 이관받을 다른 노드가 없으면 기록을 남길 이유가 없음 (단일 노드 운영)
+            if (network.nodes.size() <= 1) return null;
+            return new Owner(nodeId, now + network.lastOwnerTtlMillis);
+        });
+    }
+
+    @Override
+    public void publish(Integer userId, List<SseBusMessage> events) {
+        network.inboxes.compute(userId, (key, inbox) -> {
+            Deque<SseBusMessage> target = (inbox != null) ? inbox : new ArrayDeque<>();
+            for (SseBusMessage event : events) {
+                if (target.size() >= INBOX_CAPACITY) target.pollFirst();
+                target.addLast(event);
+            }
+            return target;
+        });
+        String owner = network.liveOwner(userId);
+        if (owner != null) send(owner, SseBusMessage.notify(userId, nodeId));
+    }
+
+    @Override
+    public List<SseBusMessage> drain(Integer userId) {
+        Deque<SseBusMessage> inbox = network.inboxes.remove(userId);
+        return (inbox != null) ? new ArrayList<>(inbox) : List.of();
+    }
+
+    @Override
+    public Set<Integer> pendingInboxes(Collection<Integer> userIds) {
+        Set<Integer> pending = new HashSet<>();
+        for (Integer userId : userIds) {
+            if (network.inboxes.containsKey(userId)) pending.add(userId);
+        }
+        return pending;
+    }
+
+    @Override
+    public void send(String targetNodeId, SseBusMessage message) {
+        LocalSseEventBus target = network.nodes.get(targetNodeId);
+        if (target != null) {
+            target.listener.accept(message);
+        }
+    }
+
+    @Override
+    public void setListener(Consumer<SseBusMessage> listener) {
+        this.listener = listener;
+    }
+
+    // 다시 조회되지 않은 채 만료된 마지막 소유 기록 정리
+    @Scheduled(fixedRate = 60_000)
+    public void evictExpiredOwners() {
+        long now = System.currentTimeMillis();
+        network.owners.values().removeIf(owner -> owner.isExpired(now));
+    }
+}
@@ -0,0 +1,204 @@
+package com.ssafy.hellojob.domain.sse.bus;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+// Redis 기반 버스
+// - sse:owner:{userId} = 소유 노드 id (연결 중에는 짧은 TTL을 주기적으로 연장, 연결이 끊기면 재전송 보관 기간만큼 유지)
+// - sse:inbox:{userId} = 다른 노드에서 보낸 이벤트 (list, 용량/TTL 제한) → pub/sub이 유실돼도 남아 있음
+// - sse:node:{nodeId} 채널로 노드 지정 전달 (NOTIFY/CLAIM/ACK)
+@Slf4j
+public class RedisSseEventBus implements SseEventBus {
+
+    private static final String OWNER_KEY_PREFIX = "sse:owner:";
+    private static final String INBOX_KEY_PREFIX = "sse:inbox:";
+    private static final String NODE_CHANNEL_PREFIX = "sse:node:";
+    private static final Duration OWNER_TTL = Duration.ofMinutes(3);
+
+    // 내 소유일 때만 만료 시간을 마지막 소유 보관 기간으로 변경 (다른 노드가 이미 가져간 소유권은 건드리지 않음)
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end",
+            Long.class);
+
+    // 소유 노드가 없으면 나를 기록, 현재 소유 노드 반환
+    private static final RedisScript<String> ADOPT_SCRIPT = new DefaultRedisScript<>(
+            "local owner = redis.call('get', KEYS[1]) "
+                    + "if owner then return owner end "
+                    + "redis.call('set', KEYS[1], ARGV[1], 'PX', ARGV[2]) "
+                    + "return ARGV[1]",
+            String.class);
+
+    // 나를 소유 노드로 기록하면서 TTL까지 한 번에 지정, 이전 소유 노드 반환
+    // (GETSET 후 EXPIRE를 따로 보내면 그 사이 장애 시 TTL 없는 소유 기록이 남음)
+    private static final RedisScript<String> CLAIM_SCRIPT = new DefaultRedisScript<>(
+            "local previous = redis.call('get', KEYS[1]) "
+                    + "redis.call('set', KEYS[1], ARGV[1], 'PX', ARGV[2]) "
+                    + "return previous",
+            String.class);
+
+    // inbox 추가 + 용량/TTL 제한, 소유 노드 반환 (KEYS: inbox, owner / ARGV: 용량, TTL(ms), 메시지...)
+    private static final RedisScript<String> PUBLISH_SCRIPT = new DefaultRedisScript<>(
+            "for i = 3, #ARGV do redis.call('rpush', KEYS[1], ARGV[i]) end "
+                    + "redis.call('ltrim', KEYS[1], -tonumber(ARGV[1]), -1) "
+                    + "redis.call('pexpire', KEYS[1], ARGV[2]) "
+                    + "return redis.call('get', KEYS[2])",
+            String.class);
+
+    // inbox 전체를 꺼내고 삭제 (동시에 꺼내도 한 노드만 받음)
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> DRAIN_SCRIPT = new DefaultRedisScript<>(
+            "local events = redis.call('lrange', KEYS[1], 0, -1) "
+                    + "redis.call('del', KEYS[1]) "
+                    + "return events",
+            List.class);
+
+    private final String nodeId;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final Duration lastOwnerTtl;
+    private final int inboxCapacity;
+    private final Set<Integer> ownedUsers = ConcurrentHashMap.newKeySet();
+
+    public RedisSseEventBus(String nodeId, StringRedisTemplate redisTemplate,
+                            RedisMessageListenerContainer listenerContainer,
+                            Duration lastOwnerTtl, int inboxCapacity) {
+        this.nodeId = nodeId;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.lastOwnerTtl = lastOwnerTtl;
+        this.inboxCapacity = inboxCapacity;
+    }
+
+    @Override
+    public String nodeId() {
+        return nodeId;
+    }
+
+    @Override
+    public String ownerOf(Integer userId) {
+        return redisTemplate.opsForValue().get(ownerKey(userId));
+    }
+
+    @Override
+    public String adopt(Integer userId) {
+        return redisTemplate.execute(ADOPT_SCRIPT, List.of(ownerKey(userId)),
+                nodeId, String.valueOf(lastOwnerTtl.toMillis()));
+    }
+
+    @Override
+    public void claim(Integer userId, long lastEventId) {
+        ownedUsers.add(userId);
+        String previous = redisTemplate.execute(CLAIM_SCRIPT, List.of(ownerKey(userId)),
+                nodeId, String.valueOf(OWNER_TTL.toMillis()));
+        if (previous != null && !previous.equals(nodeId)) {
+            send(previous, SseBusMessage.claim(userId, lastEventId, nodeId));
+        }
+    }
+
+    @Override
+    public void release(Integer userId) {
+        ownedUsers.remove(userId);
+        redisTemplate.execute(RELEASE_SCRIPT, List.of(ownerKey(userId)), nodeId, String.valueOf(lastOwnerTtl.toMillis()));
+    }
+
+    @Override
+    public void publish(Integer userId, List<SseBusMessage> events) {
+        if (events.isEmpty()) return;
+        List<String> args = new ArrayList<>(events.size() + 2);
+        args.add(String.valueOf(inboxCapacity));
+        args.add(String.valueOf(lastOwnerTtl.toMillis()));
+        for (SseBusMessage event : events) {
+            args.add(event.encode());
+        }
+        String owner = redisTemplate.execute(PUBLISH_SCRIPT, List.of(inboxKey(userId), ownerKey(userId)), args.toArray());
+        if (owner != null) send(owner, SseBusMessage.notify(userId, nodeId));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<SseBusMessage> drain(Integer userId) {
+        List<String> raw = redisTemplate.execute(DRAIN_SCRIPT, List.of(inboxKey(userId)));
+        if (raw == null || raw.isEmpty()) return List.of();
+        List<SseBusMessage> events = new ArrayList<>(raw.size());
+        for (String encoded : raw) {
+            try {
+                events.add(SseBusMessage.decode(encoded));
+            } catch (Exception e) {
+                log.warn("❌ SSE inbox 메시지 해석 실패 - userId={}, 원인={}", userId, e.getMessage());
+            }
+        }
+        return events;
+    }
+
+    // EXISTS를 파이프라인 한 번으로 확인 (비어 있는 inbox마다 DRAIN 스크립트를 보내지 않도록)
+    @Override
+    public Set<Integer> pendingInboxes(Collection<Integer> userIds) {
+        if (userIds.isEmpty()) return Set.of();
+        List<Integer> targets = List.copyOf(userIds);
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) (RedisConnection connection) -> {
+            for (Integer userId : targets) {
+                connection.keyCommands().exists(inboxKey(userId).getBytes(StandardCharsets.UTF_8));
+            }
+            return null;
+        });
+        Set<Integer> pending = new HashSet<>();
+        for (int i = 0; i < targets.size(); i++) {
+            if (Boolean.TRUE.equals(results.get(i))) pending.add(targets.get(i));
+        }
+        return pending;
+    }
+
+    @Override
+    public void send(String targetNodeId, SseBusMessage message) {
+        redisTemplate.convertAndSend(NODE_CHANNEL_PREFIX + targetNodeId, message.encode());
+    }
+
+    @Override
+    public void setListener(Consumer<SseBusMessage> listener) {
+        listenerContainer.addMessageListener((message, pattern) -> {
+            try {
+                listener.accept(SseBusMessage.decode(new String(message.getBody(), StandardCharsets.UTF_8)));
+            } catch (Exception e) {
+                log.warn("❌ SSE 버스 메시지 처리 실패 - 원인={}", e.getMessage());
+            }
+        }, new ChannelTopic(NODE_CHANNEL_PREFIX + nodeId));
+    }
+
+    // 연결 중인 사용자의 소유권 TTL 연장 (파이프라인 한 번)
+    @Scheduled(fixedRate = 60_000)
+    public void refreshOwnership() {
+        if (ownedUsers.isEmpty()) return;
+        long ttlSeconds = OWNER_TTL.getSeconds();
+        redisTemplate.executePipelined((RedisCallback<Object>) (RedisConnection connection) -> {
+            for (Integer userId : ownedUsers) {
+                connection.keyCommands().expire(ownerKey(userId).getBytes(StandardCharsets.UTF_8), ttlSeconds);
+            }
+            return null;
+        });
+    }
+
+    private String ownerKey(Integer userId) {
+        return OWNER_KEY_PREFIX + userId;
+    }
+
+    private String inboxKey(Integer userId) {
+        return INBOX_KEY_PREFIX + userId;
+    }
+}
@@ -0,0 +1,58 @@
+package com.ssafy.hellojob.domain.sse.bus;
+
+// 노드 간 전달 메시지
+// dataJson은 이미 직렬화된 문자열이므로 다시 JSON으로 감싸지 않고 구분자 기반으로만 인코딩
+public record SseBusMessage(Type type, Integer userId, long eventId, String originNodeId,
+                            String eventName, String dataJson) {
+
+    public enum Type {
+        EVENT,  // 이벤트 전달 (eventId > 0 이면 다른 노드에서 이관된 이벤트) - 사용자 inbox에 보관됨
+        ACK,    // 클라이언트 ACK 전달
+        CLAIM,  // 사용자 소유 노드 변경 알림 (eventId = 클라이언트의 Last-Event-ID)
+        NOTIFY  // 사용자 inbox에 이벤트가 들어왔음을 소유 노드에 알림
+    }
+
+    private static final char DELIMITER = '|';
+
+    public static SseBusMessage event(Integer userId, long eventId, String originNodeId, String eventName, String dataJson) {
+        return new SseBusMessage(Type.EVENT, userId, eventId, originNodeId, eventName, dataJson);
+    }
+
+    public static SseBusMessage ack(Integer userId, long eventId, String originNodeId) {
+        return new SseBusMessage(Type.ACK, userId, eventId, originNodeId, "", "");
+    }
+
+    public static SseBusMessage claim(Integer userId, long lastEventId, String originNodeId) {
+        return new SseBusMessage(Type.CLAIM, userId, lastEventId, originNodeId, "", "");
+    }
+
+    public static SseBusMessage notify(Integer userId, String originNodeId) {
+        return new SseBusMessage(Type.NOTIFY, userId, 0L, originNodeId, "", "");
+    }
+
+    // TYPE|userId|eventId|originNodeId|eventName|dataJson (dataJson은 마지막이라 구분자 포함 가능)
+    public String encode() {
+        return new StringBuilder(64 + dataJson.length())
+                .append(type.name()).append(DELIMITER)
+                .append(userId).append(DELIMITER)
+                .append(eventId).append(DELIMITER)
+                .append(originNodeId).append(DELIMITER)
+                .append(eventName).append(DELIMITER)
+                .append(dataJson)
+                .toString();
+    }
+
+    public static SseBusMessage decode(String raw) {
+        String[] parts = raw.split("\\|", 6);
+        if (parts.length != 6) {
+            throw new IllegalArgumentException("잘못된 SSE 버스 메시지: " + raw);
+        }
+        return new SseBusMessage(
+                Type.valueOf(parts[0]),
+                Integer.valueOf(parts[1]),
+                Long.parseLong(parts[2]),
+                parts[3],
+                parts[4],
+                parts[5]);
+    }
+}
@@ -0,0 +1,42 @@
+package com.ssafy.hellojob.domain.sse.bus;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+// 노드 간 SSE 이벤트 전달 SPI
+// - 사용자의 SseEmitter가 붙어있는 노드(소유 노드)를 기록하고, 다른 노드에서 발생한 이벤트를 그 노드로 전달
+// - 연결이 끊겨도 소유 기록은 재전송 보관 기간 동안 "마지막 소유 노드"로 남음 → 재접속한 노드가 그 노드에 이관 요청
+// - 이벤트는 사용자별 inbox에 쌓고 소유 노드에는 알림만 보냄 (소유 노드가 죽어 알림이 유실돼도 재접속한 노드가 inbox에서 꺼냄)
+// - 구현: LocalSseEventBus(단일 JVM), RedisSseEventBus(Redis)
+public interface SseEventBus {
+
+    String nodeId();
+
+    // 사용자의 (마지막) 소유 노드 id (기록이 없으면 null)
+    String ownerOf(Integer userId);
+
+    // 소유 노드가 없으면 이 노드를 마지막 소유 노드로 기록 (연결 없는 사용자의 이벤트를 보관할 노드 지정)
+    // return: 현재 소유 노드 id
+    String adopt(Integer userId);
+
+    // 이 노드를 사용자 소유 노드로 등록하고 이전 소유 노드에 알림 (이전 노드는 보관 중인 이벤트를 이관)
+    void claim(Integer userId, long lastEventId);
+
+    // 이 노드의 마지막 연결이 끊겼을 때: 소유 기록을 재전송 보관 기간 동안만 유지 (이관받을 노드가 없으면 바로 제거해도 됨)
+    void release(Integer userId);
+
+    // 사용자 inbox에 이벤트를 넣고 소유 노드에 NOTIFY
+    void publish(Integer userId, List<SseBusMessage> events);
+
+    // inbox에 쌓인 이벤트를 꺼냄 (여러 노드가 동시에 호출해도 한 번만 꺼내짐)
+    List<SseBusMessage> drain(Integer userId);
+
+    // 주어진 사용자 중 inbox에 이벤트가 남아 있는 사용자만 (NOTIFY 유실 점검용, 사용자마다 drain하지 않도록 한 번에 확인)
+    Set<Integer> pendingInboxes(Collection<Integer> userIds);
+
+    void send(String targetNodeId, SseBusMessage message);
+
+    void setListener(Consumer<SseBusMessage> listener);
+}
@@ -2,6 +2,7 @@ package com.ssafy.hellojob.domain.sse.controller;
 
 import com.ssafy.hellojob.domain.sse.dto.AckRequestDto;
 import com.ssafy.hellojob.domain.sse.service.SSEService;
+import com.ssafy.hellojob.domain.sse.service.SseConnection;
 import com.ssafy.hellojob.global.auth.token.UserPrincipal;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -21,7 +22,8 @@ public class SSEController {
     private final SSEService sseService;
 
     @GetMapping(value = "/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public SseEmitter subscribe(@AuthenticationPrincipal UserPrincipal principal) {
+    public SseEmitter subscribe(@AuthenticationPrincipal UserPrincipal principal,
+                                @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
         if (principal == null || principal.getUserId() == null) {
             log.warn("❌ 인증되지 않은 사용자 SSE 요청");
             throw new AccessDeniedException("SSE 연결 전 인증 필요");
@@ -30,8 +32,8 @@ public class SSEController {
         log.debug("✅ SSE 연결 성공 userId={}", userId);
         SseEmitter emitter = new SseEmitter(60 * 1000L * 5); // 5분 유지
 
-        sseService.addEmitter(userId, emitter);
-        sseService.replayQueuedEvents(userId, emitter);
+        SseConnection connection = sseService.addEmitter(userId, emitter);
+        sseService.replayQueuedEvents(connection, parseLastEventId(lastEventId));
 
         return emitter;
     }
@@ -44,4 +46,14 @@ public class SSEController {
         sseService.removeTargetEvent(userId, dto);
         return ResponseEntity.noContent().build();
     }
+
+    private Long parseLastEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) return null;
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            log.debug("⚠️ 잘못된 Last-Event-ID 무시: {}", lastEventId);
+            return null;
+        }
+    }
 }
@@ -6,6 +6,7 @@ import java.util.Map;
 
 @Getter
 public class AckRequestDto {
+    private Long eventId;
     private String eventName;
     private Map<String, Object> data;
 }
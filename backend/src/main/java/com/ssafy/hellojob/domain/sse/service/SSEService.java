@@ -1,171 +1,295 @@
 package com.ssafy.hellojob.domain.sse.service;
 
+import com.ssafy.hellojob.domain.sse.bus.SseBusMessage;
+import com.ssafy.hellojob.domain.sse.bus.SseEventBus;
 import com.ssafy.hellojob.domain.sse.dto.AckRequestDto;
+import com.ssafy.hellojob.domain.sse.service.SseReplayBuffer.EvictionResult;
+import com.ssafy.hellojob.domain.sse.service.SseReplayBuffer.SseEventWrapper;
 import com.ssafy.hellojob.global.util.JsonUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Deque;
-import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
-import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class SSEService {
 
-    public record SseEventWrapper(String eventName, String dataJson) {
-    }
-
-    private final Map<Integer, Deque<SseEmitter>> emitters = new ConcurrentHashMap<>();
+    private final Map<Integer, Deque<SseConnection>> emitters = new ConcurrentHashMap<>();
     private final int MAX_EMITTERS_PER_USER = 3;
-    private final Map<Integer, Queue<SseEventWrapper>> retryQueue = new ConcurrentHashMap<>();
+    private final Map<Integer, SseReplayBuffer> retryQueue = new ConcurrentHashMap<>();
     private final JsonUtil jsonUtil;
+    private final MeterRegistry meterRegistry;
+    private final SseDispatcher sseDispatcher;
+    private final SseHeartbeatScheduler sseHeartbeatScheduler;
+    private final SseEventBus sseEventBus;
+
+    // 재시작 후에도 Last-Event-ID가 역전되지 않도록 현재 시각 기준으로 시작
+    private final AtomicLong eventSequence = new AtomicLong(System.currentTimeMillis() * 1_000);
+
+    @Value("${sse.replay.capacity:50}")
+    private int replayCapacity;
+
+    @Value("${sse.replay.ttl-seconds:1800}")
+    private long replayTtlSeconds;
+
+    private Counter capacityEvictedCounter;
+    private Counter ttlEvictedCounter;
+    private Counter ackedCounter;
+    private Counter replayedCounter;
+    private Counter busForwardedCounter;
+    private Counter busReceivedCounter;
 
-    public void addEmitter(Integer userId, SseEmitter emitter) {
+    @PostConstruct
+    public void registerMetrics() {
+        Gauge.builder("sse.replay.users", retryQueue, Map::size)
+                .description("재전송 버퍼를 가진 사용자 수")
+                .register(meterRegistry);
+        Gauge.builder("sse.replay.events", retryQueue,
+                        queues -> queues.values().stream().mapToInt(SseReplayBuffer::size).sum())
+                .description("재전송 버퍼에 보관 중인 이벤트 수")
+                .register(meterRegistry);
+        Gauge.builder("sse.replay.bytes", retryQueue,
+                        queues -> queues.values().stream().mapToLong(SseReplayBuffer::bytes).sum())
+                .description("재전송 버퍼 추정 메모리 사용량")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        capacityEvictedCounter = Counter.builder("sse.replay.evicted").tag("reason", "capacity").register(meterRegistry);
+        ttlEvictedCounter = Counter.builder("sse.replay.evicted").tag("reason", "ttl").register(meterRegistry);
+        ackedCounter = Counter.builder("sse.replay.evicted").tag("reason", "ack").register(meterRegistry);
+        replayedCounter = Counter.builder("sse.replay.replayed").register(meterRegistry);
+        busForwardedCounter = Counter.builder("sse.bus.forwarded").register(meterRegistry);
+        busReceivedCounter = Counter.builder("sse.bus.received").register(meterRegistry);
+
+        sseEventBus.setListener(this::onBusMessage);
+    }
+
+    public SseConnection addEmitter(Integer userId, SseEmitter emitter) {
+        SseConnection connection = new SseConnection(userId, emitter, () -> removeEmitter(userId, emitter));
+        List<SseConnection> evicted = new ArrayList<>();
         emitters.compute(userId, (key, existingDeque ) -> {
-            Deque<SseEmitter> deque = (existingDeque != null) ? existingDeque : new ConcurrentLinkedDeque<>();
+            Deque<SseConnection> deque = (existingDeque != null) ? existingDeque : new ConcurrentLinkedDeque<>();
 
+            // 여기서는 꺼내기만 하고, 닫기는 compute 밖에서 (close → removeEmitter가 같은 키를 다시 갱신하므로)
             while (deque.size() >= MAX_EMITTERS_PER_USER) {
-                SseEmitter old = deque.pollFirst();
-                try {
-                    if (old != null) old.complete(); // 이전 연결 닫기
-                } catch (Exception e) {
-                    log.warn("이전 emitter 종료 중 에러: {}", e.getMessage());
-                }
+                SseConnection old = deque.pollFirst();
+                if (old != null) evicted.add(old);
             }
 
-            deque.addLast(emitter);
+            deque.addLast(connection);
             log.debug("🧷 emitter 추가됨 - userId={}, 현재 연결 수={}", userId, deque.size());
             return deque;
         });
+        for (SseConnection old : evicted) {
+            try {
+                old.close(null); // 이전 연결 닫기
+            } catch (Exception e) {
+                log.warn("이전 emitter 종료 중 에러: {}", e.getMessage());
+            }
+        }
+        sseHeartbeatScheduler.register(connection); // 연결 유지용 ping 대상 등록
 
         // 연결 종료 시 emitter 제거
         emitter.onCompletion(() -> {
             log.debug("SSE 연결 정상 종료");
-            removeEmitter(userId, emitter);
+            connection.detach();
         });
         emitter.onTimeout(() -> {
             log.debug("SSE 타임아웃으로 연결 종료");
-            removeEmitter(userId, emitter);
+            connection.detach();
         });
         emitter.onError(e -> {
             log.debug("SSE 연결 중 에러 발생 userId: {} | {} ", userId, e.getMessage());
-            removeEmitter(userId, emitter);
+            connection.detach();
         });
+        return connection;
     }
 
     private void removeEmitter(Integer userId, SseEmitter emitter) {
-        Deque<SseEmitter> deque = emitters.get(userId);
-        if (deque != null) {
-            deque.remove(emitter);
-            if (deque.isEmpty())
-                emitters.remove(userId);
+        Deque<SseConnection> remaining = emitters.computeIfPresent(userId, (key, deque) -> {
+            deque.removeIf(connection -> connection.getEmitter() == emitter);
+            return deque.isEmpty() ? null : deque;
+        });
+        if (remaining == null) {
+            // 이 노드의 마지막 연결 → 재전송 보관 기간 동안 마지막 소유 노드로만 남김 (그 사이 재접속했다면 다시 점유)
+            sseEventBus.release(userId);
+            if (emitters.containsKey(userId)) sseEventBus.claim(userId, 0L);
         }
     }
 
-    public Deque<SseEmitter> getEmitters(Integer userId) {
+    public Deque<SseConnection> getEmitters(Integer userId) {
         return emitters.get(userId);
     }
 
+    // 호출 스레드(FastAPI 콜백, ForkJoin 등)는 큐에 넣기만 하고 바로 반환
     public void sendToUser(Integer userId, String eventName, Object data) {
-        log.debug("왜 두 번 찍히는거야 !!!!!");
         log.debug("eventName: {}", eventName);
+        String dataJson = jsonUtil.toJson(data); // 문자열로 저장
 
-        // 일단 큐에 넣음
-        queueEvent(userId, eventName, data);
-        Deque<SseEmitter> emittersDeque = getEmitters(userId);
-        if (emittersDeque != null) {
-            Iterator<SseEmitter> iterator = emittersDeque.iterator();
-            while (iterator.hasNext()) {
-                SseEmitter emitter = iterator.next();
-                try {
-                    emitter.send(SseEmitter.event()
-                            .name(eventName)
-                            .data(data));
-                } catch (IOException e) {
-                    // 연결이 끊긴 경우
-                    log.warn("❌ SSE 연결 실패 - userId={}, 원인={}", userId, e.getMessage());
-                    emitter.completeWithError(e);
-                    removeEmitter(userId, emitter);
-                }
+        // 이 노드에 연결이 없으면 (마지막) 소유 노드로 전달, 소유 노드가 없으면 이 노드가 맡아서 보관
+        if (!emitters.containsKey(userId)) {
+            String owner = sseEventBus.adopt(userId);
+            if (!owner.equals(sseEventBus.nodeId())) {
+                log.debug("📨 다른 노드로 전달 - userId={}, node={}", userId, owner);
+                sseEventBus.publish(userId, List.of(SseBusMessage.event(userId, 0L, sseEventBus.nodeId(), eventName, dataJson)));
+                busForwardedCounter.increment();
+                return;
             }
-        } else {
-            log.debug("🔇 연결 없음 - userId = {}, 큐에 보관", userId);
         }
+        deliver(userId, new SseEventWrapper(
+                eventSequence.incrementAndGet(), eventName, dataJson, System.currentTimeMillis()));
     }
 
-    public void queueEvent(Integer userId, String eventName, Object data) {
-        retryQueue
-                .computeIfAbsent(userId, k -> new ConcurrentLinkedDeque<>())
-                .add(new SseEventWrapper(eventName, jsonUtil.toJson(data))); // 문자열로 저장
+    // 일단 큐에 넣고 이 노드의 연결로 전송
+    private void deliver(Integer userId, SseEventWrapper event) {
+        // 정리 스케줄러와 경합하지 않도록 버퍼 생성과 추가를 한 번에 처리
+        retryQueue.compute(userId, (key, buffer) -> {
+            SseReplayBuffer target = (buffer != null) ? buffer : new SseReplayBuffer(replayCapacity);
+            record(target.append(event));
+            return target;
+        });
+
+        Deque<SseConnection> connections = getEmitters(userId);
+        if (connections != null) {
+            for (SseConnection connection : connections) {
+                sseDispatcher.enqueue(connection, event);
+            }
+        } else {
+            log.debug("🔇 연결 없음 - userId = {}, 큐에 보관", userId);
+        }
     }
 
-    // 클라이언트 재접속 시 큐에 저장한 event 재실행
-    public void replayQueuedEvents(Integer userId, SseEmitter emitter) {
+    // 클라이언트 재접속 시 큐에 저장한 event 재실행 (Last-Event-ID 이후 + 미확인 이벤트만)
+    public void replayQueuedEvents(SseConnection connection, Long lastEventId) {
         log.debug("▶️ replayQueuedEvents 시작");
-        Queue<SseEventWrapper> queue = retryQueue.get(userId);
-
-        if (queue != null && !queue.isEmpty()) {
-            log.debug("▶️ userId={}, 큐 크기={}", userId, queue.size());
-            while (!queue.isEmpty()) {
-                SseEventWrapper event = queue.peek();
-                try {
-                    emitter.send(SseEmitter.event()
-                            .name(event.eventName())
-                            .data(event.dataJson()));
-                    queue.poll(); // 전송 성공 시에만 꺼냄
-                } catch (IOException e) {
-                    log.warn("❌ SSE 연결 재실패 - 중단");
-                    emitter.completeWithError(e);
-                    if (emitters.get(userId) != null && emitters.get(userId).contains(emitter)) {
-                        removeEmitter(userId, emitter);
-                    }
-                    break;
-                }
+        long from = (lastEventId != null) ? lastEventId : 0L;
+        eventSequence.accumulateAndGet(from, Math::max); // 다른 노드에서 받은 id보다 뒤에서 시작
+
+        SseReplayBuffer buffer = retryQueue.get(connection.getUserId());
+        if (buffer != null) {
+            List<SseEventWrapper> events = buffer.eventsAfter(from);
+            log.debug("▶️ userId={}, lastEventId={}, 재전송 대상={}", connection.getUserId(), lastEventId, events.size());
+            for (SseEventWrapper event : events) {
+                sseDispatcher.enqueue(connection, event);
             }
+            replayedCounter.increment(events.size());
         }
+
+        // 이전에 다른 노드에 연결되어 있었다면 그 노드가 보관 중인 이벤트를 이쪽으로 넘겨줌 (버스를 통해 도착)
+        sseEventBus.claim(connection.getUserId(), from);
+        // 이전 소유 노드가 죽어 알림을 받지 못한 채 inbox에 남은 이벤트
+        drainInbox(connection.getUserId());
     }
 
-    // 주기적으로 ping 전송(sse 연결 끊기지 않도록)
-    @Scheduled(fixedRate = 15_000) // 15초마다
-    public void sendPingToAll() {
-        emitters.forEach((userId, deque) -> {
-            Iterator<SseEmitter> iterator = deque.iterator();
-            while (iterator.hasNext()) {
-                SseEmitter emitter = iterator.next();
-                try {
-                    emitter.send(SseEmitter.event()
-                            .name("ping")
-                            .data("keep-alive"));
-                } catch (IOException e) {
-                    log.warn("❌ SSE 연결 실패 - userId={}, 원인={}", userId, e.getMessage());
-                    emitter.completeWithError(e);
-                    removeEmitter(userId, emitter);
-                }
+    public void removeTargetEvent(Integer userId, AckRequestDto dto) {
+        SseReplayBuffer buffer = retryQueue.get(userId);
+        if (buffer == null) {
+            // ACK 요청이 이벤트를 보관 중인 노드가 아닌 곳으로 들어온 경우
+            String owner = sseEventBus.ownerOf(userId);
+            if (dto.getEventId() != null && owner != null && !owner.equals(sseEventBus.nodeId())) {
+                sseEventBus.send(owner, SseBusMessage.ack(userId, dto.getEventId(), sseEventBus.nodeId()));
+                busForwardedCounter.increment();
             }
-        });
+            return;
+        }
+
+        Long eventId = dto.getEventId();
+        if (eventId == null) {
+            // eventId 없이 보내는 이전 클라이언트 호환
+            eventId = buffer.findEventId(dto.getEventName(), jsonUtil.toJson(dto.getData()));
+        }
+        if (eventId == null) {
+            log.debug("⚠️ 큐에 해당 이벤트 없음 - userId={}, eventName={}", userId, dto.getEventName());
+            return;
+        }
+        record(buffer.ack(eventId));
+        log.debug("✅ ACK 이벤트 제거 - userId={}, eventId={}", userId, eventId);
     }
 
-    public void removeTargetEvent(Integer userId, AckRequestDto dto) {
-        String dataJson = jsonUtil.toJson(dto.getData());
-        SseEventWrapper target = new SseEventWrapper(dto.getEventName(), dataJson);
-        Queue<SseEventWrapper> queue = retryQueue.get(userId);
-        if (queue != null && !queue.isEmpty()) {
-            boolean removed = queue.removeIf(e -> e.equals(target));
-            if (removed) {
-                log.debug("✅ 큐에서 이벤트 제거됨 - userId={}, eventName={}", userId, dto.getEventName());
-            } else {
-                log.debug("⚠️ 큐에 해당 이벤트 없음 - userId={}, eventName={}", userId, dto.getEventName());
+    private void onBusMessage(SseBusMessage message) {
+        busReceivedCounter.increment();
+        Integer userId = message.userId();
+        switch (message.type()) {
+            case EVENT -> receiveEvent(message);
+            case NOTIFY -> drainInbox(userId);
+            case ACK -> {
+                SseReplayBuffer buffer = retryQueue.get(userId);
+                if (buffer != null) record(buffer.ack(message.eventId()));
             }
+            case CLAIM -> handOver(userId, message.eventId(), message.originNodeId());
         }
     }
 
+    private void drainInbox(Integer userId) {
+        for (SseBusMessage message : sseEventBus.drain(userId)) {
+            receiveEvent(message);
+        }
+    }
+
+    private void receiveEvent(SseBusMessage message) {
+        long eventId = message.eventId();
+        if (eventId > 0) {
+            // 이전 소유 노드에서 이관된 이벤트는 id 유지 (Last-Event-ID 비교가 그대로 동작하도록)
+            eventSequence.accumulateAndGet(eventId, Math::max);
+        } else {
+            eventId = eventSequence.incrementAndGet();
+        }
+        deliver(message.userId(), new SseEventWrapper(
+                eventId, message.eventName(), message.dataJson(), System.currentTimeMillis()));
+    }
+
+    // 사용자가 다른 노드로 재접속 → 보관 중인 미확인 이벤트를 새 노드로 이관 (inbox 경유라 새 노드가 죽어도 유실되지 않음)
+    private void handOver(Integer userId, long lastEventId, String targetNodeId) {
+        if (emitters.containsKey(userId)) return; // 이 노드에도 아직 연결이 남아있으면 유지
+        SseReplayBuffer buffer = retryQueue.remove(userId);
+        if (buffer == null) return;
+
+        List<SseEventWrapper> events = buffer.eventsAfter(lastEventId);
+        log.debug("🚚 보관 이벤트 이관 - userId={}, node={}, 건수={}", userId, targetNodeId, events.size());
+        List<SseBusMessage> messages = new ArrayList<>(events.size());
+        for (SseEventWrapper event : events) {
+            messages.add(SseBusMessage.event(
+                    userId, event.eventId(), sseEventBus.nodeId(), event.eventName(), event.dataJson()));
+        }
+        sseEventBus.publish(userId, messages);
+        busForwardedCounter.increment(events.size());
+    }
+
+    // 만료 이벤트 정리 + 비어있는 버퍼 제거 + NOTIFY 유실 대비 inbox 확인
+    // (inbox 확인은 연결된 사용자 전체를 한 번에 조회하고, 이벤트가 남은 사용자만 drain)
+    @Scheduled(fixedRate = 60_000)
+    public void evictExpiredEvents() {
+        if (!emitters.isEmpty()) {
+            sseEventBus.pendingInboxes(emitters.keySet()).forEach(this::drainInbox);
+        }
+
+        long expireBefore = System.currentTimeMillis() - replayTtlSeconds * 1_000;
+        retryQueue.keySet().forEach(userId ->
+                retryQueue.computeIfPresent(userId, (key, buffer) -> {
+                    record(buffer.evictExpired(expireBefore));
+                    return buffer.isEmpty() ? null : buffer;
+                }));
+    }
+
+    private void record(EvictionResult result) {
+        if (result.capacityEvicted() > 0) capacityEvictedCounter.increment(result.capacityEvicted());
+        if (result.ttlEvicted() > 0) ttlEvictedCounter.increment(result.ttlEvicted());
+        if (result.acked() > 0) ackedCounter.increment(result.acked());
+    }
+
 }
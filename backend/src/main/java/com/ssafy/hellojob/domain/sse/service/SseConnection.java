@@ -0,0 +1,121 @@
+package com.ssafy.hellojob.domain.sse.service;
+
+import com.ssafy.hellojob.domain.sse.service.SseReplayBuffer.SseEventWrapper;
+import lombok.Getter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// emitter 하나와 그 emitter 전용 송신 큐
+// 생산자는 offer만 하고, 실제 전송은 SseDispatcher 스레드가 담당
+public class SseConnection {
+
+    @Getter
+    private final Integer userId;
+    @Getter
+    private final SseEmitter emitter;
+
+    private final Queue<SseEventWrapper> outbound = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final AtomicInteger consecutiveDrops = new AtomicInteger();
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    private final Runnable onClose;
+    private volatile Runnable onWriteFailure = () -> {}; // heartbeat 슬롯별 실패 집계 (등록 시 지정)
+
+    @Getter
+    private volatile long lastSentAt = System.currentTimeMillis();
+    @Getter
+    private volatile long lastEventAt = 0L; // ping을 제외한 실제 이벤트 전송 시각
+    @Getter
+    private volatile long writeStartedAt = 0L; // 진행 중인 소켓 쓰기 시작 시각 (0이면 쓰기 중 아님)
+
+    public SseConnection(Integer userId, SseEmitter emitter, Runnable onClose) {
+        this.userId = userId;
+        this.emitter = emitter;
+        this.onClose = onClose;
+    }
+
+    // 큐가 가득 차면 가장 오래된 이벤트를 버리고 넣음 (재전송 버퍼에 남아 있으므로 유실 아님)
+    // return: 버려진 이벤트 수
+    int offer(SseEventWrapper event, int capacity) {
+        int dropped = 0;
+        while (queued.get() >= capacity && outbound.poll() != null) {
+            queued.decrementAndGet();
+            dropped++;
+        }
+        outbound.add(event);
+        queued.incrementAndGet();
+        if (dropped > 0) consecutiveDrops.incrementAndGet();
+        return dropped;
+    }
+
+    SseEventWrapper poll() {
+        SseEventWrapper event = outbound.poll();
+        if (event != null) queued.decrementAndGet();
+        return event;
+    }
+
+    boolean trySchedule() {
+        return scheduled.compareAndSet(false, true);
+    }
+
+    void releaseSchedule() {
+        scheduled.set(false);
+    }
+
+    void beginWrite() {
+        writeStartedAt = System.currentTimeMillis();
+    }
+
+    void endWrite() {
+        writeStartedAt = 0L;
+    }
+
+    void onWriteFailure(Runnable onWriteFailure) {
+        this.onWriteFailure = onWriteFailure;
+    }
+
+    void reportWriteFailure() {
+        onWriteFailure.run();
+    }
+
+    void markSent(boolean containsEvent) {
+        lastSentAt = System.currentTimeMillis();
+        if (containsEvent) lastEventAt = lastSentAt;
+        consecutiveDrops.set(0);
+    }
+
+    // 서버 측에서 연결을 끊을 때 (전송 실패, 느린 소비자)
+    public void close(Throwable cause) {
+        if (!closed.compareAndSet(false, true)) return;
+        onClose.run();
+        try {
+            if (cause == null) emitter.complete();
+            else emitter.completeWithError(cause);
+        } catch (Exception ignored) {
+            // 이미 종료된 emitter
+        }
+    }
+
+    // emitter 콜백(onCompletion/onTimeout/onError)에서 이미 끊긴 연결을 정리할 때
+    public void detach() {
+        if (closed.compareAndSet(false, true)) onClose.run();
+    }
+
+    public boolean isClosed() {
+        return closed.get();
+    }
+
+    public int getQueued() {
+        return queued.get();
+    }
+
+    int getConsecutiveDrops() {
+        return consecutiveDrops.get();
+    }
+}
@@ -0,0 +1,154 @@
+package com.ssafy.hellojob.domain.sse.service;
+
+import com.ssafy.hellojob.domain.sse.service.SseReplayBuffer.SseEventWrapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+// SSE 비동기 전송기
+// - 호출 스레드는 emitter별 큐에 넣고 바로 반환
+// - emitter당 동시에 하나의 drain 작업만 실행되며, 쌓인 이벤트는 한 번의 write/flush로 묶어서 전송
+// - 큐가 넘치면 오래된 이벤트부터 버리고, 계속 넘치는 느린 소비자는 연결을 끊어 재접속(replay)을 유도
+// - 소켓 쓰기가 write-stall-ms 이상 멈춘 연결은 heartbeat tick에서 끊음 (전송 스레드를 오래 붙잡지 않도록)
+// - 스레드 풀 큐가 차면 max-threads까지 늘어나고, 그래도 거부되면 이벤트는 연결 큐에 남겨두고 다음 tick에 재시도
+@Slf4j
+@Component
+public class SseDispatcher {
+
+    private final ThreadPoolTaskExecutor executor;
+    private final int queueCapacity;
+    private final int maxBatchSize;
+    private final int maxConsecutiveDrops;
+    private final long writeStallMillis;
+
+    private final Counter droppedCounter;
+    private final Counter slowConsumerCounter;
+    private final Counter stalledCounter;
+    private final Counter rejectedCounter;
+    private final Counter failedCounter;
+    private final Timer writeTimer;
+
+    public SseDispatcher(@Qualifier("sseDispatchExecutor") ThreadPoolTaskExecutor executor,
+                         MeterRegistry meterRegistry,
+                         @Value("${sse.dispatch.queue-capacity:64}") int queueCapacity,
+                         @Value("${sse.dispatch.max-batch-size:16}") int maxBatchSize,
+                         @Value("${sse.dispatch.max-consecutive-drops:3}") int maxConsecutiveDrops,
+                         @Value("${sse.dispatch.write-stall-ms:10000}") long writeStallMillis) {
+        this.executor = executor;
+        this.queueCapacity = queueCapacity;
+        this.maxBatchSize = maxBatchSize;
+        this.maxConsecutiveDrops = maxConsecutiveDrops;
+        this.writeStallMillis = writeStallMillis;
+
+        this.droppedCounter = Counter.builder("sse.dispatch.dropped").register(meterRegistry);
+        this.slowConsumerCounter = Counter.builder("sse.dispatch.slow-consumer.closed").register(meterRegistry);
+        this.stalledCounter = Counter.builder("sse.dispatch.stalled.closed").register(meterRegistry);
+        this.rejectedCounter = Counter.builder("sse.dispatch.rejected").register(meterRegistry);
+        this.failedCounter = Counter.builder("sse.dispatch.failed").register(meterRegistry);
+        this.writeTimer = Timer.builder("sse.dispatch.write").register(meterRegistry);
+        meterRegistry.gauge("sse.dispatch.executor.queued", executor,
+                e -> e.getThreadPoolExecutor().getQueue().size());
+        meterRegistry.gauge("sse.dispatch.executor.threads", executor, ThreadPoolTaskExecutor::getPoolSize);
+    }
+
+    public void enqueue(SseConnection connection, SseEventWrapper event) {
+        if (connection.isClosed()) return;
+
+        int dropped = connection.offer(event, queueCapacity);
+        if (dropped > 0) {
+            droppedCounter.increment(dropped);
+            if (connection.getConsecutiveDrops() >= maxConsecutiveDrops) {
+                log.warn("🐢 느린 SSE 소비자 연결 종료 - userId={}", connection.getUserId());
+                slowConsumerCounter.increment();
+                connection.close(null);
+                return;
+            }
+        }
+        schedule(connection);
+    }
+
+    // heartbeat tick에서 연결마다 호출: 쓰기가 멈춘 연결은 끊고, 거부되어 남아있는 이벤트는 다시 전송 예약
+    public void inspect(SseConnection connection, long now) {
+        if (connection.isClosed()) return;
+        long writeStartedAt = connection.getWriteStartedAt();
+        if (writeStartedAt > 0 && now - writeStartedAt > writeStallMillis) {
+            log.warn("🧱 SSE 쓰기 지연 연결 종료 - userId={}, 경과={}ms", connection.getUserId(), now - writeStartedAt);
+            stalledCounter.increment();
+            connection.close(new IllegalStateException("SSE write stalled"));
+            return;
+        }
+        if (connection.getQueued() > 0) schedule(connection);
+    }
+
+    private void schedule(SseConnection connection) {
+        if (!connection.trySchedule()) return; // 이미 drain 중
+        try {
+            executor.execute(() -> drain(connection));
+        } catch (TaskRejectedException e) {
+            // 이벤트는 연결 큐에 그대로 남음 → 다음 enqueue 또는 heartbeat tick에서 재시도
+            connection.releaseSchedule();
+            rejectedCounter.increment();
+            log.warn("❌ SSE 전송 작업 거부 - userId={}", connection.getUserId());
+        }
+    }
+
+    private void drain(SseConnection connection) {
+        try {
+            while (!connection.isClosed()) {
+                Set<DataWithMediaType> batch = new LinkedHashSet<>();
+                int count = 0;
+                boolean containsEvent = false;
+                SseEventWrapper event;
+                while (count < maxBatchSize && (event = connection.poll()) != null) {
+                    batch.addAll(toSseEvent(event).build());
+                    containsEvent |= event.eventId() > 0;
+                    count++;
+                }
+                if (count == 0) break;
+
+                long start = System.nanoTime();
+                connection.beginWrite();
+                try {
+                    connection.getEmitter().send(batch);
+                } finally {
+                    connection.endWrite();
+                }
+                writeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                connection.markSent(containsEvent);
+            }
+        } catch (Exception e) {
+            // 연결이 끊긴 경우
+            log.warn("❌ SSE 연결 실패 - userId={}, 원인={}", connection.getUserId(), e.getMessage());
+            failedCounter.increment();
+            connection.reportWriteFailure();
+            connection.close(e);
+        } finally {
+            connection.releaseSchedule();
+        }
+
+        // drain 종료 직후 들어온 이벤트가 남지 않도록 재확인
+        if (!connection.isClosed() && connection.getQueued() > 0) {
+            schedule(connection);
+        }
+    }
+
+    private SseEmitter.SseEventBuilder toSseEvent(SseEventWrapper event) {
+        SseEmitter.SseEventBuilder builder = SseEmitter.event();
+        if (event.eventId() > 0) {
+            builder.id(String.valueOf(event.eventId()));
+        }
+        return builder.name(event.eventName()).data(event.dataJson());
+    }
+}
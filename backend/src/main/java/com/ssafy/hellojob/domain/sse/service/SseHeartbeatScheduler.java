@@ -0,0 +1,123 @@
+package com.ssafy.hellojob.domain.sse.service;
+
+import com.ssafy.hellojob.domain.sse.service.SseReplayBuffer.SseEventWrapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// SSE keep-alive용 해시드 휠 타이머
+// - 연결은 등록 시 임의의 슬롯(shard)에 배정되어 ping 시점이 분산됨
+// - 한 tick에 한 슬롯만 처리하므로 주기 전체에 걸쳐 부하가 고르게 퍼짐
+// - 최근(주기의 절반 이내) 실제 이벤트가 나간 연결은 ping 생략
+@Slf4j
+@Component
+public class SseHeartbeatScheduler {
+
+    private static final SseEventWrapper PING = new SseEventWrapper(0L, "ping", "keep-alive", 0L);
+
+    private final SseDispatcher sseDispatcher;
+    private final MeterRegistry meterRegistry;
+    private final long periodMillis;
+    private final int shardCount;
+
+    private Set<SseConnection>[] shards;
+    private Timer[] tickTimers;
+    private Counter[] failureCounters;
+    private Counter[] prunedCounters;
+    private Counter skippedCounter;
+    private ScheduledExecutorService wheel;
+    private int cursor = 0; // wheel 스레드에서만 접근
+
+    public SseHeartbeatScheduler(SseDispatcher sseDispatcher,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${sse.heartbeat.period-ms:15000}") long periodMillis,
+                                 @Value("${sse.heartbeat.shards:16}") int shardCount) {
+        this.sseDispatcher = sseDispatcher;
+        this.meterRegistry = meterRegistry;
+        this.periodMillis = periodMillis;
+        this.shardCount = shardCount;
+    }
+
+    @PostConstruct
+    @SuppressWarnings("unchecked")
+    public void start() {
+        shards = new Set[shardCount];
+        tickTimers = new Timer[shardCount];
+        failureCounters = new Counter[shardCount];
+        prunedCounters = new Counter[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            Set<SseConnection> shard = ConcurrentHashMap.newKeySet();
+            String tag = String.valueOf(i);
+            shards[i] = shard;
+            tickTimers[i] = Timer.builder("sse.heartbeat.tick").tag("shard", tag).register(meterRegistry);
+            failureCounters[i] = Counter.builder("sse.heartbeat.failed").tag("shard", tag).register(meterRegistry);
+            prunedCounters[i] = Counter.builder("sse.heartbeat.pruned").tag("shard", tag).register(meterRegistry);
+            meterRegistry.gauge("sse.heartbeat.connections", Tags.of("shard", tag), shard, Set::size);
+        }
+        skippedCounter = Counter.builder("sse.heartbeat.skipped").register(meterRegistry);
+
+        wheel = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "sse-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long tickMillis = Math.max(1, periodMillis / shardCount);
+        wheel.scheduleAtFixedRate(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+        log.info("💓 SSE heartbeat 시작 - 주기={}ms, 슬롯={}", periodMillis, shardCount);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (wheel != null) wheel.shutdownNow();
+    }
+
+    public void register(SseConnection connection) {
+        int index = ThreadLocalRandom.current().nextInt(shardCount);
+        // 전송(ping 포함) 실패는 SseDispatcher의 drain에서 발생하므로, 해당 슬롯의 실패 카운터로 보고되게 연결
+        connection.onWriteFailure(failureCounters[index]::increment);
+        shards[index].add(connection);
+    }
+
+    private void tick() {
+        int index = cursor;
+        cursor = (cursor + 1) % shardCount;
+
+        long start = System.nanoTime();
+        long now = System.currentTimeMillis();
+        long idleBefore = now - periodMillis / 2;
+        try {
+            shards[index].removeIf(connection -> {
+                sseDispatcher.inspect(connection, now); // 쓰기 지연 연결 종료 + 남은 이벤트 재예약
+                if (connection.isClosed()) {
+                    // 끊어진 연결은 슬롯에서 제거 (ping 실패가 아니라 정리이므로 pruned로 집계)
+                    prunedCounters[index].increment();
+                    return true;
+                }
+                if (connection.getLastEventAt() > idleBefore || connection.getQueued() > 0) {
+                    skippedCounter.increment();
+                    return false;
+                }
+                sseDispatcher.enqueue(connection, PING); // 실패는 drain에서 이 슬롯의 failed 카운터로 집계
+                return false;
+            });
+        } catch (Exception e) {
+            // 예외가 나도 다음 tick은 계속 돌아야 함
+            log.warn("❌ SSE heartbeat tick 실패 - shard={}, 원인={}", index, e.getMessage());
+        } finally {
+            tickTimers[index].record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+}
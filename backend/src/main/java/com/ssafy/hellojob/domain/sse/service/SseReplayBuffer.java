@@ -0,0 +1,131 @@
+package com.ssafy.hellojob.domain.sse.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 사용자별 SSE 재전송용 고정 크기 링 버퍼
+// - 용량 초과 시 가장 오래된 이벤트를 덮어씀
+// - ACK는 해당 이벤트만 비워둠 (앞쪽에 미확인 이벤트가 남아 있어도 함께 지우지 않음)
+// - 맨 앞이 비워진 칸이면 head를 전진시켜 공간 회수
+// - eventId → 위치 인덱스를 함께 유지해 ACK는 버퍼를 훑지 않고 O(1)로 처리
+public class SseReplayBuffer {
+
+    public record SseEventWrapper(long eventId, String eventName, String dataJson, long createdAt) {
+
+        // 대략적인 점유 메모리 (문자 2byte + 객체 헤더/필드)
+        public long approxBytes() {
+            return 64L + 2L * (eventName.length() + dataJson.length());
+        }
+    }
+
+    // 버퍼 조작 결과로 발생한 제거 건수 (지표 집계용)
+    public record EvictionResult(int capacityEvicted, int ttlEvicted, int acked) {
+        static final EvictionResult NONE = new EvictionResult(0, 0, 0);
+    }
+
+    private final SseEventWrapper[] ring;
+    private long head = 0; // 가장 오래된 이벤트의 절대 위치
+    private long tail = 0; // 다음에 쓸 절대 위치
+    private int live = 0;  // 비워진 칸(ACK 완료)을 제외한 이벤트 수
+    private long bytes = 0;
+    private final Map<Long, Long> positions; // eventId → 절대 위치 (버퍼에 남아 있는 이벤트만)
+
+    public SseReplayBuffer(int capacity) {
+        this.ring = new SseEventWrapper[capacity];
+        this.positions = new HashMap<>(capacity * 2);
+    }
+
+    public synchronized EvictionResult append(SseEventWrapper event) {
+        int capacityEvicted = 0;
+        if (tail - head == ring.length) {
+            if (dropHead()) capacityEvicted = 1;
+            skipAcked();
+        }
+        positions.put(event.eventId(), tail);
+        ring[slot(tail++)] = event;
+        live++;
+        bytes += event.approxBytes();
+        return capacityEvicted == 0 ? EvictionResult.NONE : new EvictionResult(capacityEvicted, 0, 0);
+    }
+
+    // 해당 eventId 하나만 수신 완료 처리 (ACK가 순서 없이 도착해도 앞선 미확인 이벤트는 유지)
+    public synchronized EvictionResult ack(long eventId) {
+        Long position = positions.remove(eventId);
+        if (position == null) return EvictionResult.NONE;
+        int index = slot(position);
+        SseEventWrapper event = ring[index];
+        bytes -= event.approxBytes();
+        ring[index] = null;
+        live--;
+        skipAcked();
+        return new EvictionResult(0, 0, 1);
+    }
+
+    // eventId가 없는 구버전 ACK: 이름/데이터가 같은 이벤트를 찾아 그 id 반환
+    public synchronized Long findEventId(String eventName, String dataJson) {
+        for (long i = head; i < tail; i++) {
+            SseEventWrapper event = ring[slot(i)];
+            if (event != null && event.eventName().equals(eventName) && event.dataJson().equals(dataJson)) {
+                return event.eventId();
+            }
+        }
+        return null;
+    }
+
+    public synchronized EvictionResult evictExpired(long expireBefore) {
+        int ttlEvicted = 0;
+        skipAcked();
+        while (head < tail && ring[slot(head)].createdAt() < expireBefore) {
+            dropHead();
+            ttlEvicted++;
+            skipAcked();
+        }
+        return ttlEvicted == 0 ? EvictionResult.NONE : new EvictionResult(0, ttlEvicted, 0);
+    }
+
+    // lastEventId 이후의 미확인 이벤트 스냅샷
+    public synchronized List<SseEventWrapper> eventsAfter(long lastEventId) {
+        List<SseEventWrapper> result = new ArrayList<>(live);
+        for (long i = head; i < tail; i++) {
+            SseEventWrapper event = ring[slot(i)];
+            if (event != null && event.eventId() > lastEventId) result.add(event);
+        }
+        return result;
+    }
+
+    public synchronized int size() {
+        return live;
+    }
+
+    public synchronized long bytes() {
+        return bytes;
+    }
+
+    public synchronized boolean isEmpty() {
+        return live == 0;
+    }
+
+    // return: 실제 이벤트를 버렸는지 (이미 ACK로 비워진 칸이면 false)
+    private boolean dropHead() {
+        long position = head++;
+        int index = slot(position);
+        SseEventWrapper event = ring[index];
+        if (event == null) return false;
+        positions.remove(event.eventId(), position); // 같은 id가 뒤에 다시 들어온 경우 그 위치는 유지
+        bytes -= event.approxBytes();
+        ring[index] = null;
+        live--;
+        return true;
+    }
+
+    // 맨 앞의 ACK 완료 칸 회수
+    private void skipAcked() {
+        while (head < tail && ring[slot(head)] == null) head++;
+    }
+
+    private int slot(long position) {
+        return (int) (position % ring.length);
+    }
+}
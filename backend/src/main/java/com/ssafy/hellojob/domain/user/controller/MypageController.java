@@ -1,5 +1,6 @@
 package com.ssafy.hellojob.domain.user.controller;
 
+import com.ssafy.hellojob.domain.companyanalysis.dto.response.CompanyAnalysisCursorResponseDto;
 import com.ssafy.hellojob.domain.companyanalysis.dto.response.CompanyAnalysisListResponseDto;
 import com.ssafy.hellojob.domain.companyanalysis.service.CompanyAnalysisService;
 import com.ssafy.hellojob.domain.coverletter.dto.response.MyPageCoverLetterDto;
@@ -22,6 +23,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -43,12 +45,22 @@ public class MypageController {
         return jobRoleAnalysisService.searchJobRoleAnalysisByUserId(userPrincipal.getUserId());
     }
 
+    // deprecated - /company-analysis/page 사용, 최신 100건까지만 반환
+    @Deprecated
     @GetMapping("/company-analysis")
     public List<CompanyAnalysisListResponseDto> companyAnalysisListSearchByUser(@AuthenticationPrincipal UserPrincipal userPrincipal) {
 
         return companyAnalysisService.searchCompanyAnalysisByUserId(userPrincipal.getUserId());
     }
 
+    @GetMapping("/company-analysis/page")
+    public CompanyAnalysisCursorResponseDto companyAnalysisPageByUser(@RequestParam(value = "cursor", required = false) String cursor,
+                                                                      @RequestParam(value = "size", defaultValue = "20") int size,
+                                                                      @AuthenticationPrincipal UserPrincipal userPrincipal) {
+
+        return companyAnalysisService.searchCompanyAnalysisPageByUserId(userPrincipal.getUserId(), cursor, size);
+    }
+
     @GetMapping("/cover-letter")
     public ResponseEntity<?> getCoverLetterForMyPage(
             @AuthenticationPrincipal UserPrincipal principal,
@@ -0,0 +1,45 @@
+package com.ssafy.hellojob.domain.user.entity;
+
+import com.ssafy.hellojob.global.common.domain.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+// AI 요청 토큰 사용 기록 (요청 1건 = 1행)
+// - request_id 단위로 환불 여부를 기록해서 같은 요청이 두 번 환불되지 않게 함
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "token_usage",
+        uniqueConstraints = @UniqueConstraint(name = "uk_token_usage_request_id", columnNames = "request_id"),
+        indexes = @Index(name = "idx_token_usage_usage_date", columnList = "usage_date"))
+public class TokenUsage extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "token_usage_id")
+    private Long tokenUsageId;
+
+    @Column(name = "request_id", length = 36, nullable = false)
+    private String requestId;
+
+    @Column(name = "user_id", nullable = false)
+    private Integer userId;
+
+    @Column(name = "usage_date", nullable = false)
+    private LocalDate usageDate;
+
+    @Column(name = "refunded", nullable = false)
+    private boolean refunded = false;
+
+    public static TokenUsage of(String requestId, Integer userId, LocalDate usageDate) {
+        TokenUsage usage = new TokenUsage();
+        usage.requestId = requestId;
+        usage.userId = userId;
+        usage.usageDate = usageDate;
+        return usage;
+    }
+}
@@ -4,6 +4,9 @@ import com.ssafy.hellojob.global.common.domain.BaseTimeEntity;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.LocalDate;
+import java.time.ZoneId;
+
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -35,6 +38,10 @@ public class User extends BaseTimeEntity {
     @Column(name = "token", nullable = false)
     private Integer token;
 
+    // token이 마지막으로 초기화된 날짜 (날짜가 바뀐 뒤 첫 사용 시 사용자별로 초기화)
+    @Column(name = "token_reset_date")
+    private LocalDate tokenResetDate;
+
     @Builder
     public User(String email, String nickname, Provider provider, String providerId) {
         this.email = email;
@@ -43,16 +50,7 @@ public class User extends BaseTimeEntity {
         this.providerId = providerId;
         this.withdraw = false;
         this.token = 3;
-    }
-
-    public void decreaseToken() {
-        if (this.token > 0) {
-            this.token -= 1;
-        }
-    }
-
-    public void increaseToken(int cnt) {
-        this.token += cnt;
+        this.tokenResetDate = LocalDate.now(ZoneId.of("Asia/Seoul"));
     }
 
     public void changeNickname(String nickname) {
@@ -0,0 +1,31 @@
+package com.ssafy.hellojob.domain.user.repository;
+
+import com.ssafy.hellojob.domain.user.entity.TokenUsage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+@Repository
+public interface TokenUsageRepository extends JpaRepository<TokenUsage, Long> {
+
+    Optional<TokenUsage> findByRequestId(String requestId);
+
+    // 아직 환불되지 않은 경우에만 환불 처리 (동시에 여러 번 호출돼도 1건만 성공)
+    @Modifying
+    @Query("""
+            UPDATE TokenUsage t SET t.refunded = true
+            WHERE t.requestId = :requestId AND t.refunded = false
+            """)
+    int markRefunded(@Param("requestId") String requestId);
+
+    @Modifying
+    @Query("""
+            DELETE FROM TokenUsage t WHERE t.usageDate < :cutoff
+            """)
+    int deleteAllByUsageDateBefore(@Param("cutoff") LocalDate cutoff);
+}
@@ -6,17 +6,36 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Integer> {
 
+    // 오늘 처음 사용하는 경우에만 하루 한도로 초기화 (이미 오늘 초기화됐으면 0건)
     @Modifying
-    @Transactional
-    @Query("UPDATE User u SET u.token = :tokenValue")
-    void resetAllTokens(@Param("tokenValue") Integer tokenValue);
+    @Query("""
+            UPDATE User u SET u.token = :dailyLimit, u.tokenResetDate = :today
+            WHERE u.userId = :userId AND (u.tokenResetDate IS NULL OR u.tokenResetDate < :today)
+            """)
+    int resetTokenIfNewDay(@Param("userId") Integer userId, @Param("today") LocalDate today, @Param("dailyLimit") Integer dailyLimit);
+
+    // 남은 토큰이 있을 때만 차감 (read-modify-write 없이 한 문장으로 원자적으로 반영)
+    @Modifying
+    @Query("""
+            UPDATE User u SET u.token = u.token - 1
+            WHERE u.userId = :userId AND u.token > 0
+            """)
+    int decreaseTokenIfAvailable(@Param("userId") Integer userId);
+
+    // 사용한 날짜의 한도에만 환불 (그 사이 날짜가 바뀌어 초기화됐으면 0건)
+    @Modifying
+    @Query("""
+            UPDATE User u SET u.token = u.token + 1
+            WHERE u.userId = :userId AND u.tokenResetDate = :usageDate
+            """)
+    int increaseTokenForDate(@Param("userId") Integer userId, @Param("usageDate") LocalDate usageDate);
 
     Optional<User> findByEmail(String email);
 
@@ -0,0 +1,96 @@
+package com.ssafy.hellojob.domain.user.service;
+
+import com.ssafy.hellojob.domain.user.entity.TokenUsage;
+import com.ssafy.hellojob.domain.user.entity.User;
+import com.ssafy.hellojob.domain.user.repository.TokenUsageRepository;
+import com.ssafy.hellojob.domain.user.repository.UserRepository;
+import com.ssafy.hellojob.global.exception.BaseException;
+import com.ssafy.hellojob.global.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.UUID;
+
+// 하루 AI 요청 토큰 한도 관리
+// - 차감: 날짜가 바뀌었으면 먼저 사용자 단위로 초기화 → token > 0 조건부 UPDATE로 차감 (동시 요청에도 초과 사용 없음)
+// - 환불: 차감 시 발급한 requestId 단위로 한 번만 (사용한 날짜의 한도에만 되돌림)
+// - 전체 사용자 일괄 초기화 대신 사용자가 다음 날 처음 사용할 때 초기화
+@Slf4j
+@Service
+public class TokenQuotaService {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    private final UserRepository userRepository;
+    private final TokenUsageRepository tokenUsageRepository;
+    private final int dailyLimit;
+
+    private final Counter chargedCounter;
+    private final Counter rejectedCounter;
+    private final Counter refundedCounter;
+    private final Counter resetCounter;
+
+    public TokenQuotaService(UserRepository userRepository,
+                             TokenUsageRepository tokenUsageRepository,
+                             MeterRegistry meterRegistry,
+                             @Value("${token-quota.daily-limit:3}") int dailyLimit) {
+        this.userRepository = userRepository;
+        this.tokenUsageRepository = tokenUsageRepository;
+        this.dailyLimit = dailyLimit;
+
+        this.chargedCounter = Counter.builder("token-quota.charged").register(meterRegistry);
+        this.rejectedCounter = Counter.builder("token-quota.rejected").register(meterRegistry);
+        this.refundedCounter = Counter.builder("token-quota.refunded").register(meterRegistry);
+        this.resetCounter = Counter.builder("token-quota.reset").register(meterRegistry);
+    }
+
+    // 토큰 1개 차감 후 환불용 requestId 반환, 남은 토큰이 없으면 REQUEST_TOKEN_LIMIT_EXCEEDED
+    // 비동기 작업에서 바로 환불할 수 있도록 별도 트랜잭션으로 즉시 커밋
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public String charge(Integer userId) {
+        LocalDate today = LocalDate.now(ZONE);
+        if (userRepository.resetTokenIfNewDay(userId, today, dailyLimit) > 0) {
+            resetCounter.increment();
+        }
+
+        if (userRepository.decreaseTokenIfAvailable(userId) == 0) {
+            rejectedCounter.increment();
+            throw new BaseException(ErrorCode.REQUEST_TOKEN_LIMIT_EXCEEDED);
+        }
+
+        String requestId = UUID.randomUUID().toString();
+        tokenUsageRepository.save(TokenUsage.of(requestId, userId, today));
+        chargedCounter.increment();
+        return requestId;
+    }
+
+    // 같은 requestId로 여러 번 호출돼도 한 번만 환불
+    @Transactional
+    public void refund(String requestId) {
+        TokenUsage usage = tokenUsageRepository.findByRequestId(requestId).orElse(null);
+        if (usage == null || tokenUsageRepository.markRefunded(requestId) == 0) {
+            log.debug("토큰 환불 생략 - requestId={}", requestId);
+            return;
+        }
+
+        if (userRepository.increaseTokenForDate(usage.getUserId(), usage.getUsageDate()) > 0) {
+            refundedCounter.increment();
+        }
+    }
+
+    // 남은 토큰 (오늘 아직 초기화 전이면 하루 한도)
+    public int remaining(User user) {
+        LocalDate resetDate = user.getTokenResetDate();
+        if (resetDate == null || resetDate.isBefore(LocalDate.now(ZONE))) {
+            return dailyLimit;
+        }
+        return user.getToken();
+    }
+}
@@ -2,8 +2,11 @@ package com.ssafy.hellojob.domain.user.service;
 
 import com.ssafy.hellojob.domain.user.entity.User;
 import com.ssafy.hellojob.domain.user.repository.UserRepository;
+import com.ssafy.hellojob.global.auth.token.UserPrincipal;
 import com.ssafy.hellojob.global.exception.BaseException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
 import static com.ssafy.hellojob.global.exception.ErrorCode.USER_NOT_FOUND;
@@ -20,6 +23,19 @@ public class UserReadService {
                 .orElseThrow(() -> new BaseException(USER_NOT_FOUND));
     }
 
+    // 존재 여부만 확인할 때 사용 - 인증 필터가 이미 확인한 현재 요청 사용자라면 DB 조회 생략
+    public void validateUserExists(Integer userId) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null
+                && authentication.getPrincipal() instanceof UserPrincipal principal
+                && userId.equals(principal.getUserId())) {
+            return;
+        }
+        if (!userRepository.existsById(userId)) {
+            throw new BaseException(USER_NOT_FOUND);
+        }
+    }
+
     public User findUserByIdOrElseThrow(Integer userId) {
         return userRepository.findById(userId)
                 .orElseThrow(() -> new BaseException(USER_NOT_FOUND));
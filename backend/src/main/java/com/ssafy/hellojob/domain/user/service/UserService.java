@@ -4,7 +4,9 @@ import com.ssafy.hellojob.domain.user.dto.response.ChangeNicknameResponseDto;
 import com.ssafy.hellojob.domain.user.dto.response.CheckTokenResponseDto;
 import com.ssafy.hellojob.domain.user.entity.User;
 import com.ssafy.hellojob.domain.user.repository.UserRepository;
+import com.ssafy.hellojob.global.common.commitevent.entity.UserPrincipalChangedEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,12 +16,15 @@ public class UserService {
 
     private final UserReadService userReadService;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final TokenQuotaService tokenQuotaService;
 
     @Transactional
     public ChangeNicknameResponseDto changeNickname(String newNickname, Integer userId) {
         User user = userReadService.findUserByIdOrElseThrow(userId);
         user.changeNickname(newNickname);
         userRepository.save(user);
+        applicationEventPublisher.publishEvent(new UserPrincipalChangedEvent(user.getEmail()));
         return ChangeNicknameResponseDto.builder()
                 .nickname(newNickname)
                 .message("닉네임 변경이 완료되었습니다.")
@@ -29,7 +34,7 @@ public class UserService {
     @Transactional(readOnly = true)
     public CheckTokenResponseDto checkToken(Integer userId) {
         User user = userReadService.findUserByIdOrElseThrow(userId);
-        return CheckTokenResponseDto.builder().token(user.getToken()).build();
+        return CheckTokenResponseDto.builder().token(tokenQuotaService.remaining(user)).build();
     }
 
 }
@@ -6,11 +6,13 @@ import com.ssafy.hellojob.global.auth.dto.LoginDto;
 import com.ssafy.hellojob.global.auth.dto.TokenDto;
 import com.ssafy.hellojob.global.auth.entity.Auth;
 import com.ssafy.hellojob.global.auth.repository.AuthRepository;
+import com.ssafy.hellojob.global.common.commitevent.entity.UserPrincipalChangedEvent;
 import com.ssafy.hellojob.global.exception.BaseException;
 import com.ssafy.hellojob.global.util.JwtUtil;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.ResponseCookie;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -27,6 +29,7 @@ public class AuthService {
     private final JwtUtil jwtUtil;
     private final AuthRepository authRepository;
     private final UserReadService userReadService;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     public void updateRefreshToken(String refreshToken, Auth auth) {
         auth.updateToken(refreshToken, LocalDateTime.now().plusDays(14));
@@ -92,6 +95,7 @@ public class AuthService {
     @Transactional
     public void logout(User user, HttpServletResponse response) {
         deleteAuthIfExists(user);
+        applicationEventPublisher.publishEvent(new UserPrincipalChangedEvent(user.getEmail()));
         deleteCookie("access_token", response);
         deleteCookie("refresh_token", response);
     }
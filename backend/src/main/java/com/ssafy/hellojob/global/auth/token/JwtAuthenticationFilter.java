@@ -30,6 +30,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
     private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
@@ -65,10 +66,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private void authenticateUserWithToken(String token, HttpServletRequest request) throws BaseException {
         String email = jwtUtil.getEmailFromToken(token);
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new BaseException(USER_NOT_FOUND));
+        // 사용자 조회는 캐시 우선 (없을 때만 DB 조회)
+        UserPrincipal userPrincipal = principalCache.get(email, () -> createUserPrincipal(
+                userRepository.findByEmail(email)
+                        .orElseThrow(() -> new BaseException(USER_NOT_FOUND))));
         // 인증 정보 설정
-        UserPrincipal userPrincipal = createUserPrincipal(user);
         setAuthentication(userPrincipal, request);
     }
 
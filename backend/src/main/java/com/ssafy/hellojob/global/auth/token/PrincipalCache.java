@@ -0,0 +1,86 @@
+package com.ssafy.hellojob.global.auth.token;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+// JWT 인증 필터용 사용자 캐시 (email → UserPrincipal)
+// - 요청마다 findByEmail 하지 않도록 TTL 동안 재사용
+// - 최대 개수를 넘으면 가장 오래 사용하지 않은 항목부터 제거 (LRU)
+// - 로그아웃 / 닉네임 변경 등 사용자 정보가 바뀌면 invalidate로 즉시 제거
+@Slf4j
+@Component
+public class PrincipalCache {
+
+    private record Entry(UserPrincipal principal, long expiresAtNanos) {
+    }
+
+    private final long ttlNanos;
+    private final Map<String, Entry> entries;
+    private long invalidations = 0; // entries 락 안에서만 접근
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public PrincipalCache(MeterRegistry meterRegistry,
+                          @Value("${auth.principal-cache.ttl-ms:60000}") long ttlMillis,
+                          @Value("${auth.principal-cache.max-size:10000}") int maxSize) {
+        this.ttlNanos = ttlMillis * 1_000_000L;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+
+        this.hitCounter = Counter.builder("auth.principal-cache.requests").tag("result", "hit").register(meterRegistry);
+        this.missCounter = Counter.builder("auth.principal-cache.requests").tag("result", "miss").register(meterRegistry);
+        Gauge.builder("auth.principal-cache.size", this, PrincipalCache::size).register(meterRegistry);
+    }
+
+    // 캐시에 없거나 만료됐으면 loader로 조회해서 저장 (loader 예외는 그대로 전달, 저장하지 않음)
+    public UserPrincipal get(String email, Supplier<UserPrincipal> loader) {
+        long now = System.nanoTime();
+        long seenInvalidations;
+        synchronized (entries) {
+            Entry entry = entries.get(email);
+            if (entry != null && now - entry.expiresAtNanos() < 0) {
+                hitCounter.increment();
+                return entry.principal();
+            }
+            seenInvalidations = invalidations;
+        }
+
+        missCounter.increment();
+        UserPrincipal principal = loader.get();
+        synchronized (entries) {
+            // 조회하는 동안 invalidate가 있었다면 이전 값일 수 있으므로 저장하지 않음
+            if (invalidations == seenInvalidations) {
+                entries.put(email, new Entry(principal, now + ttlNanos));
+            }
+        }
+        return principal;
+    }
+
+    public void invalidate(String email) {
+        if (email == null) return;
+        synchronized (entries) {
+            entries.remove(email);
+            invalidations++;
+        }
+        log.debug("🧹 인증 사용자 캐시 제거 - email={}", email);
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.ssafy.hellojob.global.common.client;
+
+import lombok.Getter;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 엔드포인트별 전용 WebClient (각자 커넥션 풀 = 동시 실행 한도 + 대기열)
+// 기업 분석처럼 오래 걸리는 호출이 풀을 다 써도 채팅 풀에는 영향이 없음
+public class FastApiBulkheads {
+
+    @Getter
+    public static class Bulkhead {
+        private final FastApiEndpoint endpoint;
+        private final WebClient webClient;
+        private final int maxConcurrent;
+        private final int capacity; // 실행 중 + 대기 중 최대 요청 수
+        private final AtomicInteger inFlight = new AtomicInteger();
+
+        Bulkhead(FastApiEndpoint endpoint, WebClient webClient, int maxConcurrent, int maxQueued) {
+            this.endpoint = endpoint;
+            this.webClient = webClient;
+            this.maxConcurrent = maxConcurrent;
+            this.capacity = maxConcurrent + maxQueued;
+        }
+
+        // 대기열까지 가득 차면 false → 호출하지 않고 바로 거절
+        public boolean tryAcquire() {
+            if (inFlight.incrementAndGet() > capacity) {
+                inFlight.decrementAndGet();
+                return false;
+            }
+            return true;
+        }
+
+        public void release() {
+            inFlight.decrementAndGet();
+        }
+
+        public int inFlight() {
+            return inFlight.get();
+        }
+    }
+
+    private final Map<FastApiEndpoint, Bulkhead> bulkheads = new EnumMap<>(FastApiEndpoint.class);
+
+    public void register(FastApiEndpoint endpoint, WebClient webClient, int maxConcurrent, int maxQueued) {
+        bulkheads.put(endpoint, new Bulkhead(endpoint, webClient, maxConcurrent, maxQueued));
+    }
+
+    public Bulkhead get(FastApiEndpoint endpoint) {
+        Bulkhead bulkhead = bulkheads.get(endpoint);
+        if (bulkhead == null) {
+            throw new IllegalStateException("bulkhead not registered: " + endpoint);
+        }
+        return bulkhead;
+    }
+
+    public Iterable<Bulkhead> all() {
+        return bulkheads.values();
+    }
+}
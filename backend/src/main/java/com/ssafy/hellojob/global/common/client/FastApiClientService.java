@@ -15,96 +15,97 @@ import com.ssafy.hellojob.domain.interview.dto.response.CreateCoverLetterFastAPI
 import com.ssafy.hellojob.domain.interview.dto.response.InterviewFeedbackFastAPIResponseDto;
 import com.ssafy.hellojob.global.exception.BaseException;
 import com.ssafy.hellojob.global.exception.ErrorCode;
+import com.ssafy.hellojob.global.common.client.FastApiBulkheads.Bulkhead;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
+// FastAPI 호출 클라이언트
+// - xxxAsync: Mono 반환 (스레드를 점유하지 않음). 비동기 흐름에서는 이쪽을 사용
+// - 기존 동기 메서드는 xxxAsync(...).block() 래퍼 (요청 스레드에서 결과가 바로 필요한 경우)
+// - 모든 호출은 엔드포인트별 bulkhead를 거치며, 대기열까지 가득 차면 FAST_API_BULKHEAD_FULL
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class FastApiClientService {
 
-    private final WebClient fastApiWebClient;
+    private final FastApiBulkheads fastApiBulkheads;
     private final ObjectMapper objectMapper;
-
-    public CompanyAnalysisFastApiResponseDto sendJobAnalysisToFastApi(CompanyAnalysisFastApiRequestDto requestDto) {
-
-        CompanyAnalysisFastApiResponseDto response = fastApiWebClient.post()
-                .uri("/api/v1/ai/company-analysis")
-                .bodyValue(requestDto)
-                .retrieve()
-                .bodyToMono(CompanyAnalysisFastApiResponseDto.class)
-                .block();
-
-        if (response == null) {
-            log.debug("😱 삐상!!!! 기업 분석 fast API service에서 null 반환됨!!!!!! ");
-            throw new BaseException(ErrorCode.FAST_API_RESPONSE_NULL);
+    private final MeterRegistry meterRegistry;
+
+    @PostConstruct
+    public void registerMetrics() {
+        for (Bulkhead bulkhead : fastApiBulkheads.all()) {
+            Gauge.builder("fastapi.bulkhead.in-flight", bulkhead, Bulkhead::inFlight)
+                    .description("실행 중 + 대기 중인 FastAPI 요청 수")
+                    .tag("endpoint", bulkhead.getEndpoint().getKey())
+                    .register(meterRegistry);
         }
-
-        return response;
     }
 
-    public List<AICoverLetterResponseDto> getCoverLetterContentDetail(AICoverLetterRequestDto requestDto) {
-        logJsonToString(requestDto);
-        AICoverLetterResponseWrapperDto responseWrapper = fastApiWebClient.post()
-                .uri("/api/v1/ai/cover-letter")
-                .bodyValue(requestDto)
-                .retrieve()
-                .bodyToMono(AICoverLetterResponseWrapperDto.class)
-                .block();
-
-        if (responseWrapper == null || responseWrapper.getCover_letters() == null) {
-            throw new BaseException(ErrorCode.FAST_API_RESPONSE_NULL);
-        }
+    public Mono<CompanyAnalysisFastApiResponseDto> sendJobAnalysisToFastApiAsync(CompanyAnalysisFastApiRequestDto requestDto) {
+        return post(FastApiEndpoint.COMPANY_ANALYSIS, requestDto, CompanyAnalysisFastApiResponseDto.class)
+                .switchIfEmpty(Mono.defer(() -> {
+                    log.debug("😱 삐상!!!! 기업 분석 fast API service에서 null 반환됨!!!!!! ");
+                    return Mono.error(new BaseException(ErrorCode.FAST_API_RESPONSE_NULL));
+                }));
+    }
 
-        List<AICoverLetterResponseDto> response = responseWrapper.getCover_letters();
+    public CompanyAnalysisFastApiResponseDto sendJobAnalysisToFastApi(CompanyAnalysisFastApiRequestDto requestDto) {
+        return sendJobAnalysisToFastApiAsync(requestDto).block();
+    }
 
-        response.forEach(r -> log.debug("🌞 number: {}, detail: {}", r.getContent_number(), r.getCover_letter()));
+    public Mono<List<AICoverLetterResponseDto>> getCoverLetterContentDetailAsync(AICoverLetterRequestDto requestDto) {
+        logJsonToString(requestDto);
+        return post(FastApiEndpoint.COVER_LETTER, requestDto, AICoverLetterResponseWrapperDto.class)
+                .filter(responseWrapper -> responseWrapper.getCover_letters() != null)
+                .switchIfEmpty(Mono.error(() -> new BaseException(ErrorCode.FAST_API_RESPONSE_NULL)))
+                .map(responseWrapper -> {
+                    List<AICoverLetterResponseDto> response = responseWrapper.getCover_letters();
+                    response.forEach(r -> log.debug("🌞 number: {}, detail: {}", r.getContent_number(), r.getCover_letter()));
+                    return response;
+                });
+    }
 
-        return response;
+    public List<AICoverLetterResponseDto> getCoverLetterContentDetail(AICoverLetterRequestDto requestDto) {
+        return getCoverLetterContentDetailAsync(requestDto).block();
     }
 
-    public AIChatResponseDto sendChatToFastApi(AIChatRequestDto requestDto) {
+    public Mono<AIChatResponseDto> sendChatToFastApiAsync(AIChatRequestDto requestDto) {
         logJsonToString(requestDto);
-        AIChatResponseDto response = fastApiWebClient.post()
-                .uri("/api/v1/ai/cover-letter/chat")
-                .bodyValue(requestDto)
-                .retrieve()
-                .bodyToMono(AIChatResponseDto.class)
-                .block();
-
-        if (response == null) {
-            throw new BaseException(ErrorCode.FAST_API_RESPONSE_NULL);
-        }
+        return post(FastApiEndpoint.CHAT, requestDto, AIChatResponseDto.class)
+                .switchIfEmpty(Mono.error(() -> new BaseException(ErrorCode.FAST_API_RESPONSE_NULL)))
+                .doOnNext(response ->
+                        log.debug("🌞 AI 메시지: {}, 유저 메시지 {}", response.getAi_message(), response.getUser_message()));
+    }
 
-        log.debug("🌞 AI 메시지: {}, 유저 메시지 {}", response.getAi_message(), response.getUser_message());
+    public AIChatResponseDto sendChatToFastApi(AIChatRequestDto requestDto) {
+        return sendChatToFastApiAsync(requestDto).block();
+    }
 
-        return response;
+    public Mono<CreateCoverLetterFastAPIResponseDto> sendCoverLetterToFastApiAsync(CreateCoverLetterFastAPIRequestDto requestDto) {
+        return post(FastApiEndpoint.INTERVIEW_QUESTION, requestDto, CreateCoverLetterFastAPIResponseDto.class)
+                .switchIfEmpty(Mono.error(() -> new BaseException(ErrorCode.FAST_API_RESPONSE_NULL)))
+                .doOnNext(response -> {
+                    log.debug("자소서 생성 요청 성공");
+                    log.debug("자소서 ID: {}, 질문 1: {}", response.getCover_letter_id(), response.getExpected_questions().get(0 ));
+                });
     }
 
     public CreateCoverLetterFastAPIResponseDto sendCoverLetterToFastApi(CreateCoverLetterFastAPIRequestDto requestDto) {
-
-        CreateCoverLetterFastAPIResponseDto response = fastApiWebClient.post()
-                .uri("/api/v1/ai/interview/question/cover-letter")
-                .bodyValue(requestDto)
-                .retrieve()
-                .bodyToMono(CreateCoverLetterFastAPIResponseDto.class)
-                .block();
-
-        if (response == null) {
-            throw new BaseException(ErrorCode.FAST_API_RESPONSE_NULL);
-        }
-
-        log.debug("자소서 생성 요청 성공");
-        log.debug("자소서 ID: {}, 질문 1: {}", response.getCover_letter_id(), response.getExpected_questions().get(0 ));
-
-        return response;
+        return sendCoverLetterToFastApiAsync(requestDto).block();
     }
 
-    public InterviewFeedbackFastAPIResponseDto sendInterviewAnswerToFastApi(InterviewFeedbackFastAPIRequestDto requestDto) {
+    public Mono<InterviewFeedbackFastAPIResponseDto> sendInterviewAnswerToFastApiAsync(InterviewFeedbackFastAPIRequestDto requestDto) {
 
         log.debug("fast API 전송 요청");
 
@@ -112,19 +113,51 @@ public class FastApiClientService {
             log.debug("전송되는 아이디: {}", i.getInterview_answer_id());
         }
 
-        InterviewFeedbackFastAPIResponseDto response = fastApiWebClient.post()
-                .uri("/api/v1/ai/interview/feedback")
-                .bodyValue(requestDto)
-                .retrieve()
-                .bodyToMono(InterviewFeedbackFastAPIResponseDto.class)
-                .block();
+        return post(FastApiEndpoint.INTERVIEW_FEEDBACK, requestDto, InterviewFeedbackFastAPIResponseDto.class)
+                .switchIfEmpty(Mono.error(() -> new BaseException(ErrorCode.FAST_API_RESPONSE_NULL)))
+                .doOnNext(response -> log.debug("인터뷰 피드백 생성 요청 성공"));
+    }
 
-        if (response == null) {
-            throw new BaseException(ErrorCode.FAST_API_RESPONSE_NULL);
-        }
+    public InterviewFeedbackFastAPIResponseDto sendInterviewAnswerToFastApi(InterviewFeedbackFastAPIRequestDto requestDto) {
+        return sendInterviewAnswerToFastApiAsync(requestDto).block();
+    }
+
+    // bulkhead 진입 → 호출 → 종료 시(성공/실패/취소) 반납
+    // 지표: fastapi.request{endpoint,outcome}, fastapi.bulkhead.rejected{endpoint}
+    private <T> Mono<T> post(FastApiEndpoint endpoint, Object requestDto, Class<T> responseType) {
+        return Mono.defer(() -> {
+            Bulkhead bulkhead = fastApiBulkheads.get(endpoint);
+            if (!bulkhead.tryAcquire()) {
+                log.warn("❌ FastAPI bulkhead 초과 - endpoint={}", endpoint.getKey());
+                Counter.builder("fastapi.bulkhead.rejected")
+                        .tag("endpoint", endpoint.getKey())
+                        .register(meterRegistry)
+                        .increment();
+                return Mono.error(new BaseException(ErrorCode.FAST_API_BULKHEAD_FULL));
+            }
+
+            long start = System.nanoTime();
+            return bulkhead.getWebClient().post()
+                    .uri(endpoint.getPath())
+                    .bodyValue(requestDto)
+                    .retrieve()
+                    .bodyToMono(responseType)
+                    .doOnEach(signal -> {
+                        if (signal.isOnComplete() || signal.isOnError()) {
+                            record(endpoint, signal.isOnError() ? "error" : "success", start);
+                        }
+                    })
+                    .doOnCancel(() -> record(endpoint, "cancelled", start))
+                    .doFinally(signal -> bulkhead.release());
+        });
+    }
 
-        log.debug("인터뷰 피드백 생성 요청 성공");
-        return response;
+    private void record(FastApiEndpoint endpoint, String outcome, long start) {
+        Timer.builder("fastapi.request")
+                .tag("endpoint", endpoint.getKey())
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
     }
 
     public void logJsonToString(Object object) {
@@ -0,0 +1,20 @@
+package com.ssafy.hellojob.global.common.client;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// FastAPI AI 엔드포인트별 bulkhead 단위
+// key는 설정(fastapi.bulkhead.{key}.*)과 지표 태그(endpoint=)에 그대로 사용
+@Getter
+@RequiredArgsConstructor
+public enum FastApiEndpoint {
+
+    COMPANY_ANALYSIS("company-analysis", "/api/v1/ai/company-analysis"),
+    COVER_LETTER("cover-letter", "/api/v1/ai/cover-letter"),
+    CHAT("chat", "/api/v1/ai/cover-letter/chat"),
+    INTERVIEW_QUESTION("interview-question", "/api/v1/ai/interview/question/cover-letter"),
+    INTERVIEW_FEEDBACK("interview-feedback", "/api/v1/ai/interview/feedback");
+
+    private final String key;
+    private final String path;
+}
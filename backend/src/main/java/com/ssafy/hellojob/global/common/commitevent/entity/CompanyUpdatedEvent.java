@@ -0,0 +1,16 @@
+package com.ssafy.hellojob.global.common.commitevent.entity;
+
+import com.ssafy.hellojob.domain.company.dto.CompanyListDto;
+import lombok.Getter;
+
+@Getter
+public class CompanyUpdatedEvent {
+
+    private final CompanyListDto company;
+    private final boolean visible;
+
+    public CompanyUpdatedEvent(CompanyListDto company, boolean visible) {
+        this.company = company;
+        this.visible = visible;
+    }
+}
@@ -0,0 +1,13 @@
+package com.ssafy.hellojob.global.common.commitevent.entity;
+
+import lombok.Getter;
+
+@Getter
+public class UserPrincipalChangedEvent {
+
+    private final String email;
+
+    public UserPrincipalChangedEvent(String email) {
+        this.email = email;
+    }
+}
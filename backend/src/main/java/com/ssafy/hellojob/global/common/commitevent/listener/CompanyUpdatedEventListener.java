@@ -0,0 +1,21 @@
+package com.ssafy.hellojob.global.common.commitevent.listener;
+
+import com.ssafy.hellojob.domain.company.service.RecentCompanyFeed;
+import com.ssafy.hellojob.global.common.commitevent.entity.CompanyUpdatedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@RequiredArgsConstructor
+@Component
+public class CompanyUpdatedEventListener {
+
+    private final RecentCompanyFeed recentCompanyFeed;
+
+    // 커밋된 변경만 최근 기업 목록에 반영
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handle(CompanyUpdatedEvent event) {
+        recentCompanyFeed.touch(event.getCompany(), event.isVisible());
+    }
+}
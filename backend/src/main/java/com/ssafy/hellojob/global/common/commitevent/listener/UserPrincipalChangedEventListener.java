@@ -0,0 +1,21 @@
+package com.ssafy.hellojob.global.common.commitevent.listener;
+
+import com.ssafy.hellojob.global.auth.token.PrincipalCache;
+import com.ssafy.hellojob.global.common.commitevent.entity.UserPrincipalChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@RequiredArgsConstructor
+@Component
+public class UserPrincipalChangedEventListener {
+
+    private final PrincipalCache principalCache;
+
+    // 커밋 후에 제거해야 다음 요청이 변경 전 사용자 정보를 다시 캐시하지 않음
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handle(UserPrincipalChangedEvent event) {
+        principalCache.invalidate(event.getEmail());
+    }
+}
@@ -1,55 +1,113 @@
 package com.ssafy.hellojob.global.common.scheduler;
 
-import com.ssafy.hellojob.domain.interview.entity.InterviewAnswer;
-import com.ssafy.hellojob.domain.interview.entity.InterviewVideo;
-import com.ssafy.hellojob.domain.interview.repository.InterviewVideoRepository;
-import com.ssafy.hellojob.domain.interview.service.S3UploadService;
-import lombok.RequiredArgsConstructor;
+import com.ssafy.hellojob.domain.interview.service.InterviewRetentionService;
+import com.ssafy.hellojob.domain.interview.service.InterviewRetentionService.ChunkResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.time.LocalTime;
-import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+// 미완료 면접 보관 기간 정리
+// - (start, id) keyset 으로 chunk 단위 스캔 → chunk마다 별도 트랜잭션에서 일괄 DELETE
+// - S3 객체는 chunk 트랜잭션 안에서 삭제 outbox 에 예약만 함 (실제 삭제는 S3DeletionWorker 가 배치로 처리)
+// - 실행 시간 상한을 넘기면 멈추고, 남은 행은 다음 실행이 이어서 처리 (지운 행은 스캔에서 빠지므로 별도 진행 상태 저장 불필요)
 @Service
 @Slf4j
-@RequiredArgsConstructor
 public class InterviewDeleteScheduler {
 
-    private final S3UploadService s3UploadService;
-    private final InterviewVideoRepository interviewVideoRepository;
+    private final InterviewRetentionService interviewRetentionService;
 
-    // 매일 자정에 실행
-    @Transactional
+    private final int retentionDays;
+    private final int chunkSize;
+    private final long maxRunMillis;
+
+    private final Timer runTimer;
+    private final Counter deletedVideoCounter;
+    private final Counter deletedAnswerCounter;
+    private final Counter s3EnqueuedCounter;
+    private final AtomicInteger lastRunVideos = new AtomicInteger();
+    private final AtomicInteger lastRunChunks = new AtomicInteger();
+    private final AtomicInteger lastRunCompleted = new AtomicInteger(1);
+
+    public InterviewDeleteScheduler(InterviewRetentionService interviewRetentionService,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${interview.retention.days:2}") int retentionDays,
+                                    @Value("${interview.retention.chunk-size:500}") int chunkSize,
+                                    @Value("${interview.retention.max-run-seconds:600}") long maxRunSeconds) {
+        this.interviewRetentionService = interviewRetentionService;
+        this.retentionDays = retentionDays;
+        this.chunkSize = chunkSize;
+        this.maxRunMillis = TimeUnit.SECONDS.toMillis(maxRunSeconds);
+
+        this.runTimer = Timer.builder("interview.retention.run").register(meterRegistry);
+        this.deletedVideoCounter = Counter.builder("interview.retention.deleted").tag("type", "video").register(meterRegistry);
+        this.deletedAnswerCounter = Counter.builder("interview.retention.deleted").tag("type", "answer").register(meterRegistry);
+        this.s3EnqueuedCounter = Counter.builder("interview.retention.s3.enqueued").register(meterRegistry);
+        meterRegistry.gauge("interview.retention.last-run.videos", lastRunVideos);
+        meterRegistry.gauge("interview.retention.last-run.chunks", lastRunChunks);
+        meterRegistry.gauge("interview.retention.last-run.completed", lastRunCompleted);
+    }
+
+    // 매일 새벽 4시에 실행
     @Scheduled(cron = "0 0 4 * * ?")
     public void deleteInterviewVideo() {
-        log.debug("{}시 면접 삭제 시작", LocalTime.now());
+        runTimer.record(this::runRetention);
+    }
+
+    private void runRetention() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        long deadline = System.currentTimeMillis() + maxRunMillis;
+        log.info("🧹 미완료 면접 정리 시작 - 기준 시각={}, chunk={}", cutoff, chunkSize);
+
+        LocalDateTime cursorStart = InterviewRetentionService.INITIAL_CURSOR_START;
+        Integer cursorId = 0;
+        int chunks = 0;
+        int videos = 0;
+        int answers = 0;
+        boolean completed = false;
 
         try {
-            LocalDateTime cutoff = LocalDateTime.now().minusDays(2);
-            List<InterviewVideo> videos = interviewVideoRepository.findAllByStartBeforeAndInterviewTitleIsNull(cutoff);
-
-            interviewVideoRepository.deleteAll(videos); // Cascade로 InterviewAnswer도 함께 삭제됨
-
-            for(InterviewVideo video:videos){
-                log.debug("삭제될 videoId: {}", video.getInterviewVideoId());
-                for(InterviewAnswer answer:video.getInterviewAnswers()){
-                    String url = answer.getInterviewVideoUrl();
-                    if (url != null && !url.isEmpty()) {
-                        s3UploadService.deleteVideo(url);
-                    }
+            while (true) {
+                if (System.currentTimeMillis() > deadline) {
+                    log.warn("⏱️ 면접 정리 실행 시간 초과 - 남은 대상은 다음 실행에서 처리");
+                    break;
                 }
-            }
 
+                ChunkResult result = interviewRetentionService.deleteExpiredChunk(cutoff, cursorStart, cursorId, chunkSize);
+                if (result.scanned() == 0) {
+                    completed = true;
+                    break;
+                }
+
+                chunks++;
+                videos += result.deletedVideos();
+                answers += result.deletedAnswers();
+                deletedVideoCounter.increment(result.deletedVideos());
+                deletedAnswerCounter.increment(result.deletedAnswers());
+                s3EnqueuedCounter.increment(result.enqueuedObjects());
+
+                cursorStart = result.lastStart();
+                cursorId = result.lastVideoId();
+                if (result.scanned() < chunkSize) {
+                    completed = true;
+                    break;
+                }
+            }
         } catch (Exception e) {
-            log.error("❌ 면접 삭제 중 예외 발생", e);
+            // 이미 커밋된 chunk는 유지, 실패한 chunk부터 다음 실행에서 재시도
+            log.error("❌ 면접 정리 중 예외 발생 - chunk={}", chunks + 1, e);
         }
 
-        log.debug("면접 삭제 완료");
+        lastRunVideos.set(videos);
+        lastRunChunks.set(chunks);
+        lastRunCompleted.set(completed ? 1 : 0);
+        log.info("🧹 미완료 면접 정리 종료 - chunk={}, 면접={}, 답변={}, 완료={}", chunks, videos, answers, completed);
     }
-
-
-}
\ No newline at end of file
+}
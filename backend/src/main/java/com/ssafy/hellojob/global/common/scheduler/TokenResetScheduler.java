@@ -1,31 +1,42 @@
 package com.ssafy.hellojob.global.common.scheduler;
 
-import com.ssafy.hellojob.domain.user.repository.UserRepository;
+import com.ssafy.hellojob.domain.user.repository.TokenUsageRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.LocalTime;
+import java.time.ZoneId;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class TokenResetScheduler {
 
-    private final UserRepository userRepository;
+    private final TokenUsageRepository tokenUsageRepository;
 
-    // 매일 자정에 실행
+    @Value("${token-quota.usage-retention-days:30}")
+    private int usageRetentionDays;
+
+    // 토큰 초기화는 TokenQuotaService에서 사용자별로 처리 (전체 사용자 일괄 UPDATE 없음)
+    // 여기서는 매일 자정에 보관 기간이 지난 토큰 사용 기록만 정리
+    @Transactional
     @Scheduled(cron = "0 0 0 * * ?")
     public void resetTokens() {
-        log.debug("{}시 토큰 리셋 시작", LocalTime.now());
+        log.debug("{}시 토큰 사용 기록 정리 시작", LocalTime.now());
         try {
-            userRepository.resetAllTokens(3); // 모든 사용자의 토큰을 3으로 리셋
+            LocalDate cutoff = LocalDate.now(ZoneId.of("Asia/Seoul")).minusDays(usageRetentionDays);
+            int deleted = tokenUsageRepository.deleteAllByUsageDateBefore(cutoff);
+            log.debug("토큰 사용 기록 {}건 삭제", deleted);
         } catch (Exception e) {
-            log.error("❌ 토큰 리셋 중 예외 발생", e);
+            log.error("❌ 토큰 사용 기록 정리 중 예외 발생", e);
         }
 
-        log.debug("토큰 리셋 완료");
+        log.debug("토큰 사용 기록 정리 완료");
     }
 
-}
\ No newline at end of file
+}
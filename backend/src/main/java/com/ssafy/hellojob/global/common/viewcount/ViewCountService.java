@@ -0,0 +1,115 @@
+package com.ssafy.hellojob.global.common.viewcount;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// 조회수 write-behind 집계기
+// - 상세 조회 시에는 메모리의 LongAdder만 증가 (DB 쓰기/행 잠금 없음)
+// - 주기적으로(그리고 종료 시) 쌓인 증가분을 UPDATE ... SET count = count + ? 배치로 반영
+// - 반영 실패 시 증가분을 다시 돌려놓고 다음 주기에 재시도
+// - 한 주기 동안 증가가 없던 키는 같은 adder일 때만 제거하고, 제거 직후 다시 확인해 그 사이 들어온 증가분은 되돌려 놓음
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ViewCountService {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<ViewCountTarget, ConcurrentHashMap<Integer, LongAdder>> pending = new EnumMap<>(ViewCountTarget.class);
+    private final Map<ViewCountTarget, LongAdder> pendingTotals = new EnumMap<>(ViewCountTarget.class); // 게이지용 (맵 순회 없이)
+    private final Map<ViewCountTarget, Counter> flushedCounters = new EnumMap<>(ViewCountTarget.class);
+    private Counter failedCounter;
+
+    @PostConstruct
+    public void init() {
+        for (ViewCountTarget target : ViewCountTarget.values()) {
+            ConcurrentHashMap<Integer, LongAdder> counters = new ConcurrentHashMap<>();
+            LongAdder total = new LongAdder();
+            pending.put(target, counters);
+            pendingTotals.put(target, total);
+            flushedCounters.put(target, Counter.builder("view-count.flushed")
+                    .description("DB에 반영된 조회수 증가분")
+                    .tag("target", target.getKey())
+                    .register(meterRegistry));
+            Gauge.builder("view-count.pending", total, LongAdder::sum)
+                    .description("아직 DB에 반영되지 않은 조회수")
+                    .tag("target", target.getKey())
+                    .register(meterRegistry);
+        }
+        failedCounter = Counter.builder("view-count.flush.failed").register(meterRegistry);
+    }
+
+    public void increment(ViewCountTarget target, Integer id) {
+        pending.get(target).computeIfAbsent(id, k -> new LongAdder()).increment();
+        pendingTotals.get(target).increment();
+    }
+
+    // 아직 반영되지 않은 증가분 (응답에 최신 조회수를 보여줄 때 DB 값에 더해서 사용)
+    public long pendingCount(ViewCountTarget target, Integer id) {
+        LongAdder adder = pending.get(target).get(id);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    @Scheduled(fixedDelayString = "${view-count.flush-interval-ms:5000}")
+    public void flush() {
+        for (ViewCountTarget target : ViewCountTarget.values()) {
+            flush(target);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("🛑 종료 전 조회수 반영");
+        flush();
+    }
+
+    private void flush(ViewCountTarget target) {
+        ConcurrentHashMap<Integer, LongAdder> counters = pending.get(target);
+        List<Object[]> batch = new ArrayList<>();
+        counters.forEach((id, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta > 0) batch.add(new Object[]{delta, id});
+            else retire(counters, id, adder);
+        });
+        if (batch.isEmpty()) return;
+
+        try {
+            jdbcTemplate.batchUpdate(target.getIncrementSql(), batch);
+            long total = batch.stream().mapToLong(row -> (Long) row[0]).sum();
+            flushedCounters.get(target).increment(total);
+            pendingTotals.get(target).add(-total);
+            log.debug("👀 조회수 반영 - target={}, 대상={}건, 증가분={}", target.getKey(), batch.size(), total);
+        } catch (Exception e) {
+            // 다음 주기에 다시 반영되도록 증가분 복구
+            log.warn("❌ 조회수 반영 실패 - target={}, 원인={}", target.getKey(), e.getMessage());
+            failedCounter.increment();
+            for (Object[] row : batch) {
+                counters.computeIfAbsent((Integer) row[1], k -> new LongAdder()).add((Long) row[0]);
+            }
+        }
+    }
+
+    // 지난 주기 이후 증가가 없던 키 제거 (다른 스레드가 이미 새 adder로 바꿨으면 건드리지 않음)
+    private void retire(ConcurrentHashMap<Integer, LongAdder> counters, Integer id, LongAdder adder) {
+        if (!counters.remove(id, adder)) return;
+        // 제거 직전에 이 adder를 받아간 increment의 증가분은 새 adder로 옮김
+        long late = adder.sumThenReset();
+        if (late > 0) counters.computeIfAbsent(id, k -> new LongAdder()).add(late);
+    }
+}
@@ -0,0 +1,18 @@
+package com.ssafy.hellojob.global.common.viewcount;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 조회수를 모아서 반영할 대상 테이블
+@Getter
+@RequiredArgsConstructor
+public enum ViewCountTarget {
+
+    COMPANY_ANALYSIS("company-analysis",
+            "UPDATE company_analysis SET company_analysis_view_count = company_analysis_view_count + ? WHERE company_analysis_id = ?"),
+    JOB_ROLE_ANALYSIS("job-role-analysis",
+            "UPDATE job_role_analysis SET job_role_view_count = job_role_view_count + ? WHERE job_role_analysis_id = ?");
+
+    private final String key;
+    private final String incrementSql;
+}
@@ -40,6 +40,9 @@ public class SecurityConfig {
     @Value("${frontend.url}")
     private String frontendUrl;
 
+    @Value("${management.server.port:8081}")
+    private int managementPort;
+
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
@@ -51,6 +54,9 @@ public class SecurityConfig {
                 )
                 //요청 권한 설정
                 .authorizeHttpRequests(auth -> auth
+                        // actuator는 내부 주소에 바인딩된 관리 포트로만 노출 (서비스 포트에서는 매핑 자체가 없음)
+                        .requestMatchers(request -> request.getLocalPort() == managementPort).permitAll()
+                        .requestMatchers("/actuator/**").denyAll()
                         .requestMatchers("/api/v1/auth/**", "/oauth2/**", "/login/**", "/error").permitAll()
                         .requestMatchers("/sse/**").authenticated()
                         .anyRequest().authenticated()
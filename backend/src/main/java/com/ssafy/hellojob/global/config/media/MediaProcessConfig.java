@@ -0,0 +1,22 @@
+package com.ssafy.hellojob.global.config.media;
+
+import com.ssafy.hellojob.domain.interview.service.MediaProcessPool;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MediaProcessConfig {
+
+    @Value("${media.process.max-concurrent:2}")
+    private int maxConcurrent;
+
+    @Value("${media.process.queue-capacity:200}")
+    private int queueCapacity;
+
+    @Bean(destroyMethod = "shutdown")
+    public MediaProcessPool mediaProcessPool(MeterRegistry meterRegistry) {
+        return new MediaProcessPool(maxConcurrent, queueCapacity, meterRegistry);
+    }
+}
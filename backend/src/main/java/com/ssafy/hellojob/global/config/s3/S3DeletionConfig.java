@@ -0,0 +1,60 @@
+package com.ssafy.hellojob.global.config.s3;
+
+import com.ssafy.hellojob.domain.interview.storage.AwsS3ObjectDeleter;
+import com.ssafy.hellojob.domain.interview.storage.LocalS3ObjectDeleter;
+import com.ssafy.hellojob.domain.interview.storage.S3ObjectDeleter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import software.amazon.awssdk.services.s3.S3Client;
+
+@Configuration
+public class S3DeletionConfig {
+
+    @Value("${s3.deletion.parallelism:4}")
+    private int parallelism;
+
+    // S3 배치 삭제 전용 스레드 풀 (동시에 보낼 DeleteObjects 요청 수)
+    @Bean(name = "s3DeletionExecutor")
+    public ThreadPoolTaskExecutor s3DeletionExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        executor.setThreadNamePrefix("s3-deletion-");
+        executor.setWaitForTasksToCompleteOnShutdown(false); // 처리 못 한 행은 lease 만료 후 다시 시도됨
+        executor.initialize();
+        return executor;
+    }
+
+    // outbox 처리 루프 전용 스레드 (최대 max-drain-seconds 동안 돌기 때문에 공용 스케줄러 스레드에서 돌리지 않음)
+    // 동시에 하나만 실행되도록 S3DeletionWorker 가 보장하므로 스레드 1개, 대기열 1칸이면 충분
+    @Bean(name = "s3DeletionDrainExecutor")
+    public ThreadPoolTaskExecutor s3DeletionDrainExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.setThreadNamePrefix("s3-deletion-drain-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+
+    // 로컬 실행/테스트: s3.deletion.store=local (메모리 기반, 실제 버킷에 요청하지 않음)
+    @Bean
+    @ConditionalOnProperty(name = "s3.deletion.store", havingValue = "local")
+    public S3ObjectDeleter localS3ObjectDeleter() {
+        return new LocalS3ObjectDeleter();
+    }
+
+    // 기본값: 실제 S3
+    @Bean
+    @ConditionalOnMissingBean(S3ObjectDeleter.class)
+    public S3ObjectDeleter awsS3ObjectDeleter(S3Client s3Client,
+                                              @Value("${cloud.aws.s3.bucket}") String bucketName) {
+        return new AwsS3ObjectDeleter(s3Client, bucketName);
+    }
+}
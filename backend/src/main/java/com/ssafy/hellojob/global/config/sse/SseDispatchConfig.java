@@ -0,0 +1,34 @@
+package com.ssafy.hellojob.global.config.sse;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class SseDispatchConfig {
+
+    @Value("${sse.dispatch.threads:4}")
+    private int dispatchThreads;
+
+    @Value("${sse.dispatch.max-threads:16}")
+    private int maxDispatchThreads;
+
+    @Value("${sse.dispatch.executor-queue-capacity:64}")
+    private int executorQueueCapacity;
+
+    // SSE 전송 전용 스레드 풀 (FastAPI 콜백/ForkJoin 스레드가 소켓 쓰기에 묶이지 않도록 분리)
+    // - 큐는 유한: 느린 소켓 쓰기에 스레드가 묶여 큐가 차면 max-threads까지 늘려 다른 연결 전송을 계속 진행
+    // - 작업 단위가 이벤트가 아닌 연결별 drain이라 큐 길이 ≈ 전송 대기 중인 연결 수
+    @Bean(name = "sseDispatchExecutor")
+    public ThreadPoolTaskExecutor sseDispatchExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(dispatchThreads);
+        executor.setMaxPoolSize(Math.max(dispatchThreads, maxDispatchThreads));
+        executor.setQueueCapacity(executorQueueCapacity);
+        executor.setThreadNamePrefix("sse-dispatch-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+}
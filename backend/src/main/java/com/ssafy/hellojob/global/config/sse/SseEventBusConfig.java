@@ -0,0 +1,67 @@
+package com.ssafy.hellojob.global.config.sse;
+
+import com.ssafy.hellojob.domain.sse.bus.LocalSseEventBus;
+import com.ssafy.hellojob.domain.sse.bus.RedisSseEventBus;
+import com.ssafy.hellojob.domain.sse.bus.SseEventBus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.UUID;
+
+@Configuration
+public class SseEventBusConfig {
+
+    // 비워두면 호스트명 + 임의 접미사 (재시작마다 새 노드로 취급)
+    @Value("${sse.bus.node-id:}")
+    private String nodeId;
+
+    // 연결이 끊긴 뒤 마지막 소유 노드/inbox를 유지하는 시간 = 재전송 보관 기간
+    @Value("${sse.replay.ttl-seconds:1800}")
+    private long replayTtlSeconds;
+
+    @Value("${sse.bus.inbox-capacity:100}")
+    private int inboxCapacity;
+
+    // 백엔드를 여러 대 띄울 때: sse.bus.type=redis
+    @Bean
+    @ConditionalOnProperty(name = "sse.bus.type", havingValue = "redis")
+    public RedisMessageListenerContainer sseRedisListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "sse.bus.type", havingValue = "redis")
+    public SseEventBus redisSseEventBus(StringRedisTemplate redisTemplate,
+                                        RedisMessageListenerContainer sseRedisListenerContainer) {
+        return new RedisSseEventBus(resolveNodeId(), redisTemplate, sseRedisListenerContainer,
+                Duration.ofSeconds(replayTtlSeconds), inboxCapacity);
+    }
+
+    // 기본값: 단일 노드
+    @Bean
+    @ConditionalOnProperty(name = "sse.bus.type", havingValue = "local", matchIfMissing = true)
+    public SseEventBus localSseEventBus() {
+        return new LocalSseEventBus.Network(Duration.ofSeconds(replayTtlSeconds)).join(resolveNodeId());
+    }
+
+    private String resolveNodeId() {
+        if (nodeId != null && !nodeId.isBlank()) return nodeId;
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "node";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
@@ -1,17 +1,21 @@
 package com.ssafy.hellojob.global.config.stt;
 
-import com.ssafy.hellojob.domain.interview.dto.request.SttRequest;
+import com.ssafy.hellojob.domain.interview.service.SttFairQueue;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
-
 @Configuration
 public class SttQueueConfig {
 
+    @Value("${stt.queue.capacity:200}")
+    private int capacity;
+
+    @Value("${stt.queue.per-user-limit:10}")
+    private int perUserLimit;
+
     @Bean
-    public BlockingQueue<SttRequest> sttRequestQueue() {
-        return new LinkedBlockingQueue<>();
+    public SttFairQueue sttRequestQueue() {
+        return new SttFairQueue(capacity, perUserLimit);
     }
 }
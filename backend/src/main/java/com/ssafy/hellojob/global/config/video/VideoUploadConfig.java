@@ -0,0 +1,31 @@
+package com.ssafy.hellojob.global.config.video;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class VideoUploadConfig {
+
+    @Value("${video.upload.threads:4}")
+    private int uploadThreads;
+
+    @Value("${video.upload.queue-capacity:100}")
+    private int queueCapacity;
+
+    // 업로드/길이 추출이 끝난 영상의 DB 저장 전용 스레드 풀 (S3 SDK/미디어 워커 스레드에서 DB 작업을 하지 않도록 분리)
+    // 큐가 가득 차면 TaskRejectedException → 업로드 요청 거절
+    @Bean(name = "videoUploadExecutor")
+    public ThreadPoolTaskExecutor videoUploadExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(uploadThreads);
+        executor.setMaxPoolSize(uploadThreads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("video-upload-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,31 @@
+package com.ssafy.hellojob.global.config.webclient;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class FastApiCallbackConfig {
+
+    @Value("${fastapi.callback.threads:4}")
+    private int callbackThreads;
+
+    @Value("${fastapi.callback.queue-capacity:64}")
+    private int queueCapacity;
+
+    // FastAPI 비동기 응답의 후처리(DB 저장 + SSE) 전용 스레드 풀
+    // 공용 ForkJoinPool에서 DB 작업을 하지 않도록 분리, 큐가 가득 차면 해당 요청은 실패 처리(exceptionally)로 넘어감
+    @Bean(name = "fastApiCallbackExecutor")
+    public ThreadPoolTaskExecutor fastApiCallbackExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(callbackThreads);
+        executor.setMaxPoolSize(callbackThreads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("fastapi-callback-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+}
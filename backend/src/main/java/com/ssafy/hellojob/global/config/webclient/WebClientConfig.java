@@ -4,12 +4,14 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.util.StdDateFormat;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ssafy.hellojob.global.common.client.FastApiBulkheads;
+import com.ssafy.hellojob.global.common.client.FastApiEndpoint;
 import io.netty.channel.ChannelOption;
-import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.handler.timeout.WriteTimeoutHandler;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.http.MediaType;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.http.codec.json.Jackson2JsonDecoder;
@@ -17,6 +19,7 @@ import org.springframework.http.codec.json.Jackson2JsonEncoder;
 import org.springframework.web.reactive.function.client.ExchangeStrategies;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 import org.springframework.web.client.RestTemplate;
 
 import java.time.Duration;
@@ -28,21 +31,68 @@ public class WebClientConfig {
     @Value("${FASTAPI_URL}")
     private String fastApiUrl;
 
+    @Value("${OPENAI_API_URL}")
+    private String openAiUrl;
+
+    @Value("${OPENAI_API_KEY}")
+    private String openAiKey;
+
+    @Value("${stt.http.max-connections:8}")
+    private int sttMaxConnections;
+
+    @Value("${stt.http.pending-acquire-max:32}")
+    private int sttPendingAcquireMax;
+
+    // FastAPI 엔드포인트별 bulkhead
+    // 엔드포인트마다 별도 커넥션 풀(name=fastapi-{key})을 두어 동시 실행 수와 대기열을 따로 제한
+    // 풀 사용량은 reactor.netty.connection.provider.* 지표로 엔드포인트별 노출
     @Bean
-    public WebClient fastApiWebClient() {
+    public FastApiBulkheads fastApiBulkheads(Environment environment) {
+        ExchangeStrategies strategies = fastApiExchangeStrategies();
+        FastApiBulkheads bulkheads = new FastApiBulkheads();
+
+        for (FastApiEndpoint endpoint : FastApiEndpoint.values()) {
+            String prefix = "fastapi.bulkhead." + endpoint.getKey() + ".";
+            int maxConcurrent = environment.getProperty(prefix + "max-concurrent", Integer.class, 4);
+            int maxQueued = environment.getProperty(prefix + "max-queued", Integer.class, 16);
+            Duration timeout = Duration.ofSeconds(environment.getProperty(prefix + "timeout-seconds", Long.class, 600L));
+
+            ConnectionProvider connectionProvider = ConnectionProvider.builder("fastapi-" + endpoint.getKey())
+                    .maxConnections(maxConcurrent)
+                    .pendingAcquireMaxCount(maxQueued)
+                    .pendingAcquireTimeout(timeout) // 대기열에 들어간 요청은 응답 타임아웃만큼 기다림
+                    .maxIdleTime(Duration.ofSeconds(50))
+                    .evictInBackground(Duration.ofSeconds(30))
+                    .metrics(true)
+                    .build();
+
+            // 읽기는 요청 단위 responseTimeout으로 제한 (ReadTimeoutHandler는 풀에 남은 유휴 커넥션까지 끊으므로 쓰지 않음)
+            // 쓰기는 요청 본문 전송이 멈춘 경우를 끊기 위해 WriteTimeoutHandler 유지
+            HttpClient httpClient = HttpClient.create(connectionProvider)
+                    .keepAlive(true)
+                    .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 10_000) // 연결 타임아웃 (10초)
+                    .responseTimeout(timeout)                              // 응답 타임아웃 (엔드포인트별)
+                    .doOnConnected(conn -> conn
+                            .addHandlerLast(new WriteTimeoutHandler(timeout.toSeconds(), TimeUnit.SECONDS)));
+
+            WebClient webClient = WebClient.builder()
+                    .baseUrl(fastApiUrl)
+                    .clientConnector(new ReactorClientHttpConnector(httpClient))
+                    .exchangeStrategies(strategies)
+                    .build();
+
+            bulkheads.register(endpoint, webClient, maxConcurrent, maxQueued);
+        }
+        return bulkheads;
+    }
+
+    private ExchangeStrategies fastApiExchangeStrategies() {
         ObjectMapper objectMapper = new ObjectMapper();
         objectMapper.registerModule(new JavaTimeModule());
         objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
         objectMapper.setDateFormat(new StdDateFormat().withColonInTimeZone(true));
 
-        HttpClient httpClient = HttpClient.create()
-                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 10_000) // 연결 타임아웃 (10초)
-                .responseTimeout(Duration.ofMinutes(10))               // 응답 타임아웃 (3분)
-                .doOnConnected(conn -> conn
-                        .addHandlerLast(new ReadTimeoutHandler(600, TimeUnit.SECONDS))
-                        .addHandlerLast(new WriteTimeoutHandler(600, TimeUnit.SECONDS)));
-
-        ExchangeStrategies strategies = ExchangeStrategies.builder()
+        return ExchangeStrategies.builder()
                 .codecs(configurer -> {
                     configurer.defaultCodecs().jackson2JsonEncoder(
                             new Jackson2JsonEncoder(objectMapper, MediaType.APPLICATION_JSON)
@@ -52,11 +102,31 @@ public class WebClientConfig {
                     );
                 })
                 .build();
+    }
+
+    // STT(OpenAI transcription) 전용 클라이언트
+    // 커넥션 풀 + keep-alive로 매 호출마다 TLS 핸드셰이크를 다시 하지 않도록 함
+    // 풀 사용량은 reactor.netty.connection.provider.* 지표로 노출 (name=stt)
+    @Bean
+    public WebClient sttWebClient() {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("stt")
+                .maxConnections(sttMaxConnections)
+                .pendingAcquireMaxCount(sttPendingAcquireMax)
+                .pendingAcquireTimeout(Duration.ofSeconds(30))
+                .maxIdleTime(Duration.ofSeconds(50))   // 서버 측 idle timeout보다 짧게
+                .evictInBackground(Duration.ofSeconds(30))
+                .metrics(true)
+                .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .keepAlive(true)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 3_000) // 연결 시도 최대 3초
+                .responseTimeout(Duration.ofSeconds(20));            // 응답 대기 최대 20초
 
         return WebClient.builder()
-                .baseUrl(fastApiUrl)
+                .baseUrl(openAiUrl)
+                .defaultHeaders(headers -> headers.setBearerAuth(openAiKey))
                 .clientConnector(new ReactorClientHttpConnector(httpClient))
-                .exchangeStrategies(strategies)
                 .build();
     }
 
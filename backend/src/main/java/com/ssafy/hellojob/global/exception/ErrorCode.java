@@ -16,6 +16,7 @@ public enum ErrorCode {
     SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR,"서버 내부에서 알 수 없는 오류가 발생했습니다."),
     BIND_ERROR(HttpStatus.BAD_REQUEST, "요청 파라미터 바인딩에 실패했습니다."),
     ARGUMENT_TYPE_MISMATCH(HttpStatus.BAD_REQUEST, "요청 파라미터 타입이 일치하지 않습니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "유효하지 않은 페이지 커서입니다."),
 
     // 회원
     USER_NOT_FOUND(HttpStatus.NOT_FOUND, "사용자를 찾을 수 없습니다."),
@@ -75,6 +76,7 @@ public enum ErrorCode {
     INTERVIEW_VIDEO_MISMATCH(HttpStatus.FORBIDDEN, "면접 영상 소유자와 요청 유저가 일치하지 않습니다."),
     GET_VIDEO_LENGTH_FAIL(HttpStatus.INTERNAL_SERVER_ERROR, "영상 길이 추출에 실패했습니다."),
     VIDEO_TOO_LARGE(HttpStatus.BAD_REQUEST, "영상 파일의 최대 저장 가능한 크기는 500MB입니다."),
+    VIDEO_LENGTH_INVALID(HttpStatus.BAD_REQUEST, "영상 길이를 확인할 수 없습니다. 손상되었거나 비어있는 영상입니다."),
     AUDIO_TOO_LARGE(HttpStatus.BAD_REQUEST, "음성 파일의 최대 변환 가능한 크기는 25MB입니다."),
     STT_TRANSCRIBE_INTERRUPTED(HttpStatus.INTERNAL_SERVER_ERROR, "stt 변환 중 인터럽트 발생"),
 
@@ -85,6 +87,7 @@ public enum ErrorCode {
 
     // FastAPI
     FAST_API_RESPONSE_ERROR(HttpStatus.SERVICE_UNAVAILABLE, "AI 응답 중 에러가 발생하였습니다. 잠시 후 다시 시도해주세요."),
+    FAST_API_BULKHEAD_FULL(HttpStatus.SERVICE_UNAVAILABLE, "AI 요청이 몰려 지금은 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
     SERIALIZATION_FAIL(HttpStatus.INTERNAL_SERVER_ERROR, "직렬화 실패"),
     DESERIALIZATION_FAIL(HttpStatus.INTERNAL_SERVER_ERROR, "역직렬화 실패"),
 
@@ -94,6 +97,8 @@ public enum ErrorCode {
     S3_KEY_EXTRACTION_FAILED(HttpStatus.BAD_REQUEST, "S3 URL에서 키를 추출할 수 없습니다."),
 
     STT_QUEUE_FULL(HttpStatus.INTERNAL_SERVER_ERROR, "STT 처리 대기열이 가득 찼습니다."),
+    VIDEO_UPLOAD_QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE, "영상 업로드 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요."),
+    VIDEO_SPOOL_FAIL(HttpStatus.INTERNAL_SERVER_ERROR, "영상 임시 저장에 실패했습니다."),
 
 
     TEST_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "이거 터져도 저장 되어야함")
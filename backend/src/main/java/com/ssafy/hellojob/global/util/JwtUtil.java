@@ -11,8 +11,14 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import static com.ssafy.hellojob.global.exception.ErrorCode.EXPIRED_TOKEN;
 import static com.ssafy.hellojob.global.exception.ErrorCode.INVALID_TOKEN;
@@ -20,19 +26,38 @@ import static com.ssafy.hellojob.global.exception.ErrorCode.INVALID_TOKEN;
 @Component
 public class JwtUtil {
 
+    // 검증을 통과한 토큰 정보 (subject + 만료 시각)
+    private record VerifiedToken(String subject, long expiresAtMillis) {
+    }
+
     private final SecretKey key;
+    private final JwtParser parser; // 키/파서는 한 번만 만들고 재사용 (thread-safe)
     private final long accessTokenExpiration;
     private final long refreshTokenExpiration;
 
+    // 토큰 SHA-256 digest → 검증 결과 (LRU, 만료된 항목은 조회 시 제거)
+    // 같은 토큰은 만료 전까지 서명 검증/파싱을 다시 하지 않음
+    private final Map<String, VerifiedToken> verifiedTokens;
+
     public JwtUtil(
             @Value("${jwt.secret}") String secret,
             @Value("${jwt.access-token-expiration}") long accessTokenExpiration,
-            @Value("${jwt.refresh-token-expiration}") long refreshTokenExpiration
+            @Value("${jwt.refresh-token-expiration}") long refreshTokenExpiration,
+            @Value("${jwt.verified-cache.max-size:10000}") int verifiedCacheMaxSize
     ) {
         byte[] keyBytes = Decoders.BASE64.decode(secret);
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.parser = Jwts.parser()
+                .verifyWith(key)
+                .build();
         this.accessTokenExpiration = accessTokenExpiration;
         this.refreshTokenExpiration = refreshTokenExpiration;
+        this.verifiedTokens = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, VerifiedToken> eldest) {
+                return size() > verifiedCacheMaxSize;
+            }
+        };
     }
 
     public TokenDto generateTokens(String email) {
@@ -54,20 +79,42 @@ public class JwtUtil {
     }
 
     public String getEmailFromToken(String token) {
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .getSubject();
+        return verify(token).subject();
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(key)                // setSigningKey() 대신 verifyWith()
-                .build()
-                .parseSignedClaims(token)      // parseClaimsJws() 대신 parseSignedClaims()
-                .getPayload();                 // getBody() 대신 getPayload()
+    // 캐시에 있고 아직 만료 전이면 그대로 사용, 아니면 서명 검증 후 캐시
+    // 검증 실패 시 jjwt 예외를 그대로 던짐 (실패한 토큰은 캐시하지 않음)
+    private VerifiedToken verify(String token) {
+        if (token == null) throw new IllegalArgumentException("token is null");
+
+        String digest = digest(token);
+        long now = System.currentTimeMillis();
+        synchronized (verifiedTokens) {
+            VerifiedToken cached = verifiedTokens.get(digest);
+            if (cached != null) {
+                if (now < cached.expiresAtMillis()) return cached;
+                verifiedTokens.remove(digest); // 만료 → 아래에서 다시 파싱하면 ExpiredJwtException
+            }
+        }
+
+        Claims claims = parser.parseSignedClaims(token).getPayload();
+        // 만료 시각이 없는 토큰은 캐시하지 않음
+        if (claims.getExpiration() == null) return new VerifiedToken(claims.getSubject(), now);
+
+        VerifiedToken verified = new VerifiedToken(claims.getSubject(), claims.getExpiration().getTime());
+        synchronized (verifiedTokens) {
+            verifiedTokens.put(digest, verified);
+        }
+        return verified;
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e); // 모든 JVM이 SHA-256을 지원
+        }
     }
 
     public String extractAccessToken(HttpServletRequest request) {
@@ -96,7 +143,7 @@ public class JwtUtil {
 
     public boolean validateToken(String token) {
         try {
-            extractAllClaims(token);
+            verify(token);
             return true;
         } catch (SecurityException | MalformedJwtException |
                  UnsupportedJwtException | IllegalArgumentException e) {
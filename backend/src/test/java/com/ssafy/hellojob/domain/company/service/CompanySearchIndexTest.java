@@ -0,0 +1,80 @@
+package com.ssafy.hellojob.domain.company.service;
+
+import com.ssafy.hellojob.domain.company.dto.CompanyListDto;
+import com.ssafy.hellojob.domain.company.entity.Company;
+import com.ssafy.hellojob.domain.company.entity.CompanySize;
+import com.ssafy.hellojob.domain.company.repository.CompanyRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CompanySearchIndexTest {
+
+	private static final LocalDateTime BASE = LocalDateTime.of(2026, 10, 1, 12, 0);
+
+	private final CompanyRepository companyRepository = mock(CompanyRepository.class);
+
+	@Test
+	void 기업명_부분_일치와_초성_검색() {
+		when(companyRepository.findAllVisible()).thenReturn(List.of(
+				company(1, "삼성전자", "samsung", 0), company(2, "LG전자", "엘지", 1), company(3, "삼성SDS", null, 2)));
+		CompanySearchIndex index = index(600_000);
+
+		assertThat(index.search("전자", 8)).extracting(CompanyListDto::getId).containsExactlyInAnyOrder(1, 2);
+		assertThat(index.search("ㅅㅅ", 8)).extracting(CompanyListDto::getId).containsExactly(3, 1);
+		assertThat(index.search("lg", 8)).extracting(CompanyListDto::getId).containsExactly(2);
+	}
+
+	@Test
+	void 물리_삭제된_기업은_reconcile_주기에_인덱스에서_제거() {
+		when(companyRepository.findAllVisible()).thenReturn(List.of(
+				company(1, "삼성전자", null, 0), company(2, "삼성SDS", null, 1)));
+		when(companyRepository.findAllUpdatedSince(any())).thenReturn(List.of());
+		when(companyRepository.findAllVisibleIds()).thenReturn(Set.of(1));
+		CompanySearchIndex index = index(0);
+
+		index.refresh();
+
+		assertThat(index.search("삼성", 8)).extracting(CompanyListDto::getId).containsExactly(1);
+		assertThat(index.search("sds", 8)).isEmpty();
+	}
+
+	@Test
+	void reconcile_주기_전에는_id_목록을_조회하지_않음() {
+		when(companyRepository.findAllVisible()).thenReturn(List.of(company(1, "삼성전자", null, 0)));
+		when(companyRepository.findAllUpdatedSince(any())).thenReturn(List.of());
+		CompanySearchIndex index = index(600_000);
+
+		index.refresh();
+
+		verify(companyRepository, never()).findAllVisibleIds();
+	}
+
+	private CompanySearchIndex index(long reconcileIntervalMillis) {
+		CompanySearchIndex index = new CompanySearchIndex(companyRepository, new SimpleMeterRegistry(), reconcileIntervalMillis);
+		index.load();
+		return index;
+	}
+
+	static Company company(int id, String name, String keyword, int minutes) {
+		Company company = new Company();
+		ReflectionTestUtils.setField(company, "companyId", id);
+		ReflectionTestUtils.setField(company, "companyName", name);
+		ReflectionTestUtils.setField(company, "searchKeyword", keyword);
+		ReflectionTestUtils.setField(company, "companySize", CompanySize.대기업);
+		ReflectionTestUtils.setField(company, "companyVisible", true);
+		ReflectionTestUtils.setField(company, "updatedAt", BASE.plusMinutes(minutes));
+		return company;
+	}
+}
@@ -0,0 +1,69 @@
+package com.ssafy.hellojob.domain.companyanalysis.service;
+
+import com.ssafy.hellojob.domain.company.entity.CompanySize;
+import com.ssafy.hellojob.domain.companyanalysis.dto.response.CompanyAnalysisCursorResponseDto;
+import com.ssafy.hellojob.domain.companyanalysis.dto.response.CompanyAnalysisListResponseDto;
+import com.ssafy.hellojob.domain.companyanalysis.dto.response.CompanyAnalysisListRowDto;
+import com.ssafy.hellojob.domain.companyanalysis.repository.CompanyAnalysisBookmarkRepository;
+import com.ssafy.hellojob.domain.companyanalysis.repository.CompanyAnalysisRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CompanyAnalysisServiceTest {
+
+	private static final LocalDateTime BASE = LocalDateTime.of(2026, 10, 1, 12, 0);
+
+	@Mock
+	private CompanyAnalysisRepository companyAnalysisRepository;
+	@Mock
+	private CompanyAnalysisBookmarkRepository companyAnalysisBookmarkRepository;
+	@InjectMocks
+	private CompanyAnalysisService companyAnalysisService;
+
+	@Test
+	void 공개_목록과_본인_목록을_최신순으로_병합하고_본인_공개_분석은_한_번만_담음() {
+		// 8번은 본인이 작성한 공개 분석이라 양쪽 조회 결과에 모두 나옴
+		when(companyAnalysisRepository.findPublicListRows(any(), any(), any()))
+				.thenReturn(List.of(row(10, 10, true), row(8, 8, true), row(5, 5, true)));
+		when(companyAnalysisRepository.findOwnListRows(eq(1), any(), any(), any()))
+				.thenReturn(List.of(row(9, 9, false), row(8, 8, true), row(3, 3, false)));
+
+		CompanyAnalysisCursorResponseDto response = companyAnalysisService.searchAllCompanyAnalysisPage(1, null, 4);
+
+		assertThat(response.getContent()).extracting(CompanyAnalysisListResponseDto::getCompanyAnalysisId)
+				.containsExactly(10, 9, 8, 5);
+		assertThat(response.isHasNext()).isTrue();
+	}
+
+	@Test
+	void 생성_시각이_같으면_id_내림차순으로_병합() {
+		when(companyAnalysisRepository.findPublicListRows(any(), any(), any()))
+				.thenReturn(List.of(row(7, 0, true), row(4, 0, true)));
+		when(companyAnalysisRepository.findOwnListRows(eq(1), any(), any(), any()))
+				.thenReturn(List.of(row(6, 0, false)));
+
+		CompanyAnalysisCursorResponseDto response = companyAnalysisService.searchAllCompanyAnalysisPage(1, null, 20);
+
+		assertThat(response.getContent()).extracting(CompanyAnalysisListResponseDto::getCompanyAnalysisId)
+				.containsExactly(7, 6, 4);
+		assertThat(response.isHasNext()).isFalse();
+		assertThat(response.getNextCursor()).isNull();
+	}
+
+	private static CompanyAnalysisListRowDto row(int id, int minutes, boolean isPublic) {
+		return new CompanyAnalysisListRowDto(id, "분석" + id, BASE.plusMinutes(minutes), 0, 0, isPublic,
+				"회사", "서울", CompanySize.대기업, "IT", null, null, null, false);
+	}
+}
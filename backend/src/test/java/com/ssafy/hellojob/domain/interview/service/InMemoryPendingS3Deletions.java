@@ -0,0 +1,91 @@
+package com.ssafy.hellojob.domain.interview.service;
+
+import com.ssafy.hellojob.domain.interview.entity.PendingS3Deletion;
+import com.ssafy.hellojob.domain.interview.repository.PendingS3DeletionRepository;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// pending_s3_deletion 테이블 대역
+// findDue / lease / deleteByIds / countDue 를 JPQL 과 같은 조건으로 메모리에서 처리 (행 잠금은 synchronized 로 대신함)
+class InMemoryPendingS3Deletions {
+
+	private final Map<Long, PendingS3Deletion> rows = new ConcurrentHashMap<>();
+	private final AtomicLong sequence = new AtomicLong();
+	private final PendingS3DeletionRepository repository = mock(PendingS3DeletionRepository.class);
+
+	InMemoryPendingS3Deletions() {
+		when(repository.findDue(any(), any())).thenAnswer(invocation -> findDue(invocation.getArgument(0), invocation.getArgument(1)));
+		when(repository.lease(anyList(), any(), any())).thenAnswer(invocation ->
+				lease(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2)));
+		when(repository.deleteByIds(anyList())).thenAnswer(invocation -> {
+			List<Long> ids = invocation.getArgument(0);
+			return (int) ids.stream().filter(id -> rows.remove(id) != null).count();
+		});
+		when(repository.findAllById(any())).thenAnswer(invocation -> {
+			List<PendingS3Deletion> found = new ArrayList<>();
+			for (Long id : invocation.<Iterable<Long>>getArgument(0)) {
+				PendingS3Deletion row = rows.get(id);
+				if (row != null) found.add(row);
+			}
+			return found;
+		});
+		when(repository.countDue(any())).thenAnswer(invocation -> {
+			LocalDateTime now = invocation.getArgument(0);
+			return rows.values().stream().filter(row -> !row.getNextAttemptAt().isAfter(now)).count();
+		});
+	}
+
+	PendingS3DeletionRepository repository() {
+		return repository;
+	}
+
+	PendingS3Deletion add(String objectKey, LocalDateTime nextAttemptAt) {
+		PendingS3Deletion row = PendingS3Deletion.of(objectKey, nextAttemptAt);
+		ReflectionTestUtils.setField(row, "pendingS3DeletionId", sequence.incrementAndGet());
+		rows.put(row.getPendingS3DeletionId(), row);
+		return row;
+	}
+
+	PendingS3Deletion find(String objectKey) {
+		return rows.values().stream().filter(row -> row.getObjectKey().equals(objectKey)).findFirst().orElse(null);
+	}
+
+	Collection<PendingS3Deletion> all() {
+		return rows.values();
+	}
+
+	private synchronized List<PendingS3Deletion> findDue(LocalDateTime now, Pageable pageable) {
+		return rows.values().stream()
+				.filter(row -> !row.getNextAttemptAt().isAfter(now))
+				.sorted(Comparator.comparing(PendingS3Deletion::getNextAttemptAt)
+						.thenComparing(PendingS3Deletion::getPendingS3DeletionId))
+				.limit(pageable.getPageSize())
+				.toList();
+	}
+
+	private synchronized int lease(List<Long> ids, LocalDateTime now, LocalDateTime leaseUntil) {
+		int updated = 0;
+		for (Long id : ids) {
+			PendingS3Deletion row = rows.get(id);
+			if (row != null && !row.getNextAttemptAt().isAfter(now)) {
+				ReflectionTestUtils.setField(row, "nextAttemptAt", leaseUntil);
+				updated++;
+			}
+		}
+		return updated;
+	}
+}
@@ -0,0 +1,51 @@
+package com.ssafy.hellojob.domain.interview.service;
+
+import com.ssafy.hellojob.domain.interview.entity.InterviewCategory;
+import com.ssafy.hellojob.domain.interview.entity.InterviewVideo;
+import com.ssafy.hellojob.domain.interview.repository.InterviewAnswerRepository;
+import com.ssafy.hellojob.domain.interview.repository.InterviewHistoryRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+class InterviewHistoryServiceTest {
+
+	private static final LocalDateTime START = LocalDateTime.of(2026, 10, 1, 12, 0);
+
+	private final InterviewHistoryRepository historyRepository = mock(InterviewHistoryRepository.class);
+	private final InterviewAnswerRepository answerRepository = mock(InterviewAnswerRepository.class);
+	private final InterviewHistoryService historyService = new InterviewHistoryService(historyRepository, answerRepository);
+
+	@Test
+	void 조회_후_저장하지_않고_한_문장_upsert로_기록() {
+		InterviewVideo video = InterviewVideo.of(null, null, true, START, InterviewCategory.CS);
+		ReflectionTestUtils.setField(video, "interviewVideoId", 7);
+		when(answerRepository.findFirstQuestionByVideoId(7)).thenReturn(Optional.of("첫 질문"));
+
+		historyService.record(3, video, "제목");
+
+		verify(historyRepository).upsert(7, 3, "CS", true, START, "제목", "첫 질문", false);
+		verifyNoMoreInteractions(historyRepository);
+	}
+
+	@Test
+	void 제목이_없으면_기록하지_않음() {
+		InterviewVideo video = InterviewVideo.of(null, null, false, START, InterviewCategory.PERSONALITY);
+
+		historyService.record(3, video, null);
+
+		verify(historyRepository, never()).upsert(anyInt(), anyInt(), anyString(), anyBoolean(), any(), any(), any(), anyBoolean());
+	}
+}
@@ -0,0 +1,92 @@
+package com.ssafy.hellojob.domain.interview.service;
+
+import com.ssafy.hellojob.domain.sse.service.SSEService;
+import com.ssafy.hellojob.global.exception.BaseException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static com.ssafy.hellojob.global.exception.ErrorCode.VIDEO_LENGTH_INVALID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class InterviewVideoUploadServiceTest {
+
+	@TempDir
+	Path spoolDir;
+
+	private final S3UploadService s3UploadService = mock(S3UploadService.class);
+	private final InterviewAnswerSaveService saveService = mock(InterviewAnswerSaveService.class);
+	private final MediaProbeService mediaProbeService = mock(MediaProbeService.class);
+	private final SSEService sseService = mock(SSEService.class);
+	private final S3DeletionOutboxService outboxService = mock(S3DeletionOutboxService.class);
+	private InterviewVideoUploadService uploadService;
+
+	@BeforeEach
+	void setUp() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.initialize();
+		uploadService = new InterviewVideoUploadService(s3UploadService, saveService, mediaProbeService,
+				sseService, outboxService, executor, spoolDir.toString(), 5);
+	}
+
+	@Test
+	void 길이를_읽을_수_없는_영상은_접수_전에_거절하고_업로드하지_않음() throws Exception {
+		when(mediaProbeService.probeDuration(any(), any()))
+				.thenReturn(CompletableFuture.failedFuture(new BaseException(VIDEO_LENGTH_INVALID)));
+
+		assertThatThrownBy(() -> uploadService.submit(1, 10, video()))
+				.isInstanceOf(BaseException.class)
+				.extracting("errorCode").isEqualTo(VIDEO_LENGTH_INVALID);
+
+		verify(s3UploadService, never()).uploadVideo(any(), any(), any());
+		try (var files = Files.list(spoolDir)) {
+			assertThat(files).isEmpty();
+		}
+	}
+
+	@Test
+	void S3_업로드_실패는_SSE로_알림() {
+		when(mediaProbeService.probeDuration(any(), any())).thenReturn(CompletableFuture.completedFuture("00:01:00"));
+		when(s3UploadService.uploadVideo(any(), any(), any())).thenReturn(CompletableFuture.completedFuture(""));
+
+		uploadService.submit(1, 10, video());
+
+		verify(sseService, timeout(5_000)).sendToUser(1, "interview-video-failed", Map.of("interviewAnswerId", 10));
+		verify(saveService, never()).saveVideo(any(), any(), any(), any());
+	}
+
+	@Test
+	void DB_저장_실패는_SSE로_알리고_올라간_S3_객체는_삭제_예약() {
+		when(mediaProbeService.probeDuration(any(), any())).thenReturn(CompletableFuture.completedFuture("00:01:00"));
+		when(s3UploadService.uploadVideo(any(), any(), any()))
+				.thenReturn(CompletableFuture.completedFuture("https://bucket.s3.ap-northeast-2.amazonaws.com/videos/a.webm"));
+		doThrow(new IllegalStateException("db down")).when(saveService).saveVideo(eq(1), anyString(), eq("00:01:00"), eq(10));
+
+		uploadService.submit(1, 10, video());
+
+		verify(sseService, timeout(5_000)).sendToUser(1, "interview-video-failed", Map.of("interviewAnswerId", 10));
+		verify(outboxService).enqueueUrls(List.of("https://bucket.s3.ap-northeast-2.amazonaws.com/videos/a.webm"));
+	}
+
+	private MockMultipartFile video() {
+		return new MockMultipartFile("videoFile", "answer.webm", "video/webm", new byte[]{1, 2, 3});
+	}
+}
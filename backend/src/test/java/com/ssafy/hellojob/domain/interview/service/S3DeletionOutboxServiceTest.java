@@ -0,0 +1,69 @@
+package com.ssafy.hellojob.domain.interview.service;
+
+import com.ssafy.hellojob.domain.interview.entity.PendingS3Deletion;
+import com.ssafy.hellojob.domain.interview.service.S3DeletionOutboxService.ClaimedDeletion;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.mock;
+
+class S3DeletionOutboxServiceTest {
+
+	private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+	private final InMemoryPendingS3Deletions store = new InMemoryPendingS3Deletions();
+
+	@Test
+	void 기한이_지난_행만_오래된_순서로_가져가고_가져간_행은_lease_동안_다시_가져가지_않음() {
+		S3DeletionOutboxService outbox = outbox(300);
+		LocalDateTime now = LocalDateTime.now(ZONE);
+		store.add("b", now.minusMinutes(1));
+		store.add("a", now.minusMinutes(2));
+		store.add("later", now.plusMinutes(10));
+
+		List<ClaimedDeletion> first = outbox.claim(10);
+		List<ClaimedDeletion> second = outbox.claim(10);
+
+		assertThat(first).extracting(ClaimedDeletion::objectKey).containsExactly("a", "b");
+		assertThat(second).isEmpty();
+		assertThat(outbox.countDue()).isZero();
+	}
+
+	@Test
+	void 처리하지_못하고_lease가_만료된_행은_다시_가져감() {
+		S3DeletionOutboxService outbox = outbox(1);
+		store.add("orphan", LocalDateTime.now(ZONE).minusSeconds(1));
+
+		assertThat(outbox.claim(10)).extracting(ClaimedDeletion::objectKey).containsExactly("orphan");
+		assertThat(outbox.claim(10)).isEmpty();
+
+		// 워커가 complete/retryLater 없이 죽은 상황 → lease(1초)가 지나면 다시 대상이 됨
+		await().atMost(Duration.ofSeconds(3))
+				.until(() -> outbox.claim(10).stream().anyMatch(claimed -> claimed.objectKey().equals("orphan")));
+	}
+
+	@Test
+	void 실패한_key는_시도_횟수를_올리고_backoff_뒤로_미룸() {
+		S3DeletionOutboxService outbox = outbox(300);
+		PendingS3Deletion row = store.add("broken", LocalDateTime.now(ZONE));
+		outbox.claim(10);
+
+		outbox.retryLater(Map.of(row.getPendingS3DeletionId(), "InternalError"));
+
+		assertThat(row.getAttempts()).isEqualTo(1);
+		assertThat(row.getLastError()).isEqualTo("InternalError");
+		// base 10초 × 2^0, jitter 로 절반~전체
+		assertThat(row.getNextAttemptAt()).isAfter(LocalDateTime.now(ZONE).plusSeconds(4));
+	}
+
+	private S3DeletionOutboxService outbox(long leaseSeconds) {
+		return new S3DeletionOutboxService(store.repository(), mock(S3UploadService.class), leaseSeconds, 10, 3600, 10);
+	}
+}
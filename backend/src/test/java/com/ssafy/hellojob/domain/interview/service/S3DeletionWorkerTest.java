@@ -0,0 +1,133 @@
+package com.ssafy.hellojob.domain.interview.service;
+
+import com.ssafy.hellojob.domain.interview.entity.PendingS3Deletion;
+import com.ssafy.hellojob.domain.interview.repository.PendingS3DeletionRepository;
+import com.ssafy.hellojob.domain.interview.storage.LocalS3ObjectDeleter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class S3DeletionWorkerTest {
+
+	private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+	private final InMemoryPendingS3Deletions store = new InMemoryPendingS3Deletions();
+	private final LocalS3ObjectDeleter s3 = new LocalS3ObjectDeleter();
+	private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final ThreadPoolTaskExecutor executor = executor("s3-deletion-", 4);
+	private final ThreadPoolTaskExecutor drainExecutor = executor("s3-deletion-drain-", 1);
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdown();
+		drainExecutor.shutdown();
+	}
+
+	@Test
+	void 기한이_지난_key를_배치로_나눠_삭제하고_성공한_행은_outbox에서_제거() {
+		enqueue(5);
+		S3DeletionWorker worker = worker(store.repository(), 2, 8);
+
+		worker.drain();
+
+		assertThat(store.all()).isEmpty();
+		for (int i = 0; i < 5; i++) assertThat(s3.exists("video/" + i)).isFalse();
+		assertThat(s3.requestCount()).isEqualTo(3); // 2 + 2 + 1
+		assertThat(meterRegistry.get("s3.deletion.deleted").counter().count()).isEqualTo(5);
+		assertThat(meterRegistry.get("s3.deletion.due").gauge().value()).isZero();
+	}
+
+	@Test
+	void 부분_실패한_key만_backoff_후_재시도로_남김() {
+		enqueue(3);
+		s3.failNext("video/1", "InternalError");
+		S3DeletionWorker worker = worker(store.repository(), 1000, 8);
+
+		worker.drain();
+
+		assertThat(store.all()).extracting(PendingS3Deletion::getObjectKey).containsExactly("video/1");
+		PendingS3Deletion failed = store.find("video/1");
+		assertThat(failed.getAttempts()).isEqualTo(1);
+		assertThat(failed.getNextAttemptAt()).isAfter(LocalDateTime.now(ZONE));
+		assertThat(s3.exists("video/1")).isTrue();
+		assertThat(s3.exists("video/0")).isFalse();
+	}
+
+	@Test
+	void 속도_제한_응답을_받으면_요청_속도를_절반으로_낮추고_배치_전체를_재시도() {
+		enqueue(3);
+		s3.throttleNext(1);
+		S3DeletionWorker worker = worker(store.repository(), 1000, 8);
+
+		worker.drain();
+
+		assertThat(meterRegistry.get("s3.deletion.rate").gauge().value()).isEqualTo(4);
+		assertThat(meterRegistry.get("s3.deletion.throttled").counter().count()).isEqualTo(1);
+		assertThat(store.all()).hasSize(3).allSatisfy(row -> assertThat(row.getAttempts()).isEqualTo(1));
+		assertThat(s3.exists("video/0")).isTrue();
+	}
+
+	@Test
+	void 스케줄러_스레드는_바로_반환하고_처리는_전용_스레드에서_한_번에_하나만_실행() throws Exception {
+		enqueue(1);
+		CountDownLatch entered = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		List<String> drainThreads = new CopyOnWriteArrayList<>();
+		PendingS3DeletionRepository repository = store.repository();
+		doAnswer(invocation -> {
+			drainThreads.add(Thread.currentThread().getName());
+			entered.countDown();
+			release.await(5, TimeUnit.SECONDS);
+			return List.of();
+		}).when(repository).findDue(any(), any());
+		S3DeletionWorker worker = worker(repository, 1000, 8);
+
+		worker.poll();
+		assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+		worker.poll(); // 이전 처리가 끝나지 않았으므로 무시됨
+		release.countDown();
+
+		await().atMost(Duration.ofSeconds(5)).until(() -> drainExecutor.getActiveCount() == 0);
+		assertThat(drainThreads).hasSize(1).allSatisfy(name -> assertThat(name).startsWith("s3-deletion-drain-"));
+	}
+
+	private void enqueue(int count) {
+		LocalDateTime now = LocalDateTime.now(ZONE).minusSeconds(1);
+		for (int i = 0; i < count; i++) {
+			s3.put("video/" + i);
+			store.add("video/" + i, now);
+		}
+	}
+
+	private S3DeletionWorker worker(PendingS3DeletionRepository repository,
+	                                int batchSize, double initialRate) {
+		S3DeletionOutboxService outbox = new S3DeletionOutboxService(repository, mock(S3UploadService.class), 300, 10, 3600, 10);
+		return new S3DeletionWorker(outbox, s3, executor, drainExecutor, meterRegistry,
+				batchSize, 4, 30, initialRate, 0.5, 20);
+	}
+
+	private static ThreadPoolTaskExecutor executor(String prefix, int threads) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(threads);
+		executor.setMaxPoolSize(threads);
+		executor.setThreadNamePrefix(prefix);
+		executor.initialize();
+		return executor;
+	}
+}
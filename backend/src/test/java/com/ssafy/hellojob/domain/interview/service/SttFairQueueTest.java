@@ -0,0 +1,96 @@
+package com.ssafy.hellojob.domain.interview.service;
+
+import com.ssafy.hellojob.domain.interview.dto.request.SttRequest;
+import com.ssafy.hellojob.domain.interview.service.SttFairQueue.OfferResult;
+import com.ssafy.hellojob.domain.interview.service.SttFairQueue.QueuedSttRequest;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SttFairQueueTest {
+
+	@Test
+	void 사용자_단위_라운드로빈으로_꺼냄() throws Exception {
+		SttFairQueue queue = new SttFairQueue(10, 5);
+		queue.offer(request(1, 11), 0, TimeUnit.SECONDS);
+		queue.offer(request(1, 12), 0, TimeUnit.SECONDS);
+		queue.offer(request(1, 13), 0, TimeUnit.SECONDS);
+		queue.offer(request(2, 21), 0, TimeUnit.SECONDS);
+		queue.offer(request(3, 31), 0, TimeUnit.SECONDS);
+
+		List<Integer> order = new ArrayList<>();
+		QueuedSttRequest next;
+		while ((next = queue.poll(0, TimeUnit.SECONDS)) != null) {
+			order.add(next.request().getInterviewAnswerId());
+		}
+
+		// 사용자 1이 먼저 몰아넣어도 2, 3이 그 뒤에 밀리지 않음
+		assertThat(order).containsExactly(11, 21, 31, 12, 13);
+	}
+
+	@Test
+	void 사용자별_한도와_전체_용량_초과는_거절() throws Exception {
+		SttFairQueue queue = new SttFairQueue(3, 2);
+
+		assertThat(queue.offer(request(1, 1), 0, TimeUnit.SECONDS)).isEqualTo(OfferResult.ACCEPTED);
+		assertThat(queue.offer(request(1, 2), 0, TimeUnit.SECONDS)).isEqualTo(OfferResult.ACCEPTED);
+		assertThat(queue.offer(request(1, 3), 0, TimeUnit.SECONDS)).isEqualTo(OfferResult.USER_LIMIT_EXCEEDED);
+		assertThat(queue.offer(request(2, 4), 0, TimeUnit.SECONDS)).isEqualTo(OfferResult.ACCEPTED);
+		assertThat(queue.offer(request(3, 5), 0, TimeUnit.SECONDS)).isEqualTo(OfferResult.QUEUE_FULL);
+	}
+
+	@Test
+	void 닫힌_뒤에는_새_요청을_거절하고_남은_요청만_꺼냄() throws Exception {
+		SttFairQueue queue = new SttFairQueue(10, 5);
+		queue.offer(request(1, 1), 0, TimeUnit.SECONDS);
+		queue.close();
+
+		assertThat(queue.isClosed()).isTrue();
+		assertThat(queue.offer(request(2, 2), 0, TimeUnit.SECONDS)).isEqualTo(OfferResult.CLOSED);
+		assertThat(queue.poll(0, TimeUnit.SECONDS).request().getInterviewAnswerId()).isEqualTo(1);
+
+		// 닫히고 비어있으면 timeout을 기다리지 않고 바로 null
+		long start = System.nanoTime();
+		assertThat(queue.poll(10, TimeUnit.SECONDS)).isNull();
+		assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(1_000);
+	}
+
+	@Test
+	void 대기_중인_poll은_close에_깨어남() throws Exception {
+		SttFairQueue queue = new SttFairQueue(10, 5);
+		CompletableFuture<QueuedSttRequest> waiting = CompletableFuture.supplyAsync(() -> {
+			try {
+				return queue.poll(30, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				throw new IllegalStateException(e);
+			}
+		});
+
+		Thread.sleep(100);
+		queue.close();
+
+		assertThat(waiting.get(5, TimeUnit.SECONDS)).isNull();
+	}
+
+	@Test
+	void drainRemaining은_남은_요청을_모두_회수() throws Exception {
+		SttFairQueue queue = new SttFairQueue(10, 5);
+		queue.offer(request(1, 1), 0, TimeUnit.SECONDS);
+		queue.offer(request(2, 2), 0, TimeUnit.SECONDS);
+		queue.close();
+
+		assertThat(queue.drainRemaining()).hasSize(2);
+		assertThat(queue.size()).isZero();
+		assertThat(queue.userCount()).isZero();
+	}
+
+	static SttRequest request(int userId, int interviewAnswerId) {
+		return new SttRequest(interviewAnswerId, Path.of("/tmp/" + interviewAnswerId + ".webm"), null, userId);
+	}
+}
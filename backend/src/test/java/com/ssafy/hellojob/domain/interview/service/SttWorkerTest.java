@@ -0,0 +1,68 @@
+package com.ssafy.hellojob.domain.interview.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.ssafy.hellojob.domain.interview.service.SttFairQueueTest.request;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SttWorkerTest {
+
+	private final SttFairQueue queue = new SttFairQueue(10, 5);
+	private final SttService sttService = mock(SttService.class);
+	private final InterviewAnswerSaveService saveService = mock(InterviewAnswerSaveService.class);
+	private final SttSpoolService spoolService = mock(SttSpoolService.class);
+	private SttWorker worker;
+
+	@BeforeEach
+	void setUp() {
+		when(spoolService.recover()).thenReturn(List.of());
+		when(sttService.transcribeAudioSync(anyInt(), any())).thenReturn("답변");
+		worker = new SttWorker(queue, sttService, saveService, spoolService, new SimpleMeterRegistry());
+		ReflectionTestUtils.setField(worker, "workerCount", 2);
+		ReflectionTestUtils.setField(worker, "drainTimeoutSeconds", 30L);
+		worker.afterPropertiesSet();
+	}
+
+	@Test
+	void 종료_시_큐가_비면_drain_timeout을_기다리지_않고_워커가_끝남() throws Exception {
+		queue.offer(request(1, 10), 0, TimeUnit.SECONDS);
+		verify(saveService, timeout(5_000)).saveInterviewAnswer(1, "답변", 10);
+
+		long start = System.nanoTime();
+		worker.destroy();
+
+		assertThat(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start)).isLessThan(5);
+	}
+
+	@Test
+	void 저장에_성공하면_spool_파일_삭제() throws Exception {
+		queue.offer(request(1, 20), 0, TimeUnit.SECONDS);
+
+		verify(spoolService, timeout(5_000)).delete(request(1, 20));
+		worker.destroy();
+	}
+
+	@Test
+	void 저장에_실패하면_spool_파일을_남겨_다음_기동_때_복구() throws Exception {
+		when(saveService.saveInterviewAnswer(1, "답변", 30)).thenThrow(new IllegalStateException("db down"));
+		queue.offer(request(1, 30), 0, TimeUnit.SECONDS);
+
+		verify(saveService, timeout(5_000)).saveInterviewAnswer(1, "답변", 30);
+		worker.destroy();
+
+		verify(spoolService, never()).delete(any());
+	}
+}
@@ -0,0 +1,43 @@
+package com.ssafy.hellojob.domain.interview.storage;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveRateLimiterTest {
+
+	@Test
+	void 속도_제한_응답마다_절반으로_줄이고_최소값_아래로는_내려가지_않음() {
+		AdaptiveRateLimiter limiter = new AdaptiveRateLimiter(8, 1, 20, 1);
+
+		limiter.onThrottle();
+		assertThat(limiter.currentRate()).isEqualTo(4);
+		limiter.onThrottle();
+		limiter.onThrottle();
+		limiter.onThrottle();
+		assertThat(limiter.currentRate()).isEqualTo(1);
+	}
+
+	@Test
+	void 성공하면_조금씩_올리고_최대값에서_멈춤() {
+		AdaptiveRateLimiter limiter = new AdaptiveRateLimiter(18, 1, 20, 1);
+
+		limiter.onSuccess();
+		assertThat(limiter.currentRate()).isEqualTo(19);
+		limiter.onSuccess();
+		limiter.onSuccess();
+		assertThat(limiter.currentRate()).isEqualTo(20);
+	}
+
+	@Test
+	void 현재_속도에_맞춰_요청_간격을_벌림() throws InterruptedException {
+		AdaptiveRateLimiter limiter = new AdaptiveRateLimiter(10, 1, 20, 1);
+
+		long start = System.nanoTime();
+		for (int i = 0; i < 4; i++) limiter.acquire();
+		long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+		// 첫 요청은 바로, 이후 100ms 간격
+		assertThat(elapsedMillis).isGreaterThanOrEqualTo(250);
+	}
+}
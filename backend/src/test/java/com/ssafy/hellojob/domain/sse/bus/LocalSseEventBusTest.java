@@ -0,0 +1,49 @@
+package com.ssafy.hellojob.domain.sse.bus;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalSseEventBusTest {
+
+	private static final Integer USER_ID = 1;
+
+	@Test
+	void 단일_노드에서는_연결이_끊기면_소유_기록_제거() {
+		LocalSseEventBus bus = new LocalSseEventBus.Network().join("node-a");
+		bus.claim(USER_ID, 0L);
+
+		bus.release(USER_ID);
+
+		assertThat(bus.ownerOf(USER_ID)).isNull();
+	}
+
+	@Test
+	void 여러_노드에서는_보관_기간_동안_마지막_소유_노드로_남음() {
+		LocalSseEventBus.Network network = new LocalSseEventBus.Network(Duration.ofMinutes(30));
+		LocalSseEventBus nodeA = network.join("node-a");
+		network.join("node-b");
+		nodeA.claim(USER_ID, 0L);
+
+		nodeA.release(USER_ID);
+
+		assertThat(nodeA.ownerOf(USER_ID)).isEqualTo("node-a");
+	}
+
+	@Test
+	void 보관_기간이_지난_마지막_소유_기록은_정리() {
+		LocalSseEventBus.Network network = new LocalSseEventBus.Network(Duration.ZERO);
+		LocalSseEventBus nodeA = network.join("node-a");
+		LocalSseEventBus nodeB = network.join("node-b");
+		nodeA.claim(USER_ID, 0L);
+		nodeA.release(USER_ID);
+
+		nodeA.evictExpiredOwners();
+
+		assertThat(nodeA.ownerOf(USER_ID)).isNull();
+		// 만료된 기록은 다른 노드가 새로 맡을 수 있음
+		assertThat(nodeB.adopt(USER_ID)).isEqualTo("node-b");
+	}
+}
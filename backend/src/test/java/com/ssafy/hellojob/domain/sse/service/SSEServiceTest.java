@@ -0,0 +1,89 @@
+package com.ssafy.hellojob.domain.sse.service;
+
+import com.ssafy.hellojob.domain.sse.bus.LocalSseEventBus;
+import com.ssafy.hellojob.domain.sse.bus.SseEventBus;
+import com.ssafy.hellojob.global.util.JsonUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SSEServiceTest {
+
+	private SSEService sseService;
+
+	@BeforeEach
+	void setUp() {
+		sseService = new SSEService(mock(JsonUtil.class), new SimpleMeterRegistry(), mock(SseDispatcher.class),
+				mock(SseHeartbeatScheduler.class), new LocalSseEventBus.Network().join("node-a"));
+		ReflectionTestUtils.setField(sseService, "replayCapacity", 10);
+		sseService.registerMetrics();
+	}
+
+	@Test
+	void 최대_연결_수를_넘으면_가장_오래된_연결을_닫고_교체() {
+		List<RecordingEmitter> emitters = new ArrayList<>();
+		List<SseConnection> connections = new ArrayList<>();
+		for (int i = 0; i < 4; i++) {
+			RecordingEmitter emitter = new RecordingEmitter();
+			emitters.add(emitter);
+			connections.add(sseService.addEmitter(1, emitter));
+		}
+
+		assertThat(emitters.get(0).completed).isTrue();
+		assertThat(connections.get(0).isClosed()).isTrue();
+		assertThat(sseService.getEmitters(1)).containsExactly(connections.get(1), connections.get(2), connections.get(3));
+		assertThat(emitters.subList(1, 4)).noneMatch(emitter -> emitter.completed);
+	}
+
+	@Test
+	void 교체된_연결의_종료_콜백은_새_연결을_지우지_않음() {
+		for (int i = 0; i < 3; i++) sseService.addEmitter(1, new RecordingEmitter());
+		SseConnection latest = sseService.addEmitter(1, new RecordingEmitter());
+
+		// 이미 닫힌 연결의 emitter 콜백이 늦게 와도 목록은 그대로
+		sseService.getEmitters(1).peekFirst().detach();
+
+		assertThat(sseService.getEmitters(1)).hasSize(2).contains(latest);
+	}
+
+	@Test
+	void 정리_스케줄러는_이벤트가_남은_inbox만_drain() {
+		SseEventBus bus = mock(SseEventBus.class);
+		when(bus.nodeId()).thenReturn("node-a");
+		when(bus.pendingInboxes(any())).thenReturn(Set.of(2));
+		when(bus.drain(anyInt())).thenReturn(List.of());
+		SSEService service = new SSEService(mock(JsonUtil.class), new SimpleMeterRegistry(), mock(SseDispatcher.class),
+				mock(SseHeartbeatScheduler.class), bus);
+		service.registerMetrics();
+		service.addEmitter(1, new RecordingEmitter());
+		service.addEmitter(2, new RecordingEmitter());
+
+		service.evictExpiredEvents();
+
+		verify(bus).drain(2);
+		verify(bus, never()).drain(1);
+	}
+
+	static class RecordingEmitter extends SseEmitter {
+		boolean completed;
+
+		@Override
+		public synchronized void complete() {
+			completed = true;
+		}
+	}
+}
@@ -0,0 +1,165 @@
+package com.ssafy.hellojob.domain.sse.service;
+
+import com.ssafy.hellojob.domain.sse.service.SseReplayBuffer.SseEventWrapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SseDispatcherTest {
+
+	private ThreadPoolTaskExecutor executor;
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdown();
+	}
+
+	@Test
+	void 쓰기가_멈춘_연결은_inspect에서_종료() throws Exception {
+		SseDispatcher dispatcher = dispatcher(1, 1, 10);
+		CountDownLatch writing = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		BlockingEmitter emitter = new BlockingEmitter(writing, release);
+		SseConnection connection = new SseConnection(1, emitter, () -> {
+		});
+
+		dispatcher.enqueue(connection, event(1));
+		assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+
+		dispatcher.inspect(connection, connection.getWriteStartedAt() + 100);
+
+		assertThat(connection.isClosed()).isTrue();
+		assertThat(emitter.completedWithError).isTrue();
+		release.countDown();
+	}
+
+	@Test
+	void 쓰기_시간이_기준_이내면_유지() throws Exception {
+		SseDispatcher dispatcher = dispatcher(1, 1, 10_000);
+		CountDownLatch writing = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		SseConnection connection = new SseConnection(1, new BlockingEmitter(writing, release), () -> {
+		});
+
+		dispatcher.enqueue(connection, event(1));
+		assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+
+		dispatcher.inspect(connection, connection.getWriteStartedAt() + 100);
+
+		assertThat(connection.isClosed()).isFalse();
+		release.countDown();
+	}
+
+	@Test
+	void 풀이_가득_차_거부된_전송은_inspect에서_다시_예약() throws Exception {
+		SseDispatcher dispatcher = dispatcher(1, 0, 10_000);
+		CountDownLatch writing = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		SseConnection busy = new SseConnection(1, new BlockingEmitter(writing, release), () -> {
+		});
+		CountingEmitter countingEmitter = new CountingEmitter();
+		SseConnection waiting = new SseConnection(2, countingEmitter, () -> {
+		});
+
+		dispatcher.enqueue(busy, event(1));
+		assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+		dispatcher.enqueue(waiting, event(2)); // 스레드 1개가 묶여 있고 큐가 없으므로 거부
+
+		assertThat(waiting.getQueued()).isEqualTo(1);
+		assertThat(countingEmitter.sent.get()).isZero();
+		release.countDown();
+
+		// heartbeat tick처럼 주기적으로 inspect → 스레드가 비면 남아있던 이벤트 전송
+		long deadline = System.currentTimeMillis() + 5_000;
+		while (countingEmitter.sent.get() == 0 && System.currentTimeMillis() < deadline) {
+			dispatcher.inspect(waiting, System.currentTimeMillis());
+			Thread.sleep(10);
+		}
+
+		assertThat(countingEmitter.sent.get()).isEqualTo(1);
+		assertThat(waiting.getQueued()).isZero();
+	}
+
+	@Test
+	void 전송_실패는_연결에_지정된_실패_카운터로_보고() throws Exception {
+		SseDispatcher dispatcher = dispatcher(1, 1, 10_000);
+		CountDownLatch reported = new CountDownLatch(1);
+		SseConnection connection = new SseConnection(1, new FailingEmitter(), () -> {
+		});
+		connection.onWriteFailure(reported::countDown);
+
+		dispatcher.enqueue(connection, new SseEventWrapper(0L, "ping", "keep-alive", 0L));
+
+		assertThat(reported.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(connection.isClosed()).isTrue();
+	}
+
+	private SseDispatcher dispatcher(int threads, int queueCapacity, long writeStallMillis) {
+		executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(threads);
+		executor.setMaxPoolSize(threads);
+		executor.setQueueCapacity(queueCapacity);
+		executor.initialize();
+		return new SseDispatcher(executor, new SimpleMeterRegistry(), 64, 16, 3, writeStallMillis);
+	}
+
+	private SseEventWrapper event(long id) {
+		return new SseEventWrapper(id, "event", "{}", System.currentTimeMillis());
+	}
+
+	static class BlockingEmitter extends SseEmitter {
+		private final CountDownLatch writing;
+		private final CountDownLatch release;
+		volatile boolean completedWithError;
+
+		BlockingEmitter(CountDownLatch writing, CountDownLatch release) {
+			this.writing = writing;
+			this.release = release;
+		}
+
+		@Override
+		public void send(Set<DataWithMediaType> items) throws IOException {
+			writing.countDown();
+			try {
+				release.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		@Override
+		public synchronized void completeWithError(Throwable ex) {
+			completedWithError = true;
+		}
+	}
+
+	static class FailingEmitter extends SseEmitter {
+		@Override
+		public void send(Set<DataWithMediaType> items) throws IOException {
+			throw new IOException("Broken pipe");
+		}
+
+		@Override
+		public synchronized void completeWithError(Throwable ex) {
+		}
+	}
+
+	static class CountingEmitter extends SseEmitter {
+		final AtomicInteger sent = new AtomicInteger();
+
+		@Override
+		public void send(Set<DataWithMediaType> items) {
+			sent.incrementAndGet();
+		}
+	}
+}
@@ -0,0 +1,117 @@
+package com.ssafy.hellojob.domain.sse.service;
+
+import com.ssafy.hellojob.domain.sse.bus.LocalSseEventBus;
+import com.ssafy.hellojob.domain.sse.service.SseReplayBuffer.SseEventWrapper;
+import com.ssafy.hellojob.global.util.JsonUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// LocalSseEventBus.Network에 노드 여러 개를 붙여 노드 간 재접속/이관 흐름 확인
+class SseHandoverTest {
+
+	private static final Integer USER_ID = 1;
+
+	private LocalSseEventBus.Network network;
+	private Node nodeA;
+	private Node nodeB;
+	private Node nodeC;
+
+	@BeforeEach
+	void setUp() {
+		network = new LocalSseEventBus.Network();
+		nodeA = new Node("node-a");
+		nodeB = new Node("node-b");
+		nodeC = new Node("node-c");
+	}
+
+	@Test
+	void 연결이_끊긴_뒤_다른_노드에서_보낸_이벤트는_재접속한_노드로_이관() {
+		SseConnection onA = nodeA.connect(null);
+		onA.detach();
+
+		nodeC.service.sendToUser(USER_ID, "analysis-done", "payload");
+
+		// 마지막 소유 노드(A)가 보관
+		verify(nodeA.dispatcher, never()).enqueue(any(), any());
+		SseConnection onB = nodeB.connect(null);
+
+		assertThat(nodeB.deliveredTo(onB)).extracting(SseEventWrapper::eventName).containsExactly("analysis-done");
+	}
+
+	@Test
+	void 이관_시_Last_Event_ID_이후_이벤트만_전달() {
+		SseConnection onA = nodeA.connect(null);
+		nodeA.service.sendToUser(USER_ID, "first", "1");
+		nodeA.service.sendToUser(USER_ID, "second", "2");
+		long firstId = nodeA.deliveredTo(onA).get(0).eventId();
+		onA.detach();
+
+		SseConnection onB = nodeB.connect(firstId);
+
+		List<SseEventWrapper> delivered = nodeB.deliveredTo(onB);
+		assertThat(delivered).extracting(SseEventWrapper::eventName).containsExactly("second");
+		// 이관된 이벤트는 원래 id 유지
+		assertThat(delivered.get(0).eventId()).isEqualTo(nodeA.deliveredTo(onA).get(1).eventId());
+	}
+
+	@Test
+	void 소유_노드가_죽어도_전달_중이던_이벤트는_재접속한_노드가_inbox에서_받음() {
+		nodeA.connect(null);
+		network.crash("node-a");
+
+		nodeC.service.sendToUser(USER_ID, "analysis-done", "payload");
+		SseConnection onB = nodeB.connect(null);
+
+		assertThat(nodeB.deliveredTo(onB)).extracting(SseEventWrapper::eventName).containsExactly("analysis-done");
+	}
+
+	@Test
+	void 연결된_노드가_있으면_다른_노드의_이벤트를_바로_전달() {
+		SseConnection onB = nodeB.connect(null);
+
+		nodeA.service.sendToUser(USER_ID, "analysis-done", "payload");
+
+		assertThat(nodeB.deliveredTo(onB)).extracting(SseEventWrapper::eventName).containsExactly("analysis-done");
+	}
+
+	private class Node {
+		final SseDispatcher dispatcher = mock(SseDispatcher.class);
+		final SSEService service;
+
+		Node(String nodeId) {
+			JsonUtil jsonUtil = mock(JsonUtil.class);
+			when(jsonUtil.toJson(any())).thenAnswer(invocation -> "\"" + invocation.getArgument(0) + "\"");
+			service = new SSEService(jsonUtil, new SimpleMeterRegistry(), dispatcher,
+					mock(SseHeartbeatScheduler.class), network.join(nodeId));
+			ReflectionTestUtils.setField(service, "replayCapacity", 10);
+			service.registerMetrics();
+		}
+
+		SseConnection connect(Long lastEventId) {
+			SseConnection connection = service.addEmitter(USER_ID, new SseEmitter());
+			service.replayQueuedEvents(connection, lastEventId);
+			return connection;
+		}
+
+		List<SseEventWrapper> deliveredTo(SseConnection connection) {
+			ArgumentCaptor<SseEventWrapper> captor = ArgumentCaptor.forClass(SseEventWrapper.class);
+			verify(dispatcher, atLeast(0)).enqueue(eq(connection), captor.capture());
+			return captor.getAllValues();
+		}
+	}
+}
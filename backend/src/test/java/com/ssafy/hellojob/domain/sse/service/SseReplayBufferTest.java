@@ -0,0 +1,75 @@
+package com.ssafy.hellojob.domain.sse.service;
+
+import com.ssafy.hellojob.domain.sse.service.SseReplayBuffer.SseEventWrapper;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SseReplayBufferTest {
+
+	@Test
+	void ack_뒤쪽_이벤트를_먼저_확인해도_앞선_미확인_이벤트는_유지() {
+		SseReplayBuffer buffer = new SseReplayBuffer(10);
+		buffer.append(event(1));
+		buffer.append(event(2));
+		buffer.append(event(3));
+
+		assertThat(buffer.ack(3).acked()).isEqualTo(1);
+
+		assertThat(buffer.eventsAfter(0)).extracting(SseEventWrapper::eventId).containsExactly(1L, 2L);
+		assertThat(buffer.size()).isEqualTo(2);
+	}
+
+	@Test
+	void ack_맨_앞이_비면_공간을_회수() {
+		SseReplayBuffer buffer = new SseReplayBuffer(2);
+		buffer.append(event(1));
+		buffer.append(event(2));
+		buffer.ack(1);
+
+		// 회수된 칸에 쓰므로 용량 초과 제거가 발생하지 않음
+		assertThat(buffer.append(event(3)).capacityEvicted()).isZero();
+		assertThat(buffer.eventsAfter(0)).extracting(SseEventWrapper::eventId).containsExactly(2L, 3L);
+	}
+
+	@Test
+	void ack_이미_확인했거나_없는_id는_무시() {
+		SseReplayBuffer buffer = new SseReplayBuffer(4);
+		buffer.append(event(1));
+
+		assertThat(buffer.ack(1).acked()).isEqualTo(1);
+		assertThat(buffer.ack(1).acked()).isZero();
+		assertThat(buffer.ack(99).acked()).isZero();
+		assertThat(buffer.isEmpty()).isTrue();
+		assertThat(buffer.bytes()).isZero();
+	}
+
+	@Test
+	void 용량_초과_시_중간의_확인된_칸은_제거_건수에_포함하지_않음() {
+		SseReplayBuffer buffer = new SseReplayBuffer(3);
+		buffer.append(event(1));
+		buffer.append(event(2));
+		buffer.append(event(3));
+		buffer.ack(2);
+
+		assertThat(buffer.append(event(4)).capacityEvicted()).isEqualTo(1); // 1 제거, 2번 칸은 비어 있어 함께 회수
+		assertThat(buffer.append(event(5)).capacityEvicted()).isZero();
+		assertThat(buffer.eventsAfter(0)).extracting(SseEventWrapper::eventId).containsExactly(3L, 4L, 5L);
+	}
+
+	@Test
+	void 용량_초과로_덮어쓴_이벤트의_ack는_무시() {
+		SseReplayBuffer buffer = new SseReplayBuffer(2);
+		buffer.append(event(1));
+		buffer.append(event(2));
+		buffer.append(event(3)); // 1번 칸을 덮어씀
+
+		assertThat(buffer.ack(1).acked()).isZero();
+		assertThat(buffer.ack(3).acked()).isEqualTo(1);
+		assertThat(buffer.eventsAfter(0)).extracting(SseEventWrapper::eventId).containsExactly(2L);
+	}
+
+	private SseEventWrapper event(long id) {
+		return new SseEventWrapper(id, "event", "{\"id\":" + id + "}", System.currentTimeMillis());
+	}
+}
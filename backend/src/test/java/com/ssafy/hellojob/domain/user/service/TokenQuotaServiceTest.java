@@ -0,0 +1,178 @@
+package com.ssafy.hellojob.domain.user.service;
+
+import com.ssafy.hellojob.domain.user.entity.TokenUsage;
+import com.ssafy.hellojob.domain.user.repository.TokenUsageRepository;
+import com.ssafy.hellojob.domain.user.repository.UserRepository;
+import com.ssafy.hellojob.global.exception.BaseException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static com.ssafy.hellojob.global.exception.ErrorCode.REQUEST_TOKEN_LIMIT_EXCEEDED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 한도 차감과 원장(token_usage) 기록이 어긋나지 않는지 확인
+// 조건부 UPDATE 의 원자성은 DB 가 보장하므로, 여기서는 같은 의미의 CAS 로 흉내 낸 저장소 위에서 서비스 흐름만 검증
+class TokenQuotaServiceTest {
+
+	private static final int USER_ID = 1;
+	private static final int DAILY_LIMIT = 3;
+	private static final LocalDate TODAY = LocalDate.now(ZoneId.of("Asia/Seoul"));
+
+	private final UserRepository userRepository = mock(UserRepository.class);
+	private final TokenUsageRepository tokenUsageRepository = mock(TokenUsageRepository.class);
+	private TokenQuotaService tokenQuotaService;
+
+	// users 행 (token, token_reset_date) 과 token_usage 원장
+	private int token;
+	private LocalDate tokenResetDate;
+	private final Map<String, TokenUsage> ledger = new ConcurrentHashMap<>();
+	private final Set<String> refunded = ConcurrentHashMap.newKeySet();
+
+	@BeforeEach
+	void setUp() {
+		tokenQuotaService = new TokenQuotaService(userRepository, tokenUsageRepository, new SimpleMeterRegistry(), DAILY_LIMIT);
+
+		when(userRepository.resetTokenIfNewDay(anyInt(), any(), anyInt())).thenAnswer(invocation -> {
+			synchronized (this) {
+				LocalDate today = invocation.getArgument(1);
+				if (tokenResetDate != null && !tokenResetDate.isBefore(today)) return 0;
+				token = invocation.getArgument(2);
+				tokenResetDate = today;
+				return 1;
+			}
+		});
+		when(userRepository.decreaseTokenIfAvailable(anyInt())).thenAnswer(invocation -> {
+			synchronized (this) {
+				if (token <= 0) return 0;
+				token--;
+				return 1;
+			}
+		});
+		when(userRepository.increaseTokenForDate(anyInt(), any())).thenAnswer(invocation -> {
+			synchronized (this) {
+				if (!invocation.getArgument(1).equals(tokenResetDate)) return 0;
+				token++;
+				return 1;
+			}
+		});
+		when(tokenUsageRepository.save(any())).thenAnswer(invocation -> {
+			TokenUsage usage = invocation.getArgument(0);
+			ledger.put(usage.getRequestId(), usage);
+			return usage;
+		});
+		when(tokenUsageRepository.findByRequestId(anyString()))
+				.thenAnswer(invocation -> Optional.ofNullable(ledger.get(invocation.<String>getArgument(0))));
+		when(tokenUsageRepository.markRefunded(anyString()))
+				.thenAnswer(invocation -> refunded.add(invocation.getArgument(0)) ? 1 : 0);
+	}
+
+	@Test
+	void 동시에_차감해도_한도만큼만_성공하고_성공한_건수만큼만_원장에_기록() throws Exception {
+		List<Object> results = runConcurrently(32, () -> tokenQuotaService.charge(USER_ID));
+
+		List<Object> charged = results.stream().filter(String.class::isInstance).toList();
+		assertThat(charged).hasSize(DAILY_LIMIT);
+		assertThat(results).filteredOn(BaseException.class::isInstance)
+				.hasSize(32 - DAILY_LIMIT)
+				.allSatisfy(e -> assertThat(((BaseException) e).getErrorCode()).isEqualTo(REQUEST_TOKEN_LIMIT_EXCEEDED));
+		assertThat(ledger.keySet()).containsExactlyInAnyOrderElementsOf(charged.stream().map(String.class::cast).toList());
+		assertThat(token).isZero();
+	}
+
+	@Test
+	void 같은_요청을_동시에_여러_번_환불해도_원장_1건당_한_번만_되돌림() throws Exception {
+		List<String> requestIds = new ArrayList<>();
+		for (int i = 0; i < DAILY_LIMIT; i++) requestIds.add(tokenQuotaService.charge(USER_ID));
+
+		List<Callable<Object>> refunds = new ArrayList<>();
+		for (String requestId : requestIds) {
+			for (int i = 0; i < 8; i++) {
+				refunds.add(() -> {
+					tokenQuotaService.refund(requestId);
+					return requestId;
+				});
+			}
+		}
+		runConcurrently(refunds);
+
+		assertThat(token).isEqualTo(DAILY_LIMIT);
+		assertThat(refunded).containsExactlyInAnyOrderElementsOf(requestIds);
+	}
+
+	@Test
+	void 원장_기록에_실패하면_예외를_그대로_던져_차감_트랜잭션이_롤백되게_함() {
+		doThrow(new DataIntegrityViolationException("duplicate request_id")).when(tokenUsageRepository).save(any());
+
+		assertThatThrownBy(() -> tokenQuotaService.charge(USER_ID))
+				.isInstanceOf(DataIntegrityViolationException.class);
+		assertThat(ledger).isEmpty();
+	}
+
+	@Test
+	void 날짜가_바뀌어_초기화된_뒤의_환불은_새_한도에_더하지_않음() {
+		String requestId = tokenQuotaService.charge(USER_ID);
+		TokenUsage usage = ledger.get(requestId);
+		ledger.put(requestId, TokenUsage.of(requestId, USER_ID, usage.getUsageDate().minusDays(1)));
+
+		tokenQuotaService.refund(requestId);
+
+		assertThat(token).isEqualTo(DAILY_LIMIT - 1);
+		assertThat(tokenResetDate).isEqualTo(TODAY);
+	}
+
+	private static List<Object> runConcurrently(int count, Callable<Object> task) throws Exception {
+		List<Callable<Object>> tasks = new ArrayList<>();
+		for (int i = 0; i < count; i++) tasks.add(task);
+		return runConcurrently(tasks);
+	}
+
+	// 모든 작업을 동시에 출발시키고 결과(또는 던진 예외)를 모음
+	private static List<Object> runConcurrently(List<Callable<Object>> tasks) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(tasks.size());
+		CountDownLatch start = new CountDownLatch(1);
+		try {
+			List<Future<Object>> futures = new ArrayList<>();
+			for (Callable<Object> task : tasks) {
+				futures.add(executor.submit(() -> {
+					start.await();
+					try {
+						return task.call();
+					} catch (RuntimeException e) {
+						return e;
+					}
+				}));
+			}
+			start.countDown();
+
+			List<Object> results = new ArrayList<>();
+			for (Future<Object> future : futures) results.add(future.get(5, TimeUnit.SECONDS));
+			return results;
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+}
@@ -0,0 +1,91 @@
+package com.ssafy.hellojob.global.auth.token;
+
+import com.ssafy.hellojob.domain.user.entity.User;
+import com.ssafy.hellojob.global.common.commitevent.entity.UserPrincipalChangedEvent;
+import com.ssafy.hellojob.global.common.commitevent.listener.UserPrincipalChangedEventListener;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListenerFactory;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class PrincipalCacheTest {
+
+	private static final String EMAIL = "user@ssafy.com";
+
+	private PrincipalCache principalCache;
+
+	@BeforeEach
+	void setUp() {
+		principalCache = new PrincipalCache(new SimpleMeterRegistry(), 60_000, 100);
+	}
+
+	@Test
+	void 조회_중에_invalidate가_있었으면_저장하지_않음() {
+		AtomicInteger loads = new AtomicInteger();
+
+		principalCache.get(EMAIL, () -> {
+			loads.incrementAndGet();
+			principalCache.invalidate(EMAIL); // 변경 전 값을 읽는 사이 커밋된 변경
+			return principal();
+		});
+		principalCache.get(EMAIL, () -> {
+			loads.incrementAndGet();
+			return principal();
+		});
+
+		assertThat(loads.get()).isEqualTo(2);
+		assertThat(principalCache.size()).isEqualTo(1);
+	}
+
+	@Test
+	void 사용자_정보_변경은_커밋된_뒤에_캐시에서_제거() {
+		principalCache.get(EMAIL, this::principal);
+		AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+		context.registerBean(TransactionalEventListenerFactory.class);
+		context.registerBean(UserPrincipalChangedEventListener.class, () -> new UserPrincipalChangedEventListener(principalCache));
+		context.refresh();
+
+		new TransactionTemplate(new NoOpTransactionManager()).executeWithoutResult(status -> {
+			context.publishEvent(new UserPrincipalChangedEvent(EMAIL));
+			assertThat(principalCache.size()).isEqualTo(1); // 커밋 전에는 유지
+		});
+
+		assertThat(principalCache.size()).isZero();
+		context.close();
+	}
+
+	private UserPrincipal principal() {
+		return new UserPrincipal(List.of(), mock(User.class));
+	}
+
+	// 트랜잭션 동기화(커밋 후 콜백)만 확인하기 위한 빈 트랜잭션 매니저
+	static class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+		@Override
+		protected Object doGetTransaction() {
+			return new Object();
+		}
+
+		@Override
+		protected void doBegin(Object transaction, TransactionDefinition definition) {
+		}
+
+		@Override
+		protected void doCommit(DefaultTransactionStatus status) {
+		}
+
+		@Override
+		protected void doRollback(DefaultTransactionStatus status) {
+		}
+	}
+}
@@ -0,0 +1,66 @@
+package com.ssafy.hellojob.global.common.viewcount;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+class ViewCountServiceTest {
+
+	private JdbcTemplate jdbcTemplate;
+	private SimpleMeterRegistry meterRegistry;
+	private ViewCountService viewCountService;
+
+	@BeforeEach
+	void setUp() {
+		jdbcTemplate = mock(JdbcTemplate.class);
+		meterRegistry = new SimpleMeterRegistry();
+		viewCountService = new ViewCountService(jdbcTemplate, meterRegistry);
+		viewCountService.init();
+	}
+
+	@Test
+	void 반영_후_한_주기_동안_증가가_없던_키는_제거() {
+		viewCountService.increment(ViewCountTarget.COMPANY_ANALYSIS, 1);
+		viewCountService.increment(ViewCountTarget.COMPANY_ANALYSIS, 2);
+
+		viewCountService.flush();
+		viewCountService.increment(ViewCountTarget.COMPANY_ANALYSIS, 2);
+		viewCountService.flush();
+
+		assertThat(counters(ViewCountTarget.COMPANY_ANALYSIS)).containsOnlyKeys(2);
+		assertThat(pendingGauge(ViewCountTarget.COMPANY_ANALYSIS)).isZero();
+	}
+
+	@Test
+	void 반영에_실패하면_증가분을_유지() {
+		doThrow(new RuntimeException("db down")).when(jdbcTemplate).batchUpdate(anyString(), anyList());
+		viewCountService.increment(ViewCountTarget.JOB_ROLE_ANALYSIS, 7);
+		viewCountService.increment(ViewCountTarget.JOB_ROLE_ANALYSIS, 7);
+
+		viewCountService.flush();
+
+		assertThat(viewCountService.pendingCount(ViewCountTarget.JOB_ROLE_ANALYSIS, 7)).isEqualTo(2);
+		assertThat(pendingGauge(ViewCountTarget.JOB_ROLE_ANALYSIS)).isEqualTo(2);
+	}
+
+	@SuppressWarnings("unchecked")
+	private Map<Integer, ?> counters(ViewCountTarget target) {
+		Map<ViewCountTarget, Map<Integer, ?>> pending =
+				(Map<ViewCountTarget, Map<Integer, ?>>) ReflectionTestUtils.getField(viewCountService, "pending");
+		return pending.get(target);
+	}
+
+	private double pendingGauge(ViewCountTarget target) {
+		return meterRegistry.get("view-count.pending").tag("target", target.getKey()).gauge().value();
+	}
+}
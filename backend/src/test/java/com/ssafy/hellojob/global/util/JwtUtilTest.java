@@ -0,0 +1,67 @@
+package com.ssafy.hellojob.global.util;
+
+import com.ssafy.hellojob.global.exception.BaseException;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Base64;
+import java.util.Map;
+
+import static com.ssafy.hellojob.global.exception.ErrorCode.EXPIRED_TOKEN;
+import static com.ssafy.hellojob.global.exception.ErrorCode.INVALID_TOKEN;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtUtilTest {
+
+	private static final String SECRET = secret('a');
+	private static final String OTHER_SECRET = secret('b');
+	private static final String EMAIL = "user@ssafy.com";
+
+	@Test
+	void 검증된_토큰은_캐시하고_같은_subject를_반환() {
+		JwtUtil jwtUtil = new JwtUtil(SECRET, 60_000, 120_000, 100);
+		String token = jwtUtil.generateTokens(EMAIL).getAccessToken();
+
+		assertThat(jwtUtil.validateToken(token)).isTrue();
+		assertThat(jwtUtil.getEmailFromToken(token)).isEqualTo(EMAIL);
+		assertThat(cache(jwtUtil)).hasSize(1);
+	}
+
+	@Test
+	void 캐시된_토큰이_만료되면_항목을_지우고_EXPIRED_TOKEN() throws Exception {
+		JwtUtil jwtUtil = new JwtUtil(SECRET, 2_000, 120_000, 100);
+		String token = jwtUtil.generateTokens(EMAIL).getAccessToken();
+		jwtUtil.validateToken(token);
+		long expiresAt = ReflectionTestUtils.<Long>invokeMethod(cache(jwtUtil).values().iterator().next(), "expiresAtMillis");
+
+		Thread.sleep(Math.max(0, expiresAt - System.currentTimeMillis()) + 50);
+
+		assertThatThrownBy(() -> jwtUtil.validateToken(token))
+				.isInstanceOf(BaseException.class)
+				.extracting("errorCode").isEqualTo(EXPIRED_TOKEN);
+		assertThat(cache(jwtUtil)).isEmpty();
+	}
+
+	@Test
+	void 검증에_실패한_토큰은_캐시하지_않음() {
+		JwtUtil jwtUtil = new JwtUtil(SECRET, 60_000, 120_000, 100);
+		String forged = new JwtUtil(OTHER_SECRET, 60_000, 120_000, 100).generateTokens(EMAIL).getAccessToken();
+
+		assertThatThrownBy(() -> jwtUtil.validateToken(forged)).isInstanceOf(SignatureException.class);
+		assertThatThrownBy(() -> jwtUtil.validateToken(forged)).isInstanceOf(SignatureException.class);
+		assertThatThrownBy(() -> jwtUtil.validateToken("not-a-jwt"))
+				.isInstanceOf(BaseException.class)
+				.extracting("errorCode").isEqualTo(INVALID_TOKEN);
+		assertThat(cache(jwtUtil)).isEmpty();
+	}
+
+	private Map<?, ?> cache(JwtUtil jwtUtil) {
+		return (Map<?, ?>) ReflectionTestUtils.getField(jwtUtil, "verifiedTokens");
+	}
+
+	private static String secret(char fill) {
+		return Base64.getEncoder().encodeToString(String.valueOf(fill).repeat(32).getBytes());
+	}
+}
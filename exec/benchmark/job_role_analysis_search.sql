@@ -0,0 +1,227 @@
+-- 직무 분석 검색 쿼리 벤치마크 (MySQL 8)
+-- JobRoleAnalysisSearchRepositoryImpl 이 보내는 쿼리(공개 글 / 내 비공개 글을 각각 인덱스 순서로 LIMIT 10 후 병합)를
+-- 1천 / 1만 / 10만 / 100만 건에서 반복 실행해 평균 지연(ms)을 비교
+-- 비교용으로 이전 형태(:x IS NULL OR ... / public OR user_id 를 한 쿼리에 넣은 catch-all)도 같이 측정
+-- 인덱스(idx_job_role_analysis_*_public_*)가 있으면 split 쿼리는 행 수가 늘어도 지연이 거의 일정해야 함
+--
+-- 사용법 (운영 DB 금지, 로컬/스테이징 스키마에서):
+--   mysql -u root -p hellojob < exec/benchmark/job_role_analysis_search.sql
+-- 전제: 기업이 100개 이상 존재 (exec/dump/company.sql). 벤치마크용 사용자 1000명은 스크립트가 만들고 지움
+
+DROP TABLE IF EXISTS bench_digits;
+CREATE TABLE bench_digits (d INT PRIMARY KEY);
+INSERT INTO bench_digits VALUES (0), (1), (2), (3), (4), (5), (6), (7), (8), (9);
+
+DROP TABLE IF EXISTS bench_result;
+CREATE TABLE bench_result (
+    row_count  INT,
+    scenario   VARCHAR(60),
+    avg_ms     DECIMAL(10, 3)
+);
+
+-- 벤치마크용 사용자 1000명 / 기업 100개 (seq → id)
+DROP TABLE IF EXISTS bench_user;
+CREATE TABLE bench_user (seq INT PRIMARY KEY, user_id INT NOT NULL);
+DROP TABLE IF EXISTS bench_company;
+CREATE TABLE bench_company (seq INT AUTO_INCREMENT PRIMARY KEY, company_id INT NOT NULL);
+
+INSERT INTO user (email, provider, provider_id, withdraw, token, created_at, updated_at)
+SELECT CONCAT('bench-', a.d + b.d * 10 + c.d * 100, '@hellojob.bench'), 'GOOGLE',
+       CONCAT('bench-', a.d + b.d * 10 + c.d * 100), FALSE, 3, NOW(6), NOW(6)
+FROM bench_digits a, bench_digits b, bench_digits c;
+
+INSERT INTO bench_user (seq, user_id)
+SELECT CAST(SUBSTRING_INDEX(SUBSTRING(email, 7), '@', 1) AS UNSIGNED), user_id
+FROM user WHERE email LIKE 'bench-%@hellojob.bench';
+
+INSERT INTO bench_company (company_id)
+SELECT company_id FROM company ORDER BY company_id LIMIT 100;
+
+-- 검색 대상: 기업 42번째, 사용자 7번째
+SELECT company_id INTO @bench_company FROM bench_company WHERE seq = 42;
+SELECT user_id INTO @bench_user FROM bench_user WHERE seq = 7;
+
+DROP PROCEDURE IF EXISTS bench_seed;
+DROP PROCEDURE IF EXISTS bench_run;
+
+DELIMITER //
+
+-- 목표 건수가 될 때까지 벤치마크용 직무 분석 행 추가 (job_role_title이 'bench-'로 시작)
+-- 기업 / 작성자 / 공개 여부 / 수정 시각은 CRC32 로 고르게 흩어 놓음 (작성자 1000명, 공개 75%, 최근 1년)
+CREATE PROCEDURE bench_seed(IN target INT)
+BEGIN
+    DECLARE current_count INT;
+    SELECT COUNT(*) INTO current_count FROM job_role_analysis WHERE job_role_title LIKE 'bench-%';
+
+    INSERT INTO job_role_analysis (user_id, company_id, job_role_name, job_role_title, job_role_view_count,
+                                   public, job_role_category, job_role_bookmark_count, created_at, updated_at)
+    SELECT bu.user_id,
+           bc.company_id,
+           ELT(1 + (seq.n % 5), '백엔드', '프론트엔드', '데이터', '인프라', '보안'),
+           CONCAT('bench-', seq.n),
+           0,
+           CRC32(CONCAT('p', seq.n)) % 4 <> 0,
+           ELT(1 + CRC32(CONCAT('k', seq.n)) % 4, '서버백엔드개발자', '프론트엔드개발자', '빅데이터엔지니어', 'DBA'),
+           0,
+           NOW(6) - INTERVAL (CRC32(CONCAT('t', seq.n)) % 31536000) SECOND,
+           NOW(6) - INTERVAL (CRC32(CONCAT('t', seq.n)) % 31536000) SECOND
+    FROM (SELECT a.d + b.d * 10 + c.d * 100 + e.d * 1000 + f.d * 10000 + g.d * 100000 AS n
+          FROM bench_digits a, bench_digits b, bench_digits c, bench_digits e, bench_digits f, bench_digits g) seq
+    JOIN bench_user bu ON bu.seq = CRC32(CONCAT('u', seq.n)) % 1000
+    JOIN bench_company bc ON bc.seq = 1 + CRC32(CONCAT('c', seq.n)) % 100
+    WHERE seq.n >= current_count AND seq.n < target;
+END //
+
+-- 같은 쿼리를 iterations 번 실행한 평균 시간 기록 ({company}, {user} 는 검색 대상 id로 치환)
+CREATE PROCEDURE bench_run(IN row_count INT, IN scenario VARCHAR(60), IN query TEXT, IN iterations INT)
+BEGIN
+    DECLARE i INT DEFAULT 0;
+    DECLARE started DATETIME(6);
+    SET @bench_sql = CONCAT('SELECT COUNT(*) INTO @bench_ignored FROM (',
+                            REPLACE(REPLACE(query, '{company}', @bench_company), '{user}', @bench_user),
+                            ') top_n');
+    PREPARE bench_stmt FROM @bench_sql;
+    SET started = NOW(6);
+    WHILE i < iterations DO
+        EXECUTE bench_stmt;
+        SET i = i + 1;
+    END WHILE;
+    DEALLOCATE PREPARE bench_stmt;
+    INSERT INTO bench_result
+    VALUES (row_count, scenario, TIMESTAMPDIFF(MICROSECOND, started, NOW(6)) / 1000 / iterations);
+END //
+
+DELIMITER ;
+
+-- 시나리오별 쿼리
+-- split: 애플리케이션이 보내는 두 쿼리 (조건이 있는 필터만 WHERE 에 들어감) + 병합
+SET @split_company = '
+    (SELECT job_role_analysis_id, updated_at FROM job_role_analysis
+     WHERE company_id = {company} AND public = TRUE
+     ORDER BY updated_at DESC, job_role_analysis_id DESC LIMIT 10)
+    UNION ALL
+    (SELECT job_role_analysis_id, updated_at FROM job_role_analysis
+     WHERE user_id = {user} AND company_id = {company} AND public = FALSE
+     ORDER BY updated_at DESC, job_role_analysis_id DESC LIMIT 10)
+    ORDER BY updated_at DESC, job_role_analysis_id DESC LIMIT 10';
+SET @split_category = '
+    (SELECT job_role_analysis_id, updated_at FROM job_role_analysis
+     WHERE company_id = {company} AND public = TRUE AND job_role_category = ''서버백엔드개발자''
+     ORDER BY updated_at DESC, job_role_analysis_id DESC LIMIT 10)
+    UNION ALL
+    (SELECT job_role_analysis_id, updated_at FROM job_role_analysis
+     WHERE user_id = {user} AND company_id = {company} AND public = FALSE AND job_role_category = ''서버백엔드개발자''
+     ORDER BY updated_at DESC, job_role_analysis_id DESC LIMIT 10)
+    ORDER BY updated_at DESC, job_role_analysis_id DESC LIMIT 10';
+SET @split_category_name = '
+    (SELECT job_role_analysis_id, updated_at FROM job_role_analysis
+     WHERE company_id = {company} AND public = TRUE AND job_role_category = ''서버백엔드개발자''
+       AND job_role_name LIKE ''백%''
+     ORDER BY updated_at DESC, job_role_analysis_id DESC LIMIT 10)
+    UNION ALL
+    (SELECT job_role_analysis_id, updated_at FROM job_role_analysis
+     WHERE user_id = {user} AND company_id = {company} AND public = FALSE AND job_role_category = ''서버백엔드개발자''
+       AND job_role_name LIKE ''백%''
+     ORDER BY updated_at DESC, job_role_analysis_id DESC LIMIT 10)
+    ORDER BY updated_at DESC, job_role_analysis_id DESC LIMIT 10';
+-- catch-all: 이전 searchByCompany 형태 (비교용)
+SET @catch_all_company = '
+    SELECT job_role_analysis_id FROM job_role_analysis
+    WHERE company_id = {company} AND (public = TRUE OR user_id = {user})
+      AND (NULL IS NULL OR job_role_category = NULL)
+      AND (NULL IS NULL OR job_role_name LIKE NULL)
+    ORDER BY updated_at DESC LIMIT 10';
+SET @catch_all_category = '
+    SELECT job_role_analysis_id FROM job_role_analysis
+    WHERE company_id = {company} AND (public = TRUE OR user_id = {user})
+      AND (''서버백엔드개발자'' IS NULL OR job_role_category = ''서버백엔드개발자'')
+      AND (NULL IS NULL OR job_role_name LIKE NULL)
+    ORDER BY updated_at DESC LIMIT 10';
+SET @catch_all_category_name = '
+    SELECT job_role_analysis_id FROM job_role_analysis
+    WHERE company_id = {company} AND (public = TRUE OR user_id = {user})
+      AND (''서버백엔드개발자'' IS NULL OR job_role_category = ''서버백엔드개발자'')
+      AND (''백%'' IS NULL OR job_role_name LIKE ''백%'')
+    ORDER BY updated_at DESC LIMIT 10';
+
+CALL bench_seed(1000);
+ANALYZE TABLE job_role_analysis;
+CALL bench_run(1000, 'split: company', @split_company, 200);
+CALL bench_run(1000, 'split: company + category', @split_category, 200);
+CALL bench_run(1000, 'split: company + category + prefix', @split_category_name, 200);
+CALL bench_run(1000, 'catch-all: company', @catch_all_company, 200);
+CALL bench_run(1000, 'catch-all: company + category', @catch_all_category, 200);
+CALL bench_run(1000, 'catch-all: company + category + prefix', @catch_all_category_name, 200);
+
+CALL bench_seed(10000);
+ANALYZE TABLE job_role_analysis;
+CALL bench_run(10000, 'split: company', @split_company, 200);
+CALL bench_run(10000, 'split: company + category', @split_category, 200);
+CALL bench_run(10000, 'split: company + category + prefix', @split_category_name, 200);
+CALL bench_run(10000, 'catch-all: company', @catch_all_company, 200);
+CALL bench_run(10000, 'catch-all: company + category', @catch_all_category, 200);
+CALL bench_run(10000, 'catch-all: company + category + prefix', @catch_all_category_name, 200);
+
+CALL bench_seed(100000);
+ANALYZE TABLE job_role_analysis;
+CALL bench_run(100000, 'split: company', @split_company, 200);
+CALL bench_run(100000, 'split: company + category', @split_category, 200);
+CALL bench_run(100000, 'split: company + category + prefix', @split_category_name, 200);
+CALL bench_run(100000, 'catch-all: company', @catch_all_company, 200);
+CALL bench_run(100000, 'catch-all: company + category', @catch_all_category, 200);
+CALL bench_run(100000, 'catch-all: company + category + prefix', @catch_all_category_name, 200);
+
+CALL bench_seed(1000000);
+ANALYZE TABLE job_role_analysis;
+CALL bench_run(1000000, 'split: company', @split_company, 200);
+CALL bench_run(1000000, 'split: company + category', @split_category, 200);
+CALL bench_run(1000000, 'split: company + category + prefix', @split_category_name, 200);
+CALL bench_run(1000000, 'catch-all: company', @catch_all_company, 200);
+CALL bench_run(1000000, 'catch-all: company + category', @catch_all_category, 200);
+CALL bench_run(1000000, 'catch-all: company + category + prefix', @catch_all_category_name, 200);
+
+-- 실행 계획 확인: split 의 두 SELECT 모두 key가 idx_job_role_analysis_*_public_* 이고 Extra에 Using filesort가 없어야 함
+SET @bench_explain = CONCAT('EXPLAIN ', REPLACE(REPLACE(@split_category, '{company}', @bench_company), '{user}', @bench_user));
+PREPARE bench_stmt FROM @bench_explain;
+EXECUTE bench_stmt;
+DEALLOCATE PREPARE bench_stmt;
+
+-- 비교: catch-all 은 공개 조건이 OR 로 묶여 있어 인덱스를 순서대로 읽다가 걸러내거나(Using where), filesort 로 빠짐
+SET @bench_explain = CONCAT('EXPLAIN ', REPLACE(REPLACE(@catch_all_category, '{company}', @bench_company), '{user}', @bench_user));
+PREPARE bench_stmt FROM @bench_explain;
+EXECUTE bench_stmt;
+DEALLOCATE PREPARE bench_stmt;
+
+SELECT * FROM bench_result ORDER BY scenario, row_count;
+
+-- 정리
+DELETE FROM job_role_analysis WHERE job_role_title LIKE 'bench-%';
+DELETE FROM user WHERE email LIKE 'bench-%@hellojob.bench';
+DROP PROCEDURE bench_seed;
+DROP PROCEDURE bench_run;
+DROP TABLE bench_digits;
+DROP TABLE bench_result;
+DROP TABLE bench_user;
+DROP TABLE bench_company;
+
+-- 측정 결과 (평균 ms, 200회 반복)
+-- 환경: MariaDB 11.4.5 (샌드박스에서 MySQL 8 을 받을 수 없어 대신 사용), buffer pool 1G, 로컬 소켓
+-- 배포 전 MySQL 8 스테이징에서 다시 실행해 이 표를 갱신할 것
+--
+--                                     1천     1만     10만    100만
+-- split (현재 쿼리 + 새 인덱스)
+--   company                          0.171   0.167   0.200   0.109
+--   company + category               0.216   0.154   0.323   0.184
+--   company + category + prefix      0.232   0.442   0.518   0.415
+-- catch-all (이전 쿼리 + 새 인덱스)
+--   company                          0.145   0.508   0.568  59.740   ← index_merge(sort_union) + filesort
+--   company + category               0.154   0.573   1.160   0.741
+--   company + category + prefix      0.159   0.632   1.109   0.892
+-- catch-all (이전 쿼리 + 이전 인덱스 company_id[, job_role_category], updated_at)
+--   company                          0.098   0.121   0.368   0.063
+--   company + category               0.072   0.161   0.574   0.412
+--   company + category + prefix      0.085   0.327   2.152   1.876
+--
+-- 이전 인덱스의 catch-all 은 이 분포(공개 75%)에서는 인덱스를 역순으로 읽다가 공개/내 글만 남기므로 빠르지만,
+-- 조회 가능한 글 비율이 낮거나 접두어가 드물수록 읽고 버리는 행이 늘어남 (prefix 시나리오 0.085 → 1.876ms)
+-- split 은 두 쿼리 모두 ref 접근으로 LIMIT 10 만 읽으므로 행 수와 무관하게 0.1~0.5ms
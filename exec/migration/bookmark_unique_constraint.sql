@@ -0,0 +1,60 @@
+-- 북마크 unique 제약 추가 전 데이터 정리 (MySQL 8)
+-- (user_id, analysis_id) 중복 행이 남아 있으면 ddl-auto=update 가 unique 제약을 만들지 못하므로 배포 전에 한 번 실행
+--   mysql -u root -p hellojob < exec/migration/bookmark_unique_constraint.sql
+
+START TRANSACTION;
+
+-- 1. 중복 북마크 제거 (가장 먼저 생성된 행만 남김)
+DELETE b FROM company_analysis_bookmark b
+JOIN company_analysis_bookmark keep
+  ON keep.user_id = b.user_id
+ AND keep.company_analysis_id = b.company_analysis_id
+ AND keep.company_analysis_bookmark_id < b.company_analysis_bookmark_id;
+
+DELETE b FROM job_role_analysis_bookmark b
+JOIN job_role_analysis_bookmark keep
+  ON keep.user_id = b.user_id
+ AND keep.job_role_analysis_id = b.job_role_analysis_id
+ AND keep.job_role_analysis_bookmark_id < b.job_role_analysis_bookmark_id;
+
+-- 2. 북마크 수를 실제 북마크 행 수로 재계산
+UPDATE company_analysis ca
+SET ca.company_analysis_bookmark_count = (
+    SELECT COUNT(*) FROM company_analysis_bookmark b WHERE b.company_analysis_id = ca.company_analysis_id
+);
+
+UPDATE job_role_analysis j
+SET j.job_role_bookmark_count = (
+    SELECT COUNT(*) FROM job_role_analysis_bookmark b WHERE b.job_role_analysis_id = j.job_role_analysis_id
+);
+
+COMMIT;
+
+-- 3. unique 제약 (ddl-auto=update 로도 생성되므로 이미 있으면 건너뜀 → 재실행해도 안전)
+DROP PROCEDURE IF EXISTS add_unique_constraint;
+
+DELIMITER //
+
+CREATE PROCEDURE add_unique_constraint(IN target_table VARCHAR(64), IN constraint_name VARCHAR(64), IN columns VARCHAR(255))
+BEGIN
+    DECLARE constraint_exists INT;
+    SELECT COUNT(*) INTO constraint_exists
+    FROM information_schema.table_constraints
+    WHERE table_schema = DATABASE()
+      AND table_name = target_table
+      AND information_schema.table_constraints.constraint_name = constraint_name;
+
+    IF constraint_exists = 0 THEN
+        SET @ddl = CONCAT('ALTER TABLE ', target_table, ' ADD CONSTRAINT ', constraint_name, ' UNIQUE (', columns, ')');
+        PREPARE stmt FROM @ddl;
+        EXECUTE stmt;
+        DEALLOCATE PREPARE stmt;
+    END IF;
+END //
+
+DELIMITER ;
+
+CALL add_unique_constraint('company_analysis_bookmark', 'uk_company_analysis_bookmark_user_analysis', 'user_id, company_analysis_id');
+CALL add_unique_constraint('job_role_analysis_bookmark', 'uk_job_role_analysis_bookmark_user_analysis', 'user_id, job_role_analysis_id');
+
+DROP PROCEDURE add_unique_constraint;
@@ -0,0 +1,24 @@
+-- 기존 chat_log JSON TEXT 대화를 chat_message 행으로 옮김 (MySQL 8, JSON_TABLE)
+-- 옮기지 않아도 ChatLogService가 기존 chat_log를 읽어서 합쳐 주므로 필수는 아님
+-- 옮긴 chat_log 행은 삭제해서 중복 조회되지 않게 함
+--   mysql -u root -p hellojob < exec/migration/chat_log_to_chat_message.sql
+
+START TRANSACTION;
+
+-- 기존 메시지는 chat_log.created_at 으로 넣음 → 이후에 추가된 chat_message 보다 항상 앞에 정렬됨
+INSERT INTO chat_message (cover_letter_content_id, sender, message, created_at, updated_at)
+SELECT cl.cover_letter_content_id, jt.sender, jt.message, cl.created_at, cl.created_at
+FROM chat_log cl,
+     JSON_TABLE(cl.chat_log_content, '$[*]' COLUMNS (
+         seq FOR ORDINALITY,
+         sender VARCHAR(10) PATH '$.sender',
+         message TEXT PATH '$.message'
+     )) jt
+WHERE JSON_VALID(cl.chat_log_content)
+  AND jt.sender IS NOT NULL
+  AND jt.message IS NOT NULL
+ORDER BY cl.cover_letter_content_id, jt.seq;
+
+DELETE FROM chat_log WHERE JSON_VALID(chat_log_content);
+
+COMMIT;
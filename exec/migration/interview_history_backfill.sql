@@ -0,0 +1,28 @@
+-- 면접 기록 읽기 모델(interview_history) 초기 적재 (MySQL 8)
+-- 테이블은 ddl-auto=update 로 생성되므로 배포 후 한 번 실행 (재실행해도 안전)
+--   mysql -u root -p hellojob < exec/migration/interview_history_backfill.sql
+
+INSERT INTO interview_history
+    (interview_video_id, user_id, interview_category, select_question, interview_title, start, first_question, feedback_end)
+SELECT iv.interview_video_id,
+       COALESCE(i.user_id, cli.user_id),
+       iv.interview_category,
+       iv.select_question,
+       iv.interview_title,
+       iv.start,
+       (SELECT ia.interview_question
+        FROM interview_answer ia
+        WHERE ia.interview_video_id = iv.interview_video_id
+        ORDER BY ia.interview_answer_id
+        LIMIT 1),
+       iv.feedback
+FROM interview_video iv
+LEFT JOIN interview i ON i.interview_id = iv.interview_id
+LEFT JOIN cover_letter_interview cli ON cli.cover_letter_interview_id = iv.cover_letter_interview_id
+WHERE iv.interview_title IS NOT NULL
+  AND iv.start IS NOT NULL
+  AND COALESCE(i.user_id, cli.user_id) IS NOT NULL
+ON DUPLICATE KEY UPDATE
+    interview_title = VALUES(interview_title),
+    first_question  = VALUES(first_question),
+    feedback_end    = VALUES(feedback_end);
@@ -37,6 +37,7 @@ export default function useSSE(isLoggedIn: boolean) {
       eventSource.addEventListener(
         "company-analysis-completed",
         async (e: MessageEvent) => {
+          lastPing = Date.now(); // 실제 이벤트 수신도 연결 유지로 간주
           const data = JSON.parse(e.data);
           const { companyId, companyAnalysisId } = data;
           queryClient.invalidateQueries({
@@ -52,7 +53,7 @@ export default function useSSE(isLoggedIn: boolean) {
                 ),
             },
           });
-          await sseAckHandler("company-analysis-completed", data);
+          await sseAckHandler("company-analysis-completed", data, e.lastEventId);
         }
       );
 
@@ -60,6 +61,7 @@ export default function useSSE(isLoggedIn: boolean) {
       eventSource.addEventListener(
         "company-analysis-failed",
         async (e: MessageEvent) => {
+          lastPing = Date.now(); // 실제 이벤트 수신도 연결 유지로 간주
           const data = JSON.parse(e.data);
           const { companyId } = data;
           toast("기업 분석이 실패했습니다!", {
@@ -69,7 +71,7 @@ export default function useSSE(isLoggedIn: boolean) {
               onClick: () => navigate(`/corporate-research/${companyId}`),
             },
           });
-          await sseAckHandler("company-analysis-failed", data);
+          await sseAckHandler("company-analysis-failed", data, e.lastEventId);
         }
       );
 
@@ -77,6 +79,7 @@ export default function useSSE(isLoggedIn: boolean) {
       eventSource.addEventListener(
         "interview-feedback-completed",
         async (e: MessageEvent) => {
+          lastPing = Date.now(); // 실제 이벤트 수신도 연결 유지로 간주
           const data = JSON.parse(e.data);
           queryClient.invalidateQueries({ queryKey: ["interviewResultList"] });
 
@@ -87,7 +90,7 @@ export default function useSSE(isLoggedIn: boolean) {
               onClick: () => navigate(`/mypage/interviews-videos`),
             },
           });
-          await sseAckHandler("interview-feedback-completed", data);
+          await sseAckHandler("interview-feedback-completed", data, e.lastEventId);
         }
       );
 
@@ -95,6 +98,7 @@ export default function useSSE(isLoggedIn: boolean) {
       eventSource.addEventListener(
         "interview-feedback-failed",
         async (e: MessageEvent) => {
+          lastPing = Date.now(); // 실제 이벤트 수신도 연결 유지로 간주
           const data = JSON.parse(e.data);
           queryClient.invalidateQueries({ queryKey: ["interviewResultList"] });
 
@@ -105,7 +109,30 @@ export default function useSSE(isLoggedIn: boolean) {
               onClick: () => navigate(`/mypage/interviews-videos`),
             },
           });
-          await sseAckHandler("interview-feedback-failed", data);
+          await sseAckHandler("interview-feedback-failed", data, e.lastEventId);
+        }
+      );
+
+      // 면접 영상 처리 완료 이벤트 수신 (문항 단위라 알림 없이 ACK만)
+      eventSource.addEventListener(
+        "interview-video-processed",
+        async (e: MessageEvent) => {
+          lastPing = Date.now(); // 실제 이벤트 수신도 연결 유지로 간주
+          const data = JSON.parse(e.data);
+          await sseAckHandler("interview-video-processed", data, e.lastEventId);
+        }
+      );
+
+      // 면접 영상 처리 실패 이벤트 수신
+      eventSource.addEventListener(
+        "interview-video-failed",
+        async (e: MessageEvent) => {
+          lastPing = Date.now(); // 실제 이벤트 수신도 연결 유지로 간주
+          const data = JSON.parse(e.data);
+          toast("면접 영상 저장에 실패했습니다!", {
+            description: "일부 답변 영상이 결과에 포함되지 않을 수 있습니다",
+          });
+          await sseAckHandler("interview-video-failed", data, e.lastEventId);
         }
       );
 
@@ -1,10 +1,15 @@
 import { authApi } from "@/api/instance";
 
-export const sseAckHandler = async (eventName: string, data: any) => {
+export const sseAckHandler = async (
+  eventName: string,
+  data: any,
+  eventId?: string
+) => {
   try {
     await authApi.post(
       "/sse/ack",
       JSON.stringify({
+        eventId: eventId ? Number(eventId) : undefined,
         eventName,
         data: data,
       })